@@ -0,0 +1,24 @@
+package org.springframework.data.gremlin.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the relations to load eagerly with the entities returned by a query method.
+ * <p>
+ * Each path names a chain of related fields from the returned entity, separated by dots, e.g. {@code "address.area"}. The
+ * elements along all the paths are read in a single traversal once the query has run, and the entities along the paths are
+ * initialized together, rather than one at a time when their getters are first called. All other relations stay lazy.
+ * </p>
+ *
+ * @see org.springframework.data.gremlin.repository.GremlinFetchPlan
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FetchPlan {
+
+    /**
+     * The paths of the related fields to load eagerly.
+     */
+    String[] value();
+}
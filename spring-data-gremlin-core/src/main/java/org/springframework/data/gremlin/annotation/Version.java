@@ -0,0 +1,17 @@
+package org.springframework.data.gremlin.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the version property of an entity, used for optimistic locking.
+ * <p>
+ * The field must be a Long, long, Integer or int. Saving an existing entity checks that the version of its element is still the
+ * version of the entity and increments both, failing with a
+ * {@link org.springframework.data.gremlin.repository.GremlinOptimisticLockingException} if the element has been saved since the
+ * entity was loaded.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Version { }
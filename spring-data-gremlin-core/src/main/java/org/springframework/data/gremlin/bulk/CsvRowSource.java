@@ -0,0 +1,141 @@
+package org.springframework.data.gremlin.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link RowSource} reading a CSV file as described by RFC 4180: fields may be quoted, quotes within quoted fields are doubled
+ * and quoted fields may span lines. The first record holds the column names; empty fields are left out of the rows.
+ */
+class CsvRowSource implements RowSource {
+
+    private final Path file;
+
+    private final Charset charset;
+
+    private final char delimiter;
+
+    CsvRowSource(Path file, Charset charset, char delimiter) {
+        this.file = file;
+        this.charset = charset;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public Stream<Map<String, Object>> rows() throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, charset);
+        try {
+            List<String> header = readRecord(reader);
+            if (header == null) {
+                reader.close();
+                return Stream.empty();
+            }
+            Iterator<Map<String, Object>> iterator = new Iterator<Map<String, Object>>() {
+
+                private List<String> next = read();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Map<String, Object> row = new HashMap<>();
+                    for (int i = 0; i < header.size() && i < next.size(); i++) {
+                        if (!next.get(i).isEmpty()) {
+                            row.put(header.get(i), next.get(i));
+                        }
+                    }
+                    next = read();
+                    return row;
+                }
+
+                private List<String> read() {
+                    try {
+                        return readRecord(reader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> close(reader));
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the fields of the next record, or null at the end of the file
+     */
+    private List<String> readRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            c = reader.read();
+        }
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException(String.format("Unterminated quoted field in %s.", file));
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package org.springframework.data.gremlin.bulk;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.property.GremlinCollectionProperty;
+import org.springframework.data.gremlin.schema.property.GremlinLinkProperty;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Imports rows of a {@link RowSource} as vertices of a mapped entity class, with several worker threads.
+ * <p>
+ * Each row is mapped to an entity through the properties of its {@link GremlinSchema}, a column naming a field, and the plain
+ * properties of the entity are written to a new vertex. The key column of the row is mapped to the id of the vertex in a
+ * {@link GremlinIdMap}, shared by all the imports of the importer, along with the label of the vertex, so that rows of different
+ * classes may share keys. Columns naming a {@link GremlinLinkProperty} or a {@link GremlinCollectionProperty} hold the keys of
+ * the related rows, several keys being given as a JSON array or separated by {@code ;}. They are resolved among the rows of the
+ * related class and its sub classes in a second pass over the rows, once all the vertices exist, and may refer to rows of earlier
+ * imports. A row with a key which cannot be resolved fails without adding any of its edges.
+ * </p>
+ * <p>
+ * The rows are read on the calling thread and written in batches by the workers, each batch in a transaction of its own, bound to
+ * the thread of its worker. Graphs without transactions, such as TinkerGraph, are written by one worker at a time, the other
+ * workers mapping their rows in the meantime.
+ * </p>
+ */
+public class GremlinBulkImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinBulkImporter.class);
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private static final int BATCH_SIZE = Integer.getInteger("sdg-import-batch-size", 1000);
+
+    private static final String KEY_SEPARATOR = ";";
+
+    private final GremlinGraphFactory graphFactory;
+
+    private final GremlinGraphAdapter graphAdapter;
+
+    private final GremlinSchemaFactory schemaFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final GremlinIdMap idMap;
+
+    private final Lock writeLock = new ReentrantLock();
+
+    private volatile boolean serializeWrites;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private int batchSize = BATCH_SIZE;
+
+    public GremlinBulkImporter(GremlinGraphFactory graphFactory, GremlinGraphAdapter graphAdapter, GremlinSchemaFactory schemaFactory,
+                               PlatformTransactionManager transactionManager) {
+        this(graphFactory, graphAdapter, schemaFactory, transactionManager, new GremlinIdMap());
+    }
+
+    public GremlinBulkImporter(GremlinGraphFactory graphFactory, GremlinGraphAdapter graphAdapter, GremlinSchemaFactory schemaFactory,
+                               PlatformTransactionManager transactionManager, GremlinIdMap idMap) {
+        this.graphFactory = graphFactory;
+        this.graphAdapter = graphAdapter;
+        this.schemaFactory = schemaFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idMap = idMap;
+    }
+
+    /**
+     * Imports the rows of the given source as vertices of the given entity class, then their relationships.
+     *
+     * @param type      the entity class, mapped to a vertex
+     * @param rows      the rows
+     * @param keyColumn the column holding the key of each row, by which other rows refer to it
+     * @return the numbers of rows, vertices and edges imported and the failures
+     * @throws IOException if the rows could not be read
+     */
+    public ImportResult importEntities(Class<?> type, RowSource rows, String keyColumn) throws IOException {
+        GremlinSchema<?> schema = schemaFactory.getSchema(type);
+        if (schema == null || !schema.isVertexSchema()) {
+            throw new IllegalArgumentException(String.format("%s is not mapped to a vertex.", type));
+        }
+
+        serializeWrites = !graphFactory.graph().features().graph().supportsTransactions();
+        ImportResult result = new ImportResult();
+        run(rows, batch -> importVertices(schema, batch, keyColumn, result));
+        if (hasRelationships(schema, rows)) {
+            run(rows, batch -> importRelationships(schema, batch, keyColumn, result));
+        }
+        result.finish();
+        LOGGER.info("Imported {}: {}", schema.getClassName(), result);
+        return result;
+    }
+
+    /**
+     * @return the map of the row keys to the vertex ids of all the imports
+     */
+    public GremlinIdMap getIdMap() {
+        return idMap;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("The number of threads must be at least 1, but was %d.", threads));
+        }
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("The batch size must be at least 1, but was %d.", batchSize));
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads the rows in batches and hands them to the workers, reading ahead by at most one batch per worker.
+     */
+    private void run(RowSource rows, BatchTask task) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+        Semaphore pending = new Semaphore(threads * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        try (Stream<Map<String, Object>> stream = rows.rows()) {
+            List<Row> batch = new ArrayList<>(batchSize);
+            long index = 0;
+            for (Iterator<Map<String, Object>> iterator = stream.iterator(); iterator.hasNext(); ) {
+                batch.add(new Row(index++, iterator.next()));
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    List<Row> submitted = batch;
+                    pending.acquireUninterruptibly();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            task.run(submitted);
+                        } finally {
+                            pending.release();
+                        }
+                    }));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(String.format("Could not import a batch: %s", e.getCause().getMessage()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void importVertices(GremlinSchema<?> schema, List<Row> batch, String keyColumn, ImportResult result) {
+        result.rows(batch.size());
+
+        // Mapping the rows needs no graph, so it is done before taking the write lock
+        Map<Row, Object> entities = new LinkedHashMap<>();
+        for (Row row : batch) {
+            try {
+                entities.put(row, toEntity(schema, row.values));
+            } catch (RuntimeException e) {
+                result.failed(row.index, e);
+            }
+        }
+
+        Map<String, Object> ids = new HashMap<>();
+        String label = schema.getClassName();
+        boolean committed = write(() -> {
+            Graph graph = graphFactory.graph();
+            for (Map.Entry<Row, Object> entity : entities.entrySet()) {
+                Vertex vertex = graphAdapter.createVertex(graph, label);
+                schema.cascadeCopyToGraph(graphAdapter, vertex, entity.getValue(), new HashMap<>(), GremlinSchema.PLAIN_PROPERTIES);
+                Object key = entity.getKey().values.get(keyColumn);
+                if (key != null) {
+                    ids.put(key.toString(), vertex.id());
+                }
+            }
+        }, entities.keySet(), result);
+
+        if (committed) {
+            // The ids are only known to other rows once their vertices have been committed
+            result.vertices(entities.size());
+            ids.forEach((key, id) -> idMap.put(label, key, id));
+        }
+    }
+
+    private void importRelationships(GremlinSchema<?> schema, List<Row> batch, String keyColumn, ImportResult result) {
+        LongAdder edges = new LongAdder();
+        boolean committed = write(() -> {
+            Graph graph = graphFactory.graph();
+            for (Row row : batch) {
+                Object key = row.values.get(keyColumn);
+                String id = key == null ? null : idMap.get(schema.getClassName(), key.toString());
+                if (id == null) {
+                    continue;
+                }
+                // All the related rows are resolved before any edge is added, so that a failed row is not partially linked
+                List<Edge> rowEdges = new ArrayList<>();
+                try {
+                    Vertex vertex = null;
+                    List<GremlinRelatedProperty> properties = new ArrayList<>();
+                    List<Vertex> relatedVertices = new ArrayList<>();
+                    for (Map.Entry<String, Object> column : row.values.entrySet()) {
+                        GremlinProperty property = findProperty(schema, column.getKey());
+                        if (!(property instanceof GremlinLinkProperty || property instanceof GremlinCollectionProperty)) {
+                            continue;
+                        }
+                        if (vertex == null) {
+                            vertex = graphAdapter.getVertex(id);
+                        }
+                        for (String relatedKey : keys(column.getValue())) {
+                            String relatedId = relatedId(((GremlinRelatedProperty<?>) property).getRelatedSchema(), relatedKey);
+                            if (relatedId == null) {
+                                throw new IllegalStateException(String.format("Could not link %s %s to %s, as it has not been imported.", schema.getClassName(), key,
+                                        relatedKey));
+                            }
+                            properties.add((GremlinRelatedProperty) property);
+                            relatedVertices.add(graphAdapter.getVertex(relatedId));
+                        }
+                    }
+                    for (int i = 0; i < properties.size(); i++) {
+                        GremlinRelatedProperty property = properties.get(i);
+                        Vertex related = relatedVertices.get(i);
+                        if (property.getDirection() == Direction.OUT) {
+                            rowEdges.add(graphAdapter.addEdge(null, vertex, related, property.getName()));
+                        } else {
+                            rowEdges.add(graphAdapter.addEdge(null, related, vertex, property.getName()));
+                        }
+                    }
+                    edges.add(rowEdges.size());
+                } catch (RuntimeException e) {
+                    rowEdges.forEach(graphAdapter::removeEdge);
+                    result.failed(row.index, e);
+                }
+            }
+        }, batch, result);
+
+        if (committed) {
+            result.edges(edges.sum());
+        }
+    }
+
+    /**
+     * Runs the given writes in a transaction, holding the write lock if the graph has no transactions. If the transaction fails,
+     * all the rows of the batch are reported as failed.
+     *
+     * @return true if the writes have been committed
+     */
+    private boolean write(Runnable writes, Collection<Row> batch, ImportResult result) {
+        boolean serialized = serializeWrites;
+        if (serialized) {
+            writeLock.lock();
+        }
+        try {
+            transactionTemplate.execute(status -> {
+                writes.run();
+                return null;
+            });
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not import a batch of {} rows: {}", batch.size(), e.getMessage());
+            for (Row row : batch) {
+                result.failed(row.index, e);
+            }
+            return false;
+        } finally {
+            if (serialized) {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return the id of the vertex of the row with the given key, imported as the given schema or one of its sub schemas, or null
+     * if it has not been imported
+     */
+    private String relatedId(GremlinSchema<?> schema, String key) {
+        for (String label : schema.getClassNames()) {
+            String id = idMap.get(label, key);
+            if (id != null) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private Object toEntity(GremlinSchema<?> schema, Map<String, Object> values) {
+        Object entity = BeanUtils.instantiateClass(schema.getClassType());
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            GremlinProperty property = findProperty(schema, value.getKey());
+            if (property == null || property instanceof GremlinRelatedProperty) {
+                continue;
+            }
+            property.getAccessor().set(entity, CONVERSION_SERVICE.convert(value.getValue(), property.getType()));
+        }
+        return entity;
+    }
+
+    /**
+     * @return true if the first row of the given source has a relationship column
+     */
+    private boolean hasRelationships(GremlinSchema<?> schema, RowSource rows) throws IOException {
+        try (Stream<Map<String, Object>> stream = rows.rows()) {
+            return stream.limit(1).flatMap(row -> row.keySet().stream())
+                    .map(column -> findProperty(schema, column))
+                    .anyMatch(property -> property instanceof GremlinLinkProperty || property instanceof GremlinCollectionProperty);
+        }
+    }
+
+    /**
+     * @return the property of the given field of the schema or its super schemas, or null if there is none
+     */
+    private static GremlinProperty findProperty(GremlinSchema<?> schema, String field) {
+        for (GremlinSchema<?> current = schema; current != null; current = current.getSuperSchema()) {
+            GremlinProperty property = current.getPropertyForFieldname(field);
+            if (property != null) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static Collection<String> keys(Object value) {
+        if (value instanceof Collection) {
+            List<String> keys = new ArrayList<>();
+            for (Object key : (Collection<?>) value) {
+                keys.add(key.toString());
+            }
+            return keys;
+        }
+        if (value == null || value.toString().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(value.toString().split(KEY_SEPARATOR));
+    }
+
+    private interface BatchTask {
+
+        void run(List<Row> batch);
+    }
+
+    private static final class Row {
+
+        private final long index;
+
+        private final Map<String, Object> values;
+
+        private Row(long index, Map<String, Object> values) {
+            this.index = index;
+            this.values = values;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+        private final int pool = POOL_COUNT.incrementAndGet();
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "sdg-import-" + pool + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.springframework.data.gremlin.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Maps the keys of imported rows to the ids of the elements created for them, so that relationships can refer to rows by key.
+ * The keys of the rows of different labels are kept apart.
+ * <p>
+ * Up to {@code sdg-import-id-map-size} keys are held in memory. Beyond that the keys are spilled to files in a temporary
+ * directory, partitioned by hash. The partitions read back for lookups are cached, the least recently used ones being dropped
+ * once they hold more keys than are held in memory. Each partition is read under a lock of its own, so that lookups in other
+ * partitions do not wait for its file. The files are deleted on {@link #close()}.
+ * </p>
+ */
+public class GremlinIdMap implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinIdMap.class);
+
+    private static final int MAX_IN_MEMORY = Integer.getInteger("sdg-import-id-map-size", 1000000);
+
+    private static final int PARTITIONS = 256;
+
+    private final int maxInMemory;
+
+    private final ConcurrentMap<String, String> memory = new ConcurrentHashMap<>();
+
+    /** The partitions read back from disk, least recently used first, guarded by themselves. */
+    private final Map<Integer, Map<String, String>> partitions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The number of keys of the cached partitions, guarded by {@link #partitions}. */
+    private long cachedKeys;
+
+    /** Guard the file of each partition along with its cached keys. */
+    private final Object[] partitionLocks = new Object[PARTITIONS];
+
+    private volatile Path directory;
+
+    public GremlinIdMap() {
+        this(MAX_IN_MEMORY);
+    }
+
+    /**
+     * Instantiates a new GremlinIdMap.
+     *
+     * @param maxInMemory the number of keys held in memory before spilling them to disk
+     */
+    public GremlinIdMap(int maxInMemory) {
+        if (maxInMemory < 1) {
+            throw new IllegalArgumentException(String.format("The number of keys in memory must be at least 1, but was %d.", maxInMemory));
+        }
+        this.maxInMemory = maxInMemory;
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitionLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Maps the given key to the given element id.
+     *
+     * @param key the key of the row
+     * @param id  the id of the element
+     */
+    public void put(String key, Object id) {
+        memory.put(key, id.toString());
+        if (memory.size() > maxInMemory) {
+            spill();
+        }
+    }
+
+    /**
+     * Maps the given key of a row of the given label to the given element id.
+     *
+     * @param label the label of the element
+     * @param key   the key of the row
+     * @param id    the id of the element
+     */
+    public void put(String label, String key, Object id) {
+        put(scoped(label, key), id);
+    }
+
+    /**
+     * @return the element id of the given key of a row of the given label, or null if it has not been imported
+     */
+    public String get(String label, String key) {
+        return get(scoped(label, key));
+    }
+
+    /**
+     * @return the element id of the given key, or null if it has not been imported
+     */
+    public String get(String key) {
+        String id = memory.get(key);
+        if (id == null && directory != null) {
+            int partition = partitionOf(key);
+            synchronized (partitionLocks[partition]) {
+                id = memory.get(key);
+                if (id == null && directory != null) {
+                    id = partition(partition).get(key);
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @return true if keys have been spilled to disk
+     */
+    public boolean isSpilled() {
+        return directory != null;
+    }
+
+    private synchronized void spill() {
+        if (memory.size() <= maxInMemory) {
+            return;
+        }
+        try {
+            if (directory == null) {
+                directory = Files.createTempDirectory("sdg-id-map");
+            }
+            Map<Integer, List<Map.Entry<String, String>>> spilled = new HashMap<>();
+            for (Map.Entry<String, String> entry : memory.entrySet()) {
+                spilled.computeIfAbsent(partitionOf(entry.getKey()), key -> new ArrayList<>()).add(entry);
+            }
+            for (Map.Entry<Integer, List<Map.Entry<String, String>>> partition : spilled.entrySet()) {
+                synchronized (partitionLocks[partition.getKey()]) {
+                    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file(partition.getKey()),
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                        for (Map.Entry<String, String> entry : partition.getValue()) {
+                            out.writeUTF(entry.getKey());
+                            out.writeUTF(entry.getValue());
+                        }
+                    }
+                    // A cached copy of the partition is kept up to date rather than read again
+                    Map<String, String> cached;
+                    synchronized (partitions) {
+                        cached = partitions.get(partition.getKey());
+                    }
+                    if (cached != null) {
+                        Map<String, String> ids = new HashMap<>(cached);
+                        partition.getValue().forEach(entry -> ids.put(entry.getKey(), entry.getValue()));
+                        cache(partition.getKey(), ids);
+                    }
+                }
+            }
+            // Only drop the entries which have been written, in case a key has been remapped meanwhile
+            for (List<Map.Entry<String, String>> entries : spilled.values()) {
+                for (Map.Entry<String, String> entry : entries) {
+                    memory.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            LOGGER.debug("spilled the id map to {}", directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill the id map to disk", e);
+        }
+    }
+
+    /**
+     * @return the keys of the given partition, read from its file unless they are cached; the lock of the partition must be held
+     */
+    private Map<String, String> partition(int partition) {
+        Map<String, String> ids;
+        synchronized (partitions) {
+            ids = partitions.get(partition);
+        }
+        if (ids == null) {
+            ids = new HashMap<>();
+            Path file = file(partition);
+            if (Files.exists(file)) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    while (true) {
+                        String key;
+                        try {
+                            key = in.readUTF();
+                        } catch (EOFException e) {
+                            break;
+                        }
+                        ids.put(key, in.readUTF());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read the id map from disk", e);
+                }
+            }
+            cache(partition, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Caches the keys of the given partition, dropping the least recently used partitions once more keys are cached than are held
+     * in memory.
+     */
+    private void cache(int partition, Map<String, String> ids) {
+        synchronized (partitions) {
+            Map<String, String> previous = partitions.put(partition, ids);
+            cachedKeys += ids.size() - (previous == null ? 0 : previous.size());
+            for (Iterator<Map.Entry<Integer, Map<String, String>>> iterator = partitions.entrySet().iterator();
+                 cachedKeys > maxInMemory && iterator.hasNext(); ) {
+                Map.Entry<Integer, Map<String, String>> eldest = iterator.next();
+                if (eldest.getKey() != partition) {
+                    cachedKeys -= eldest.getValue().size();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private Path file(int partition) {
+        return directory.resolve("ids-" + partition);
+    }
+
+    private static String scoped(String label, String key) {
+        return label + '\0' + key;
+    }
+
+    private static int partitionOf(String key) {
+        return Math.floorMod(key.hashCode(), PARTITIONS);
+    }
+
+    /**
+     * Deletes the files the keys have been spilled to.
+     */
+    @Override
+    public synchronized void close() {
+        memory.clear();
+        synchronized (partitions) {
+            partitions.clear();
+            cachedKeys = 0;
+        }
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete the id map in {}: {}", directory, e.getMessage());
+            }
+            directory = null;
+        }
+    }
+}
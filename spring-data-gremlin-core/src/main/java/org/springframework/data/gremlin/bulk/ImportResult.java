@@ -0,0 +1,127 @@
+package org.springframework.data.gremlin.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The outcome of a {@link GremlinBulkImporter} run: the numbers of rows read and of elements created, the rows which could not be
+ * imported and the throughput.
+ */
+public class ImportResult {
+
+    private static final int MAX_REPORTED_FAILURES = Integer.getInteger("sdg-import-max-failures", 1000);
+
+    private final long started = System.nanoTime();
+
+    private volatile long elapsed = -1;
+
+    private final LongAdder rowCount = new LongAdder();
+
+    private final LongAdder vertexCount = new LongAdder();
+
+    private final LongAdder edgeCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final List<Failure> failures = new ArrayList<>();
+
+    void rows(long count) {
+        rowCount.add(count);
+    }
+
+    void vertices(long count) {
+        vertexCount.add(count);
+    }
+
+    void edges(long count) {
+        edgeCount.add(count);
+    }
+
+    void failed(long row, RuntimeException cause) {
+        failureCount.increment();
+        synchronized (failures) {
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new Failure(row, cause));
+            }
+        }
+    }
+
+    void finish() {
+        elapsed = System.nanoTime() - started;
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    public long getVertexCount() {
+        return vertexCount.sum();
+    }
+
+    public long getEdgeCount() {
+        return edgeCount.sum();
+    }
+
+    /**
+     * @return the number of failures, which may exceed the number of failures reported
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * @return the first {@code sdg-import-max-failures} failures
+     */
+    public List<Failure> getFailures() {
+        synchronized (failures) {
+            List<Failure> sorted = new ArrayList<>(failures);
+            sorted.sort((first, second) -> Long.compare(first.row, second.row));
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+
+    public long getElapsedMillis() {
+        return (elapsed < 0 ? System.nanoTime() - started : elapsed) / 1000000;
+    }
+
+    /**
+     * @return the number of vertices and edges created per second
+     */
+    public double getThroughput() {
+        return (getVertexCount() + getEdgeCount()) * 1000d / Math.max(getElapsedMillis(), 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportResult{rows=%d, vertices=%d, edges=%d, failed=%d, elapsed=%dms, throughput=%.1f/s}", getRowCount(),
+                getVertexCount(), getEdgeCount(), getFailureCount(), getElapsedMillis(), getThroughput());
+    }
+
+    /**
+     * A row, or relationship of a row, which could not be imported.
+     */
+    public static class Failure {
+
+        private final long row;
+
+        private final RuntimeException cause;
+
+        Failure(long row, RuntimeException cause) {
+            this.row = row;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the index of the row in its source, starting at 0
+         */
+        public long getRow() {
+            return row;
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+    }
+}
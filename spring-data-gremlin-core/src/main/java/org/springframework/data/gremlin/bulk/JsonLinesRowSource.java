@@ -0,0 +1,57 @@
+package org.springframework.data.gremlin.bulk;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A {@link RowSource} reading a JSON Lines file, each non-blank line holding a JSON object. Values keep their JSON types, arrays
+ * being read as lists.
+ */
+class JsonLinesRowSource implements RowSource {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private final Path file;
+
+    private final Charset charset;
+
+    JsonLinesRowSource(Path file, Charset charset) {
+        this.file = file;
+        this.charset = charset;
+    }
+
+    @Override
+    public Stream<Map<String, Object>> rows() throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, charset);
+        return reader.lines()
+                .filter(line -> !line.trim().isEmpty())
+                .map(this::parse)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private Map<String, Object> parse(String line) {
+        try {
+            return MAPPER.readValue(line, ROW_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not parse a line of %s: %s", file, e.getMessage()), e);
+        }
+    }
+}
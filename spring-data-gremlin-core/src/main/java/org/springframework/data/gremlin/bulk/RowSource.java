@@ -0,0 +1,44 @@
+package org.springframework.data.gremlin.bulk;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A source of rows for the {@link GremlinBulkImporter}, each row mapping column names to values. A source can be read more than
+ * once, as relationships are imported in a second pass over the rows.
+ */
+public interface RowSource {
+
+    /**
+     * Opens a new pass over the rows, which are read as the Stream is consumed. The Stream must be closed.
+     *
+     * @return the rows
+     * @throws IOException if the rows could not be read
+     */
+    Stream<Map<String, Object>> rows() throws IOException;
+
+    /**
+     * @return a source of the records of the given UTF-8 CSV file, whose first record holds the column names
+     */
+    static RowSource csv(Path file) {
+        return new CsvRowSource(file, StandardCharsets.UTF_8, ',');
+    }
+
+    /**
+     * @return a source of the records of the given CSV file, whose first record holds the column names
+     */
+    static RowSource csv(Path file, Charset charset, char delimiter) {
+        return new CsvRowSource(file, charset, delimiter);
+    }
+
+    /**
+     * @return a source of the JSON objects of the given UTF-8 JSON Lines file, one per line
+     */
+    static RowSource jsonLines(Path file) {
+        return new JsonLinesRowSource(file, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,77 @@
+package org.springframework.data.gremlin.config;
+
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gremlin.support.ReactiveGremlinRepositoryFactoryBean;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to enable reactive Gremlin repositories, extending {@link org.springframework.data.gremlin.repository.ReactiveGremlinRepository}.
+ * Will scan the package of the annotated configuration class for Spring Data repositories by default. Requires a
+ * {@link org.springframework.data.gremlin.tx.ReactiveGremlinTransactions} bean besides the
+ * {@link org.springframework.data.gremlin.repository.GremlinRepositoryContext}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveGremlinRepositoryRegistrar.class)
+public @interface EnableReactiveGremlinRepositories {
+
+    /**
+     * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+     * {@code @EnableReactiveGremlinRepositories("org.my.pkg")} instead of {@code @EnableReactiveGremlinRepositories(basePackages="org.my.pkg")}.
+     */
+    String[] value() default {};
+
+    /**
+     * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with) this
+     * attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+     */
+    String[] basePackages() default {};
+
+    /**
+     * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components. The
+     * package of each class specified will be scanned. Consider creating a special no-op marker class or interface in
+     * each package that serves no purpose other than being referenced by this attribute.
+     */
+    Class<?>[] basePackageClasses() default {};
+
+    /**
+     * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+     * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or filters.
+     */
+    Filter[] includeFilters() default {};
+
+    /**
+     * Specifies which types are not eligible for component scanning.
+     */
+    Filter[] excludeFilters() default {};
+
+    /**
+     * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+     * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+     * for {@code PersonRepositoryImpl}.
+     */
+    String repositoryImplementationPostfix() default "Impl";
+
+    String namedQueriesLocation() default "";
+
+    /**
+     * Returns the key of the {@link org.springframework.data.repository.query.QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+     * {@link Key#CREATE_IF_NOT_FOUND}.
+     *
+     * @return
+     */
+    Key queryLookupStrategy() default Key.CREATE_IF_NOT_FOUND;
+
+    /**
+     * Returns the {@link org.springframework.beans.factory.FactoryBean} class to be used for each repository instance. Defaults to
+     * {@link ReactiveGremlinRepositoryFactoryBean}.
+     *
+     * @return
+     */
+    Class<?> repositoryFactoryBeanClass() default ReactiveGremlinRepositoryFactoryBean.class;
+}
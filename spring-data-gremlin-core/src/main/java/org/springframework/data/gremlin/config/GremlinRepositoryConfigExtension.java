@@ -2,6 +2,7 @@ package org.springframework.data.gremlin.config;
 
 import org.springframework.data.gremlin.support.GremlinRepositoryFactoryBean;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 /**
  * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} for Gremlin.
@@ -26,5 +27,13 @@ public class GremlinRepositoryConfigExtension extends RepositoryConfigurationExt
         return "gremlin";
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return !metadata.isReactiveRepository();
+    }
+
 
 }
@@ -0,0 +1,35 @@
+package org.springframework.data.gremlin.config;
+
+import org.springframework.data.gremlin.support.ReactiveGremlinRepositoryFactoryBean;
+import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} for reactive Gremlin repositories.
+ */
+public class ReactiveGremlinRepositoryConfigExtension extends RepositoryConfigurationExtensionSupport {
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtension#getRepositoryFactoryClassName()
+     */
+    @Override
+    public String getRepositoryFactoryBeanClassName() {
+        return ReactiveGremlinRepositoryFactoryBean.class.getName();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getModulePrefix()
+     */
+    @Override
+    protected String getModulePrefix() {
+        return "gremlin-reactive";
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+}
@@ -0,0 +1,22 @@
+package org.springframework.data.gremlin.config;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar} to enable {@link EnableReactiveGremlinRepositories} annotation.
+ */
+public class ReactiveGremlinRepositoryRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveGremlinRepositories.class;
+    }
+
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveGremlinRepositoryConfigExtension();
+    }
+}
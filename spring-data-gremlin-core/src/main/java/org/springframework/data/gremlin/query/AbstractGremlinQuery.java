@@ -1,12 +1,15 @@
 package org.springframework.data.gremlin.query;
 
 import org.springframework.data.gremlin.query.execution.*;
+import org.springframework.data.gremlin.repository.GremlinFetchPlan;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.RepositoryQuery;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * The base class to implement {@link RepositoryQuery}s for Gremlin.
@@ -20,6 +23,8 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     protected final GremlinSchemaFactory schemaFactory;
     protected final GremlinGraphAdapter graphAdapter;
 
+    private volatile Optional<GremlinProjection> projection;
+
     /**
      * Instantiates a new {@link AbstractGremlinQuery}.
      *
@@ -40,12 +45,42 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
         return method;
     }
 
+    /**
+     * Gets the DTO or closed interface projection the query method returns.
+     *
+     * @return the projection, or null if the method does not return one
+     */
+    public GremlinProjection getProjection() {
+        if (projection == null) {
+            projection = Optional.ofNullable(GremlinProjection.of(method, schemaFactory));
+        }
+        return projection.orElse(null);
+    }
+
+    /**
+     * Gets the key under which the count of this query for the given values can be kept in a
+     * {@link org.springframework.data.gremlin.repository.GremlinCountCache}.
+     *
+     * @param values the parameter values
+     * @return the key, or null if the count of this query is not to be cached
+     */
+    public List<?> getCountKey(Object[] values) {
+        return null;
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
      */
     @Override
     public Object execute(Object[] parameters) {
-        return doExecute(getExecution(), parameters);
+        // The query has to see the saves pending in the unit of work of the transaction
+        graphAdapter.flush();
+        Object result = doExecute(getExecution(), parameters);
+        GremlinFetchPlan fetchPlan = method.getFetchPlan();
+        if (fetchPlan != null && !method.isStreamQuery() && !method.isIteratorQuery() && !method.isReactiveStreamQuery()) {
+            fetchPlan.fetch(result);
+        }
+        return result;
     }
 
     /**
@@ -102,11 +137,15 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     protected AbstractGremlinExecution getExecution() {
         final DefaultParameters parameters = (DefaultParameters) method.getParameters();
 
-        if (method.isCollectionQuery()) {
+        if (method.isStreamQuery() || method.isIteratorQuery() || method.isReactiveStreamQuery()) {
+            return new StreamExecution(schemaFactory, parameters, graphAdapter);
+        } else if (method.isCollectionQuery()) {
             return new CollectionExecution(schemaFactory, parameters, graphAdapter);
         } else if (method.isPageQuery()) {
             return new CollectionExecution(schemaFactory, parameters, graphAdapter);
-        } else if (method.isQueryForEntity()) {
+        } else if (method.isSliceQuery()) {
+            return new SliceExecution(schemaFactory, parameters, graphAdapter);
+        } else if (method.isQueryForEntity() || getProjection() != null) {
             return new SingleEntityExecution(schemaFactory, parameters, graphAdapter);
         } else if (isModifyingQuery()) {
             return new ModifyExecution(schemaFactory, parameters, graphAdapter);
@@ -0,0 +1,240 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinFieldPropertyAccessor;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinIdFieldPropertyAccessor;
+import org.springframework.data.gremlin.schema.property.mapper.GremlinStandardPropertyMapper;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+import java.beans.PropertyDescriptor;
+import java.util.*;
+
+/**
+ * An interface or DTO projection of the domain type returned by a {@link GremlinQueryMethod}.
+ * <p>
+ * When every projected property is the id or a plain property of the domain type, the query ends in a {@code valueMap()} step
+ * reading just those properties and the projections are created from the resulting maps, without loading an entity, creating a
+ * proxy or following an edge. Otherwise, as for open interface projections, the projection is backed by the loaded entity.
+ * </p>
+ */
+public class GremlinProjection {
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private final Class<?> type;
+
+    private final GremlinSchema<?> schema;
+
+    private final ProjectionFactory projectionFactory;
+
+    private final PreferredConstructor<?, ?> constructor;
+
+    /** The projected properties, or null for an open interface projection. */
+    private final List<String> properties;
+
+    /** The graph keys of the projected properties by property name, or null if the entity has to be loaded. */
+    private final Map<String, String> keys;
+
+    private final String idProperty;
+
+    private GremlinProjection(Class<?> type, GremlinSchema<?> schema, ProjectionFactory projectionFactory, List<String> properties) {
+        this.type = type;
+        this.schema = schema;
+        this.projectionFactory = projectionFactory;
+        this.constructor = type.isInterface() ? null : PreferredConstructorDiscoverer.discover(type);
+        this.properties = properties;
+
+        if (properties == null) {
+            this.idProperty = null;
+            this.keys = null;
+            return;
+        }
+
+        String idProperty = null;
+        if (schema.getIdAccessor() instanceof GremlinIdFieldPropertyAccessor) {
+            idProperty = ((GremlinIdFieldPropertyAccessor) schema.getIdAccessor()).getField().getName();
+        }
+        this.idProperty = properties.contains(idProperty) ? idProperty : null;
+
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (String property : properties) {
+            if (property.equals(this.idProperty)) {
+                continue;
+            }
+            String key = propertyKey(schema, property);
+            if (key == null) {
+                keys = null;
+                break;
+            }
+            keys.put(property, key);
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the projection of the given query method, or null if it does not return a DTO or interface projection of its
+     * domain type.
+     *
+     * @param method        the query method
+     * @param schemaFactory the schema factory providing the schema of the domain type
+     * @return the projection or null
+     */
+    public static GremlinProjection of(GremlinQueryMethod method, GremlinSchemaFactory schemaFactory) {
+        ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+        Class<?> type = method.getResultElementType();
+        if (!returnedType.isProjecting() || type == CompositeResult.class || Map.class.isAssignableFrom(type) || Element.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        List<String> properties = null;
+        if (type.isInterface()) {
+            ProjectionInformation information = method.getProjectionFactory().getProjectionInformation(type);
+            if (information.isClosed()) {
+                properties = new ArrayList<>();
+                for (PropertyDescriptor descriptor : information.getInputProperties()) {
+                    properties.add(descriptor.getName());
+                }
+            }
+        } else {
+            properties = returnedType.getInputProperties();
+        }
+        if (properties != null && properties.isEmpty()) {
+            return null;
+        }
+        GremlinSchema<?> schema = schemaFactory.getSchema(method.getEntityInformation().getJavaType());
+        return new GremlinProjection(type, schema, method.getProjectionFactory(), properties);
+    }
+
+    /**
+     * @return true if the projected properties are read from the graph rather than from the loaded entity
+     */
+    public boolean isDirect() {
+        return keys != null;
+    }
+
+    /**
+     * Appends a {@code valueMap()} step reading the projected properties, plus the given ones, to the given traversal if the
+     * projection {@link #isDirect()}.
+     *
+     * @param traversal the traversal of elements of the domain type
+     * @param extraKeys graph keys to read as well, see {@link #value(Object, String)}
+     * @return the traversal
+     */
+    @SuppressWarnings("unchecked")
+    public GraphTraversal apply(GraphTraversal traversal, String... extraKeys) {
+        if (!isDirect()) {
+            return traversal;
+        }
+        Set<String> valueKeys = new LinkedHashSet<>(keys.values());
+        valueKeys.addAll(Arrays.asList(extraKeys));
+        traversal.valueMap(valueKeys.toArray(new String[0]));
+        if (idProperty != null) {
+            traversal.with(WithOptions.tokens, WithOptions.ids);
+        }
+        return traversal;
+    }
+
+    /**
+     * Creates the projection of a result of a traversal the projection has been {@link #apply(GraphTraversal, String...) applied} to.
+     *
+     * @param result       the value map or element
+     * @param graphAdapter the graph adapter to load the entity with
+     * @return the projection
+     */
+    public Object map(Object result, GremlinGraphAdapter graphAdapter) {
+        return map(result, graphAdapter, true);
+    }
+
+    /**
+     * Creates the projection of a result of a traversal the projection has been {@link #apply(GraphTraversal, String...) applied} to.
+     *
+     * @param result       the value map or element
+     * @param graphAdapter the graph adapter to load the entity with
+     * @param shared       false to load the entity apart from the identity map of the transaction
+     * @return the projection
+     */
+    public Object map(Object result, GremlinGraphAdapter graphAdapter, boolean shared) {
+        Map<String, Object> values = new HashMap<>();
+        if (result instanceof Map) {
+            Map<?, ?> valueMap = (Map<?, ?>) result;
+            for (Map.Entry<String, String> key : keys.entrySet()) {
+                values.put(key.getKey(), value(valueMap, key.getValue()));
+            }
+            if (idProperty != null) {
+                Object id = valueMap.get(T.id);
+                values.put(idProperty, id == null ? null : schema.encodeId(id.toString()));
+            }
+        } else {
+            Object entity = shared ? schema.loadFromGraph(graphAdapter, (Element) result) : schema.loadUnsharedFromGraph(graphAdapter, (Element) result);
+            if (constructor == null) {
+                return projectionFactory.createProjection(type, entity);
+            }
+            DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+            for (String property : properties) {
+                values.put(property, wrapper.getPropertyValue(property));
+            }
+        }
+
+        if (constructor == null) {
+            return projectionFactory.createProjection(type, values);
+        }
+        List<? extends PreferredConstructor.Parameter<?, ?>> parameters = constructor.getParameters();
+        Object[] args = new Object[parameters.size()];
+        for (int i = 0; i < args.length; i++) {
+            PreferredConstructor.Parameter<?, ?> parameter = parameters.get(i);
+            args[i] = CONVERSION_SERVICE.convert(values.get(parameter.getName()), parameter.getRawType());
+        }
+        return BeanUtils.instantiateClass(constructor.getConstructor(), args);
+    }
+
+    /**
+     * Returns the value of the given graph key of a result of the traversal, being either a value map or an element.
+     *
+     * @param result the value map or element
+     * @param key    the graph key
+     * @return the value, or null if the element has no such property
+     */
+    public static Object value(Object result, String key) {
+        if (result instanceof Element) {
+            Element element = (Element) result;
+            return element.property(key).isPresent() ? element.value(key) : null;
+        }
+        Object value = ((Map<?, ?>) result).get(key);
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            return values.isEmpty() ? null : values.get(0);
+        }
+        return value;
+    }
+
+    /**
+     * @return the graph key of the given property of the schema or its super schemas, or null if it is not a plain property
+     */
+    private static String propertyKey(GremlinSchema<?> schema, String property) {
+        for (GremlinSchema<?> current = schema; current != null; current = current.getSuperSchema()) {
+            GremlinProperty gremlinProperty = current.getPropertyForFieldname(property);
+            if (gremlinProperty != null) {
+                boolean plain = gremlinProperty.getPropertyMapper() instanceof GremlinStandardPropertyMapper
+                        && gremlinProperty.getAccessor().getClass() == GremlinFieldPropertyAccessor.class
+                        && ((GremlinFieldPropertyAccessor) gremlinProperty.getAccessor()).getEmbeddedAccessor() == null;
+                return plain ? gremlinProperty.getName() : null;
+            }
+        }
+        return null;
+    }
+}
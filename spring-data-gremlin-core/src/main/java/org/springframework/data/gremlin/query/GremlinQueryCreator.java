@@ -5,12 +5,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.annotation.Index;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
@@ -24,7 +22,10 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiPredicate;
 
 /**
@@ -34,8 +35,6 @@ import java.util.function.BiPredicate;
  */
 public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, GraphTraversal> {
 
-    private static final Logger logger = LoggerFactory.getLogger(GremlinQueryCreator.class);
-
     private final PartTree tree;
 
     private GremlinGraphFactory factory;
@@ -46,6 +45,11 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, Gr
 
     private GremlinSchema schema;
 
+    /**
+     * The values of the equality conditions on properties of the domain schema, candidates for an index lookup.
+     */
+    private final Map<Part, Object> equalityValues = new HashMap<>();
+
     public GremlinQueryCreator(GremlinGraphFactory factory, GremlinSchemaFactory mapperfactory, Class<?> domainClass, PartTree tree, ParameterAccessor accessor) {
         super(tree, accessor);
 
@@ -81,63 +85,121 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, Gr
         return tree.isCountProjection();
     }
 
+    /**
+     * Completes the criteria into a traversal which is not attached to any graph. Only its {@link org.apache.tinkerpop.gremlin.process.traversal.Bytecode}
+     * is meant to be used, see {@link GremlinTraversalTemplate#of(org.apache.tinkerpop.gremlin.process.traversal.Bytecode)}.
+     */
     @Override
     protected GraphTraversal complete(GraphTraversal criteria, Sort sort) {
-        GraphTraversalSource source = factory.graph().traversal();
-        GraphTraversal traversal;
-        if (schema.isEdgeSchema()) {
-            traversal = source.V().and(criteria).flatMap(end);
-        } else {
-            traversal = source.V().and(criteria);
+        GraphTraversal traversal = new DefaultGraphTraversal().V();
+        if (schema.isVertexSchema()) {
+            startFromIndex(traversal);
+        }
+        traversal.and(criteria);
+        if (schema.isEdgeSchema() && end != null) {
+            traversal.flatMap(end);
+        }
+        if (accessor != null && accessor.getPageable() instanceof KeysetPageRequest) {
+            KeysetPageRequest keyset = (KeysetPageRequest) accessor.getPageable();
+            if (keyset.isSeek()) {
+                GraphUtil.seek(traversal, schema, keyset.getOrder(), keyset.getKey());
+            }
+        }
+        GraphUtil.order(traversal, schema, sort);
+        if (tree.isLimiting()) {
+            traversal.limit(tree.getMaxResults());
+        }
+        return traversal;
+    }
+
+    /**
+     * Narrows the start of the traversal to the labels of the schema and, when all conditions must hold, to the equality
+     * condition on the most selective indexed property, so that the backend can look the vertices up in its indexes rather
+     * than scanning all of them. The criteria still apply every condition afterwards.
+     */
+    private void startFromIndex(GraphTraversal traversal) {
+        List<String> labels = schema.getClassNames();
+        traversal.hasLabel(labels.get(0), labels.subList(1, labels.size()).toArray(new String[0]));
+
+        Iterator<PartTree.OrPart> orParts = tree.iterator();
+        PartTree.OrPart conjunction = orParts.hasNext() ? orParts.next() : null;
+        if (conjunction == null || orParts.hasNext()) {
+            return;
+        }
+        GremlinProperty indexed = null;
+        Object value = null;
+        for (Part part : conjunction) {
+            if (!equalityValues.containsKey(part)) {
+                continue;
+            }
+            GremlinProperty property = schema.getPropertyForFieldname(part.getProperty().getSegment());
+            if (property != null && selectivity(property) > (indexed == null ? 0 : selectivity(indexed))) {
+                indexed = property;
+                value = equalityValues.get(part);
+            }
+        }
+        if (indexed != null) {
+            traversal.has(indexed.getName(), P.eq(value));
         }
-         logger.info(GraphUtil.queryToString(factory.graph(), traversal));
-         return traversal;
     }
 
-    protected GraphTraversal end = new DefaultGraphTraversal();
+    private static int selectivity(GremlinProperty property) {
+        Index.IndexType index = property.getIndex();
+        if (index == Index.IndexType.UNIQUE) {
+            return 2;
+        } else if (index == Index.IndexType.NON_UNIQUE) {
+            return 1;
+        }
+        return 0;
+    }
 
+    /**
+     * The traversal leading from the matched vertices to the edges of an edge schema, taken from the first condition.
+     */
+    private GraphTraversal end;
 
     protected GraphTraversal toCondition(final GraphTraversal pipeline, Part part, Iterator<Object> iterator) {
 
-
         PropertyPath path = part.getProperty();
         PropertyPath leafProperty = path.getLeafProperty();
         String leafSegment = leafProperty.getSegment();
         String label = part.getProperty().getLeafProperty().getOwningType().getType().getSimpleName();
-        if(schema.isEdgeSchema()) {
-            includeCondition(part.getType(), label, leafSegment, pipeline, iterator);
+        GremlinSchema pathSchema = schema;
+        GraphTraversal navigation = new DefaultGraphTraversal();
+        if(pathSchema.isEdgeSchema()) {
+            includeCondition(part, label, leafSegment, pipeline, iterator);
         }
         while (path != null && path.hasNext()) {
 
             String segment = path.getSegment();
             Class<?> type = path.getOwningType().getType();
-            schema = schemaFactory.getSchema(type);
-            GremlinProperty gremlinProperty = schema.getPropertyForFieldname(segment);
+            pathSchema = schemaFactory.getSchema(type);
+            GremlinProperty gremlinProperty = pathSchema.getPropertyForFieldname(segment);
 
-            if (schema.isVertexSchema()) {
+            if (pathSchema.isVertexSchema()) {
                 if (gremlinProperty instanceof GremlinRelatedProperty) {
 
                     GremlinRelatedProperty adjacentProperty = (GremlinRelatedProperty) gremlinProperty;
                     Direction direction = adjacentProperty.getDirection();
                     if (direction == Direction.IN) {
                         pipeline.inE(gremlinProperty.getName()).outV();
-                        end.inE(gremlinProperty.getName()).outV();
+                        navigation.inE(gremlinProperty.getName()).outV();
                     } else {
                         pipeline.outE(gremlinProperty.getName()).inV();
-                        end.outE(gremlinProperty.getName()).inV();
+                        navigation.outE(gremlinProperty.getName()).inV();
                     }
                 }
 
-            } else if (schema.isEdgeSchema()) {
+            } else if (pathSchema.isEdgeSchema()) {
                 if (gremlinProperty instanceof GremlinAdjacentProperty) {
                     GremlinAdjacentProperty adjacentProperty = (GremlinAdjacentProperty)gremlinProperty;
                     Direction direction = adjacentProperty.getDirection();
                     if (direction == Direction.IN) {
-                        pipeline.inE(schema.getClassName());
-                        end.inE(schema.getClassName());
+                        pipeline.inE(pathSchema.getClassName());
+                        navigation.inE(pathSchema.getClassName());
                     } else {
-                        pipeline.outE(schema.getClassName());
-                        end.outE(schema.getClassName());
+                        pipeline.outE(pathSchema.getClassName());
+                        navigation.outE(pathSchema.getClassName());
                     }
                 }
             }
@@ -145,9 +207,12 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, Gr
 
         }
 
+        if (end == null) {
+            end = navigation;
+        }
 
-        if(schema.isVertexSchema()) {
-            includeCondition(part.getType(), label, leafSegment, pipeline, iterator);
+        if(pathSchema.isVertexSchema()) {
+            includeCondition(part, label, leafSegment, pipeline, iterator);
         }
 
         return pipeline;
@@ -156,8 +221,8 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, Gr
     }
 
 
-    private GraphTraversal includeCondition(Part.Type type, String label, String property, GraphTraversal pipeline, Iterator iterator) {
-        switch (type) {
+    private GraphTraversal includeCondition(Part part, String label, String property, GraphTraversal pipeline, Iterator iterator) {
+        switch (part.getType()) {
             case AFTER:
             case GREATER_THAN:
                 pipeline.has(label, property, P.gt(iterator.next()));
@@ -204,7 +269,11 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GraphTraversal, Gr
                 pipeline.has(label, property, P.test(Like.IS, iterator.next()));
                 break;
             case SIMPLE_PROPERTY:
-                pipeline.has(label, property, iterator.next());
+                Object value = iterator.next();
+                if (schema.isVertexSchema() && !part.getProperty().hasNext()) {
+                    equalityValues.put(part, value);
+                }
+                pipeline.has(label, property, P.eq(value));
                 break;
             case NEGATING_SIMPLE_PROPERTY:
                 pipeline.has(label, property, P.test(Compare.neq, iterator.next()));
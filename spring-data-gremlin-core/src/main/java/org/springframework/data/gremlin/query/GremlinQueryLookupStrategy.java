@@ -72,10 +72,13 @@ public final class GremlinQueryLookupStrategy {
 
         protected Class<? extends AbstractNativeGremlinQuery> nativeQueryType;
 
+        protected GremlinScriptCache scriptCache;
+
         private DeclaredQueryLookupStrategy(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter,
-                                            Class<? extends AbstractNativeGremlinQuery> nativeQueryType) {
+                                            Class<? extends AbstractNativeGremlinQuery> nativeQueryType, GremlinScriptCache scriptCache) {
             super(dbf, schemaFactory, graphAdapter);
             this.nativeQueryType = nativeQueryType;
+            this.scriptCache = scriptCache;
         }
 
         @Override
@@ -96,7 +99,7 @@ public final class GremlinQueryLookupStrategy {
                         throw new IllegalStateException(String.format("Could not create a %s! Error: %s", nativeQueryType, e.getMessage()), e);
                     }
                 } else {
-                    repoQuery = new StringBasedGremlinQuery(dbf, schemaFactory, graphAdapter, query, method);
+                    repoQuery = new StringBasedGremlinQuery(dbf, schemaFactory, graphAdapter, query, method, scriptCache);
                 }
             }
             return repoQuery;
@@ -122,9 +125,9 @@ public final class GremlinQueryLookupStrategy {
          * @param dbf
          */
         public CreateIfNotFoundQueryLookupStrategy(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter,
-                                                   Class<? extends AbstractNativeGremlinQuery> nativeQueryType) {
+                                                   Class<? extends AbstractNativeGremlinQuery> nativeQueryType, GremlinScriptCache scriptCache) {
             super(dbf, schemaFactory, graphAdapter);
-            this.strategy = new DeclaredQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType);
+            this.strategy = new DeclaredQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache);
             this.createStrategy = new CreateQueryLookupStrategy(dbf, schemaFactory, graphAdapter);
         }
 
@@ -151,17 +154,22 @@ public final class GremlinQueryLookupStrategy {
 
     public static QueryLookupStrategy create(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter, Class<? extends AbstractNativeGremlinQuery> nativeQueryType,
                                              Key key) {
+        return create(dbf, schemaFactory, graphAdapter, nativeQueryType, new GremlinScriptCache(), key);
+    }
+
+    public static QueryLookupStrategy create(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter, Class<? extends AbstractNativeGremlinQuery> nativeQueryType,
+                                             GremlinScriptCache scriptCache, Key key) {
         if (key == null) {
-            return new CreateIfNotFoundQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType);
+            return new CreateIfNotFoundQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache);
         }
 
         switch (key) {
         case CREATE:
             return new CreateQueryLookupStrategy(dbf, schemaFactory, graphAdapter);
         case USE_DECLARED_QUERY:
-            return new DeclaredQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType);
+            return new DeclaredQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache);
         case CREATE_IF_NOT_FOUND:
-            return new CreateIfNotFoundQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType);
+            return new CreateIfNotFoundQueryLookupStrategy(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache);
         default:
             throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
         }
@@ -1,13 +1,19 @@
 package org.springframework.data.gremlin.query;
 
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gremlin.annotation.FetchPlan;
 import org.springframework.data.gremlin.annotation.Query;
+import org.springframework.data.gremlin.repository.GremlinFetchPlan;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
 /**
  * Gremlin specific extension of {@link QueryMethod} providing the {@link Method} and {@link Query} annotaiton.
@@ -19,6 +25,10 @@ public final class GremlinQueryMethod extends QueryMethod {
     /** The method. */
     private final Method method;
 
+    private final ProjectionFactory projectionFactory;
+
+    private final GremlinFetchPlan fetchPlan;
+
     /**
      * Instantiates a new {@link GremlinQueryMethod}.
      *
@@ -28,6 +38,9 @@ public final class GremlinQueryMethod extends QueryMethod {
 	public GremlinQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory projectionFactory) {
 		super(method, metadata, projectionFactory);
         this.method = method;
+        this.projectionFactory = projectionFactory;
+        FetchPlan fetchPlan = AnnotationUtils.findAnnotation(method, FetchPlan.class);
+        this.fetchPlan = fetchPlan != null ? GremlinFetchPlan.of(fetchPlan) : null;
     }
 
     /**
@@ -39,6 +52,58 @@ public final class GremlinQueryMethod extends QueryMethod {
         return method;
     }
 
+    /**
+     * Gets the factory creating the projections the method may return.
+     *
+     * @return the projection factory
+     */
+    public ProjectionFactory getProjectionFactory() {
+        return projectionFactory;
+    }
+
+    /**
+     * Gets the relations to load eagerly with the entities the method returns.
+     *
+     * @return the plan declared with {@link FetchPlan}, or null if the method has none
+     */
+    public GremlinFetchPlan getFetchPlan() {
+        return fetchPlan;
+    }
+
+    /**
+     * Returns whether the method returns an {@link Iterator}, which, like a {@link java.util.stream.Stream}, is consumed lazily.
+     *
+     * @return true if the method returns an Iterator
+     */
+    public boolean isIteratorQuery() {
+        return Iterator.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the method returns a reactive type emitting many values, such as a {@code Flux}, whose elements are
+     * streamed.
+     *
+     * @return true if the method returns a reactive multi-value type
+     */
+    public boolean isReactiveStreamQuery() {
+        return ReactiveWrappers.isMultiValueType(method.getReturnType());
+    }
+
+    /**
+     * Returns the type of the objects of the query result, being the element type of an {@link Iterator} as well.
+     *
+     * @return the result element type
+     */
+    public Class<?> getResultElementType() {
+        if (isIteratorQuery()) {
+            TypeInformation<?> componentType = ClassTypeInformation.fromReturnTypeOf(method).getComponentType();
+            if (componentType != null) {
+                return componentType.getType();
+            }
+        }
+        return getReturnedObjectType();
+    }
+
     /**
      * Returns whether the method has an annotated query.
      *
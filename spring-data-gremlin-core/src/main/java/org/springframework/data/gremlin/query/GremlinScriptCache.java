@@ -0,0 +1,114 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.script.Bindings;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds a single {@link GremlinGroovyScriptEngine} shared by all {@link StringBasedGremlinQuery}s of a
+ * {@link org.springframework.data.gremlin.repository.GremlinRepositoryContext}, along with the {@link CompiledScript}s
+ * of the declared queries.
+ * <p>
+ * Scripts are compiled once, when the query method is resolved, and evaluated with fresh {@link Bindings} on each call.
+ * The number of calls, compilations and cached scripts are exposed for monitoring.
+ * </p>
+ */
+public class GremlinScriptCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinScriptCache.class);
+
+    private volatile GremlinGroovyScriptEngine engine;
+
+    private final ConcurrentMap<String, CompiledScript> scripts = new ConcurrentHashMap<>();
+
+    private final LongAdder callCount = new LongAdder();
+
+    private final LongAdder compileCount = new LongAdder();
+
+    /**
+     * Returns the {@link CompiledScript} for the given query, compiling it if it has not been seen before.
+     *
+     * @param script the Gremlin Groovy script
+     * @return the compiled script
+     * @throws ScriptException if the script could not be compiled
+     */
+    public CompiledScript compile(String script) throws ScriptException {
+        CompiledScript compiled = scripts.get(script);
+        if (compiled == null) {
+            LOGGER.debug("Compiling Gremlin script {}", script);
+            compiled = getEngine().compile(script);
+            compileCount.increment();
+            CompiledScript existing = scripts.putIfAbsent(script, compiled);
+            if (existing != null) {
+                compiled = existing;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Evaluates a script previously returned by {@link #compile(String)}.
+     *
+     * @param script   the compiled script
+     * @param bindings the bindings for this call
+     * @return the result of the script
+     * @throws ScriptException if the evaluation failed
+     */
+    public Object eval(CompiledScript script, Bindings bindings) throws ScriptException {
+        callCount.increment();
+        return script.eval(bindings);
+    }
+
+    public Bindings createBindings() {
+        return new SimpleBindings();
+    }
+
+    public GremlinGroovyScriptEngine getEngine() {
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = new GremlinGroovyScriptEngine();
+                }
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * @return the number of script evaluations
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * @return the number of script compilations
+     */
+    public long getCompileCount() {
+        return compileCount.sum();
+    }
+
+    /**
+     * @return the number of compiled scripts held in the cache
+     */
+    public int getCacheSize() {
+        return scripts.size();
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinScriptCache{"
+                + "calls=" + getCallCount()
+                + ", compiles=" + getCompileCount()
+                + ", size=" + getCacheSize() +
+                '}';
+    }
+}
@@ -0,0 +1,619 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Column;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * A Gremlin traversal with parameter slots, built once per query method and replayed without a script engine.
+ * <p>
+ * Templates are either parsed from the String of a {@link org.springframework.data.gremlin.annotation.Query} or created
+ * from the {@link Bytecode} of a traversal holding {@link Bytecode.Binding}s in place of its parameter values.
+ * </p>
+ * <p>
+ * The parser understands the subset of gremlin-groovy used by repository queries: a chain of steps on {@code g},
+ * {@code graph} or {@code G} whose arguments are literals, lists, parameter bindings, {@link P}/{@link TextP} predicates,
+ * enum tokens such as {@code T.label} or {@code Order.desc} and anonymous {@code __} traversals. Anything else is rejected
+ * with an {@link IllegalArgumentException} so the caller can fall back to the script engine.
+ * </p>
+ * <p>
+ * On each call {@link #bind(Map)} produces a fresh {@link Bytecode} with the parameter values in place, which is turned
+ * into a traversal by TinkerPop's {@link JavaTranslator}.
+ * </p>
+ */
+public final class GremlinTraversalTemplate {
+
+    private static final Set<String> SOURCE_NAMES = new HashSet<>(Arrays.asList("g", "graph", "G"));
+
+    private static final Set<String> TERMINAL_STEPS = new HashSet<>(Arrays.asList("next", "tryNext", "hasNext", "toList", "toSet", "toBulkSet", "toStream", "iterate",
+            "fill", "forEachRemaining", "explain", "promise", "asAdmin", "getBytecode", "close"));
+
+    private static final Map<String, Class<? extends Enum>> TOKENS = new HashMap<>();
+
+    private static final Map<String, List<Method>> PREDICATES = new HashMap<>();
+
+    private static final Map<String, List<Method>> TEXT_PREDICATES = new HashMap<>();
+
+    static {
+        TOKENS.put("T", T.class);
+        TOKENS.put("Order", Order.class);
+        TOKENS.put("Scope", Scope.class);
+        TOKENS.put("Column", Column.class);
+        TOKENS.put("Pop", Pop.class);
+        TOKENS.put("Direction", Direction.class);
+        TOKENS.put("Operator", Operator.class);
+        collectFactoryMethods(P.class, PREDICATES);
+        collectFactoryMethods(TextP.class, TEXT_PREDICATES);
+    }
+
+    private final List<Step> sourceSteps;
+
+    private final List<Step> steps;
+
+    private final Set<String> parameterNames;
+
+    private GremlinTraversalTemplate(List<Step> sourceSteps, List<Step> steps, Set<String> parameterNames) {
+        this.sourceSteps = sourceSteps;
+        this.steps = steps;
+        this.parameterNames = parameterNames;
+    }
+
+    /**
+     * Parses the given Gremlin query into a template.
+     *
+     * @param query          the Gremlin query
+     * @param parameterNames the names of the bindings the query may refer to
+     * @return the template
+     * @throws IllegalArgumentException if the query uses syntax outside of the supported subset
+     */
+    public static GremlinTraversalTemplate parse(String query, Set<String> parameterNames) {
+        return new Parser(query, parameterNames).parseQuery();
+    }
+
+    /**
+     * Creates a template from the given {@link Bytecode}. Every {@link Bytecode.Binding} argument, including the value of a
+     * {@link P} argument and the arguments of nested traversals, becomes a parameter named after the binding's key.
+     *
+     * @param bytecode the Bytecode of the traversal
+     * @return the template
+     */
+    public static GremlinTraversalTemplate of(Bytecode bytecode) {
+        Set<String> parameterNames = new LinkedHashSet<>();
+        List<Step> sourceSteps = steps(bytecode.getSourceInstructions(), parameterNames);
+        List<Step> steps = steps(bytecode.getStepInstructions(), parameterNames);
+        return new GremlinTraversalTemplate(sourceSteps, steps, Collections.unmodifiableSet(parameterNames));
+    }
+
+    private static List<Step> steps(List<Bytecode.Instruction> instructions, Set<String> parameterNames) {
+        List<Step> steps = new ArrayList<>(instructions.size());
+        for (Bytecode.Instruction instruction : instructions) {
+            Object[] args = instruction.getArguments();
+            Argument[] arguments = new Argument[args.length];
+            for (int i = 0; i < args.length; i++) {
+                arguments[i] = argument(args[i], parameterNames);
+            }
+            steps.add(new Step(instruction.getOperator(), arguments));
+        }
+        return steps;
+    }
+
+    private static Argument argument(Object value, Set<String> parameterNames) {
+        if (value instanceof Bytecode.Binding) {
+            String name = ((Bytecode.Binding) value).variable();
+            parameterNames.add(name);
+            return new ParameterReference(name);
+        }
+        if (value instanceof P && ((P) value).getValue() instanceof Bytecode.Binding) {
+            String name = ((Bytecode.Binding) ((P) value).getValue()).variable();
+            parameterNames.add(name);
+            return new BoundPredicate((P) value, name);
+        }
+        if (value instanceof Bytecode) {
+            return new AnonymousTraversal(steps(((Bytecode) value).getStepInstructions(), parameterNames));
+        }
+        return new Literal(value);
+    }
+
+    /**
+     * Creates the {@link Bytecode} of this template with the given parameter values.
+     *
+     * @param values the parameter values mapped by binding name
+     * @return a new Bytecode instance
+     */
+    public Bytecode bind(Map<String, Object> values) {
+        Bytecode bytecode = new Bytecode();
+        for (Step step : sourceSteps) {
+            bytecode.addSource(step.name, step.resolveArguments(values));
+        }
+        for (Step step : steps) {
+            bytecode.addStep(step.name, step.resolveArguments(values));
+        }
+        return bytecode;
+    }
+
+    /**
+     * Creates the traversal of this template on the given source with the given parameter values.
+     *
+     * @param source the traversal source to spawn the traversal from
+     * @param values the parameter values mapped by binding name
+     * @return the traversal
+     */
+    public Traversal.Admin<?, ?> apply(GraphTraversalSource source, Map<String, Object> values) {
+        return JavaTranslator.of(source).translate(bind(values));
+    }
+
+    public Set<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    private static void collectFactoryMethods(Class<?> type, Map<String, List<Method>> methods) {
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && type.isAssignableFrom(method.getReturnType())) {
+                methods.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+            }
+        }
+    }
+
+    private interface Argument {
+        Object resolve(Map<String, Object> values);
+    }
+
+    private static final class Literal implements Argument {
+
+        private final Object value;
+
+        private Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object resolve(Map<String, Object> values) {
+            return value;
+        }
+    }
+
+    private static final class ParameterReference implements Argument {
+
+        private final String name;
+
+        private ParameterReference(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object resolve(Map<String, Object> values) {
+            return values.get(name);
+        }
+    }
+
+    private static final class ListArgument implements Argument {
+
+        private final List<Argument> elements;
+
+        private ListArgument(List<Argument> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object resolve(Map<String, Object> values) {
+            List<Object> list = new ArrayList<>(elements.size());
+            for (Argument element : elements) {
+                list.add(element.resolve(values));
+            }
+            return list;
+        }
+    }
+
+    private static final class AnonymousTraversal implements Argument {
+
+        private final List<Step> steps;
+
+        private AnonymousTraversal(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        public Object resolve(Map<String, Object> values) {
+            Bytecode bytecode = new Bytecode();
+            for (Step step : steps) {
+                bytecode.addStep(step.name, step.resolveArguments(values));
+            }
+            return bytecode;
+        }
+    }
+
+    private static final class BoundPredicate implements Argument {
+
+        private final P predicate;
+
+        private final String name;
+
+        private BoundPredicate(P predicate, String name) {
+            this.predicate = predicate;
+            this.name = name;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object resolve(Map<String, Object> values) {
+            P bound = predicate.clone();
+            bound.setValue(values.get(name));
+            return bound;
+        }
+    }
+
+    private static final class Predicate implements Argument {
+
+        private final String name;
+
+        private final List<Method> candidates;
+
+        private final Argument[] arguments;
+
+        private Predicate(String name, List<Method> candidates, Argument[] arguments) {
+            this.name = name;
+            this.candidates = candidates;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object resolve(Map<String, Object> values) {
+            Object[] args = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = arguments[i].resolve(values);
+            }
+            try {
+                for (Method method : candidates) {
+                    if (!method.isVarArgs() && accepts(method.getParameterTypes(), args, args.length)) {
+                        return method.invoke(null, args);
+                    }
+                }
+                for (Method method : candidates) {
+                    Class<?>[] types = method.getParameterTypes();
+                    int fixed = types.length - 1;
+                    if (method.isVarArgs() && args.length >= fixed && accepts(types, args, fixed)) {
+                        Class<?> componentType = types[fixed].getComponentType();
+                        Object varArgs = java.lang.reflect.Array.newInstance(componentType, args.length - fixed);
+                        for (int i = fixed; i < args.length; i++) {
+                            java.lang.reflect.Array.set(varArgs, i - fixed, args[i]);
+                        }
+                        Object[] invokeArgs = Arrays.copyOf(args, types.length);
+                        invokeArgs[fixed] = varArgs;
+                        return method.invoke(null, invokeArgs);
+                    }
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(String.format("Could not create predicate %s. Error: %s", name, e.getMessage()), e);
+            }
+            throw new IllegalStateException(String.format("No predicate %s accepting %s", name, Arrays.toString(args)));
+        }
+
+        private static boolean accepts(Class<?>[] types, Object[] args, int count) {
+            if (types.length < count || (types.length != args.length && count == args.length)) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (args[i] == null ? types[i].isPrimitive() : !wrap(types[i]).isInstance(args[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            return java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(type, 1), 0).getClass();
+        }
+    }
+
+    private static final class Step {
+
+        private final String name;
+
+        private final Argument[] arguments;
+
+        private Step(String name, Argument[] arguments) {
+            this.name = name;
+            this.arguments = arguments;
+        }
+
+        private Object[] resolveArguments(Map<String, Object> values) {
+            Object[] args = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = arguments[i].resolve(values);
+            }
+            return args;
+        }
+    }
+
+    /**
+     * A recursive descent parser for the supported gremlin-groovy subset.
+     */
+    private static final class Parser {
+
+        private final String query;
+
+        private final Set<String> parameterNames;
+
+        private final Set<String> usedParameters = new LinkedHashSet<>();
+
+        private int pos;
+
+        private Parser(String query, Set<String> parameterNames) {
+            this.query = query;
+            this.parameterNames = parameterNames;
+        }
+
+        private GremlinTraversalTemplate parseQuery() {
+            String source = identifier();
+            if (!SOURCE_NAMES.contains(source)) {
+                throw unsupported("traversal source " + source);
+            }
+            List<Step> sourceSteps = new ArrayList<>();
+            List<Step> steps = new ArrayList<>();
+            while (peek() == '.') {
+                pos++;
+                Step step = step();
+                if (steps.isEmpty() && step.name.startsWith("with")) {
+                    sourceSteps.add(step);
+                } else {
+                    steps.add(step);
+                }
+            }
+            skipWhitespace();
+            if (pos < query.length()) {
+                throw unsupported("trailing '" + query.substring(pos) + "'");
+            }
+            if (steps.isEmpty()) {
+                throw unsupported("query without steps");
+            }
+            return new GremlinTraversalTemplate(sourceSteps, steps, Collections.unmodifiableSet(usedParameters));
+        }
+
+        private Step step() {
+            String name = identifier();
+            if (TERMINAL_STEPS.contains(name)) {
+                throw unsupported("terminal step " + name + "()");
+            }
+            return new Step(name, arguments());
+        }
+
+        private List<Step> chain(Step first) {
+            List<Step> steps = new ArrayList<>();
+            steps.add(first);
+            while (peek() == '.') {
+                pos++;
+                steps.add(step());
+            }
+            return steps;
+        }
+
+        private Argument[] arguments() {
+            expect('(');
+            List<Argument> args = new ArrayList<>();
+            if (peek() != ')') {
+                do {
+                    args.add(argument());
+                } while (consume(','));
+            }
+            expect(')');
+            return args.toArray(new Argument[0]);
+        }
+
+        private Argument argument() {
+            char c = peek();
+            if (c == '\'' || c == '"') {
+                return new Literal(string());
+            }
+            if (c == '-' || Character.isDigit(c)) {
+                return new Literal(number());
+            }
+            if (c == '[') {
+                pos++;
+                List<Argument> elements = new ArrayList<>();
+                if (peek() != ']') {
+                    do {
+                        elements.add(argument());
+                    } while (consume(','));
+                }
+                expect(']');
+                return new ListArgument(elements);
+            }
+            String name = identifier();
+            switch (name) {
+                case "true":
+                    return new Literal(Boolean.TRUE);
+                case "false":
+                    return new Literal(Boolean.FALSE);
+                case "null":
+                    return new Literal(null);
+                case "P":
+                    expect('.');
+                    return predicate(identifier(), PREDICATES);
+                case "TextP":
+                    expect('.');
+                    return predicate(identifier(), TEXT_PREDICATES);
+                case "__":
+                    expect('.');
+                    return new AnonymousTraversal(chain(step()));
+                default:
+            }
+            if (TOKENS.containsKey(name)) {
+                expect('.');
+                return new Literal(token(TOKENS.get(name), identifier()));
+            }
+            if (peek() == '(') {
+                // Statically imported predicate or the start of an anonymous traversal
+                if (PREDICATES.containsKey(name) && !"not".equals(name)) {
+                    return predicate(name, PREDICATES);
+                }
+                if (TEXT_PREDICATES.containsKey(name)) {
+                    return predicate(name, TEXT_PREDICATES);
+                }
+                return new AnonymousTraversal(chain(new Step(name, arguments())));
+            }
+            if (parameterNames.contains(name)) {
+                usedParameters.add(name);
+                return new ParameterReference(name);
+            }
+            throw unsupported("identifier " + name);
+        }
+
+        private Argument predicate(String name, Map<String, List<Method>> factories) {
+            List<Method> candidates = factories.get(name);
+            if (candidates == null) {
+                throw unsupported("predicate " + name);
+            }
+            return new Predicate(name, candidates, arguments());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object token(Class<? extends Enum> type, String name) {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw unsupported("token " + type.getSimpleName() + "." + name);
+            }
+        }
+
+        private String string() {
+            char quote = query.charAt(pos++);
+            StringBuilder sb = new StringBuilder();
+            while (pos < query.length()) {
+                char c = query.charAt(pos++);
+                if (c == quote) {
+                    return sb.toString();
+                }
+                if (c == '$' && quote == '"') {
+                    throw unsupported("GString interpolation");
+                }
+                if (c == '\\' && pos < query.length()) {
+                    char escaped = query.charAt(pos++);
+                    switch (escaped) {
+                        case 'n':
+                            sb.append('\n');
+                            break;
+                        case 't':
+                            sb.append('\t');
+                            break;
+                        case 'r':
+                            sb.append('\r');
+                            break;
+                        default:
+                            sb.append(escaped);
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            throw unsupported("unterminated string");
+        }
+
+        private Object number() {
+            int start = pos;
+            if (query.charAt(pos) == '-') {
+                pos++;
+            }
+            boolean decimal = false;
+            while (pos < query.length() && (Character.isDigit(query.charAt(pos)) || query.charAt(pos) == '.' && !decimal && pos + 1 < query.length()
+                    && Character.isDigit(query.charAt(pos + 1)))) {
+                decimal |= query.charAt(pos) == '.';
+                pos++;
+            }
+            String digits = query.substring(start, pos);
+            if (digits.equals("-")) {
+                throw unsupported("'-'");
+            }
+            char suffix = pos < query.length() ? Character.toLowerCase(query.charAt(pos)) : ' ';
+            switch (suffix) {
+                case 'l':
+                    pos++;
+                    return Long.valueOf(digits);
+                case 'i':
+                    pos++;
+                    return Integer.valueOf(digits);
+                case 'd':
+                    pos++;
+                    return Double.valueOf(digits);
+                case 'f':
+                    pos++;
+                    return Float.valueOf(digits);
+                case 'g':
+                    pos++;
+                    return decimal ? new BigDecimal(digits) : new BigInteger(digits);
+                default:
+            }
+            // Follow the Groovy literal typing rules
+            if (decimal) {
+                return new BigDecimal(digits);
+            }
+            BigInteger value = new BigInteger(digits);
+            if (value.bitLength() < 32) {
+                return value.intValue();
+            } else if (value.bitLength() < 64) {
+                return value.longValue();
+            }
+            return value;
+        }
+
+        private String identifier() {
+            skipWhitespace();
+            int start = pos;
+            while (pos < query.length() && (Character.isJavaIdentifierPart(query.charAt(pos)))) {
+                pos++;
+            }
+            if (start == pos || !Character.isJavaIdentifierStart(query.charAt(start))) {
+                throw unsupported(pos < query.length() ? "'" + query.charAt(pos) + "'" : "end of query");
+            }
+            return query.substring(start, pos);
+        }
+
+        private char peek() {
+            skipWhitespace();
+            return pos < query.length() ? query.charAt(pos) : 0;
+        }
+
+        private boolean consume(char c) {
+            if (peek() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw unsupported(pos < query.length() ? "'" + query.charAt(pos) + "', expected '" + c + "'" : "end of query, expected '" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < query.length() && Character.isWhitespace(query.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException unsupported(String what) {
+            return new IllegalArgumentException(String.format("Unsupported %s at position %d of Gremlin query %s", what, pos, query));
+        }
+    }
+}
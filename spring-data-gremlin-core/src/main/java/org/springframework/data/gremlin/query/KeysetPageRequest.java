@@ -0,0 +1,187 @@
+package org.springframework.data.gremlin.query;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A {@link Pageable} for keyset (or "seek") pagination. Instead of skipping an offset, a page starts right after the value of the
+ * sort property of the last element of the previous page, so that every page costs the same however deep it is.
+ * <p>
+ * The {@link Sort} must consist of a single, preferably indexed, property whose values are unique, as elements sharing the key of
+ * the last element of a page are skipped. The next request is obtained through {@link org.springframework.data.domain.Slice#nextPageable()}
+ * of a {@link org.springframework.data.domain.Slice} or {@link org.springframework.data.domain.Page} returned for this request,
+ * or created with {@link #after(Object, int, Sort)}. A {@link org.springframework.data.domain.Page} still counts all the results,
+ * so query methods meant to page through many results with keysets return a {@link org.springframework.data.domain.Slice}.
+ * </p>
+ */
+public final class KeysetPageRequest implements Pageable, Serializable {
+
+    private final int page;
+
+    private final int size;
+
+    private final Sort sort;
+
+    private final boolean seek;
+
+    private final Object key;
+
+    private final boolean lastKnown;
+
+    private final Object lastKey;
+
+    private KeysetPageRequest(int page, int size, Sort sort, boolean seek, Object key, boolean lastKnown, Object lastKey) {
+        Assert.isTrue(size > 0, "Page size must not be less than one!");
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.isTrue(sort.stream().count() == 1, "Keyset pagination requires a Sort on exactly one property!");
+        this.page = page;
+        this.size = size;
+        this.sort = sort;
+        this.seek = seek;
+        this.key = key;
+        this.lastKnown = lastKnown;
+        this.lastKey = lastKey;
+    }
+
+    /**
+     * Creates a request for the first page.
+     *
+     * @param size the size of the page
+     * @param sort the sort on a single property
+     * @return the request
+     */
+    public static KeysetPageRequest first(int size, Sort sort) {
+        return new KeysetPageRequest(0, size, sort, false, null, false, null);
+    }
+
+    /**
+     * Creates a request for the page following the element having the given key.
+     *
+     * @param key  the value of the sort property of the last element of the previous page
+     * @param size the size of the page
+     * @param sort the sort on a single property
+     * @return the request
+     */
+    public static KeysetPageRequest after(Object key, int size, Sort sort) {
+        return new KeysetPageRequest(0, size, sort, true, key, false, null);
+    }
+
+    /**
+     * @return true if the page starts after a key rather than at the first element
+     */
+    public boolean isSeek() {
+        return seek;
+    }
+
+    /**
+     * @return the key the page starts after
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    /**
+     * @return the sort order of the single sort property
+     */
+    public Sort.Order getOrder() {
+        return sort.iterator().next();
+    }
+
+    /**
+     * Returns a copy of this request knowing the key of the last element of its page, from which {@link #next()} continues.
+     *
+     * @param lastKey the value of the sort property of the last element of the page
+     * @return the request
+     */
+    public KeysetPageRequest withLastKey(Object lastKey) {
+        return new KeysetPageRequest(page, size, sort, seek, key, true, lastKey);
+    }
+
+    /**
+     * Returns a copy of this request with another page size.
+     *
+     * @param size the size of the page
+     * @return the request
+     */
+    public KeysetPageRequest withPageSize(int size) {
+        return new KeysetPageRequest(page, size, sort, seek, key, lastKnown, lastKey);
+    }
+
+    @Override
+    public int getPageNumber() {
+        return page;
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    /**
+     * Keyset pages are found by their key, so they never skip elements.
+     */
+    @Override
+    public long getOffset() {
+        return 0;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        if (!lastKnown) {
+            throw new IllegalStateException("The key of the last element of this page is unknown. Use the nextPageable() of its Slice.");
+        }
+        return new KeysetPageRequest(page + 1, size, sort, true, lastKey, false, null);
+    }
+
+    /**
+     * Keyset pagination only moves forward, so this returns the first page.
+     */
+    @Override
+    public Pageable previousOrFirst() {
+        return first();
+    }
+
+    @Override
+    public Pageable first() {
+        return first(size, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return page > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        KeysetPageRequest that = (KeysetPageRequest) o;
+
+        return page == that.page && size == that.size && seek == that.seek && sort.equals(that.sort) && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(page, size, sort, seek, key);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPageRequest{"
+                + "page=" + page
+                + ", size=" + size
+                + ", sort=" + sort
+                + (seek ? ", after=" + key : "") +
+                '}';
+    }
+}
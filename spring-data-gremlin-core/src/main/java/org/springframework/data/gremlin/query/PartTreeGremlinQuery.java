@@ -1,21 +1,56 @@
 package org.springframework.data.gremlin.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.annotation.Index.IndexType;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.data.gremlin.utils.GraphUtil;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A concrete {@link AbstractGremlinQuery} implementation based on a {@link PartTree}.
+ * <p>
+ * The {@link GremlinQueryCreator} runs once per query method, with {@link Bytecode.Binding}s in place of the parameter values,
+ * and its traversal is kept as a {@link GremlinTraversalTemplate}. Each call only binds the values into a copy of the template.
+ * </p>
+ * <p>
+ * Sorting, whether declared in the method name or passed as a {@link Sort} or {@link Pageable}, is part of the template, so a template
+ * is kept for each dynamic Sort, up to {@value #MAX_SORTED_TEMPLATES} of them. The same goes for the key filter of a
+ * {@link KeysetPageRequest}.
+ * </p>
  *
  * @author Gman
  */
 public class PartTreeGremlinQuery extends AbstractGremlinQuery {
 
+    private static final Logger logger = LoggerFactory.getLogger(PartTreeGremlinQuery.class);
+
+    private static final int MAX_SORTED_TEMPLATES = 32;
+
+    private static final String KEYSET_BINDING = "keyset";
+
     /** The domain class. */
     private final Class<?> domainClass;
 
@@ -28,6 +63,10 @@ public class PartTreeGremlinQuery extends AbstractGremlinQuery {
 
     private final GremlinGraphAdapter graphAdapter;
 
+    private final ConcurrentMap<List<Object>, GremlinTraversalTemplate> templates = new ConcurrentHashMap<>();
+
+    private volatile Boolean indexedEquality;
+
     /**
      * Instantiates a new {@link PartTreeGremlinQuery} from given {@link GremlinQueryMethod}.
      *
@@ -52,16 +91,86 @@ public class PartTreeGremlinQuery extends AbstractGremlinQuery {
     protected Object doRunQuery(DefaultParameters parameters, Object[] values, boolean ignorePaging) {
         ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
 
-        GremlinQueryCreator creator = new GremlinQueryCreator(dbf, schemaFactory, domainClass, tree, accessor);
+        Map<String, Object> bindings = new HashMap<>();
+        int index = 0;
+        for (Object value : accessor) {
+            bindings.put(bindingName(index++), value);
+        }
 
-        GraphTraversal pipeline = creator.createQuery();
         Pageable pageable = accessor.getPageable();
+        KeysetPageRequest keyset = null;
+        if (!ignorePaging && pageable instanceof KeysetPageRequest && ((KeysetPageRequest) pageable).isSeek()) {
+            keyset = (KeysetPageRequest) pageable;
+            bindings.put(KEYSET_BINDING, keyset.getKey());
+        }
+
+        Graph graph = dbf.graph();
+        // Counting ignores the paging and has no use for sorting
+        Sort sort = ignorePaging ? Sort.unsorted() : accessor.getSort();
+        GraphTraversal pipeline = (GraphTraversal) getTemplate(sort, keyset).apply(graph.traversal(), bindings);
         if (pageable != null && pageable.isPaged() && !ignorePaging) {
-            return pipeline.range(pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
+            pipeline = pipeline.range(pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(GraphUtil.queryToString(graph, pipeline));
         }
         return pipeline;
     }
 
+    /**
+     * Returns the template of this query for the given dynamic sort and keyset, creating it on first use once the schemas are
+     * available.
+     */
+    private GremlinTraversalTemplate getTemplate(Sort sort, KeysetPageRequest keyset) {
+        Pageable pageable = keyset == null ? Pageable.unpaged() : KeysetPageRequest.after(new Bytecode.Binding<>(KEYSET_BINDING, null), 1, keyset.getSort());
+        List<Object> key = Arrays.asList(sort, pageable);
+        GremlinTraversalTemplate template = templates.get(key);
+        if (template == null) {
+            GremlinQueryCreator creator = new GremlinQueryCreator(dbf, schemaFactory, domainClass, tree, new TemplateParameterAccessor(sort, pageable));
+            template = GremlinTraversalTemplate.of(creator.createQuery().asAdmin().getBytecode());
+            if (sort.isUnsorted() || templates.size() < MAX_SORTED_TEMPLATES) {
+                templates.putIfAbsent(key, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Counts over equality predicates on indexed properties are cached, keyed by the method and its values.
+     */
+    @Override
+    public List<?> getCountKey(Object[] values) {
+        if (indexedEquality == null) {
+            indexedEquality = isIndexedEquality();
+        }
+        return indexedEquality ? Arrays.asList(method.getName(), Arrays.asList(values)) : null;
+    }
+
+    /**
+     * @return true if the tree is a conjunction of equality predicates on indexed properties of the domain class
+     */
+    private boolean isIndexedEquality() {
+        Iterator<PartTree.OrPart> orParts = tree.iterator();
+        if (!orParts.hasNext()) {
+            return false;
+        }
+        GremlinSchema<?> schema = schemaFactory.getSchema(domainClass);
+        for (Part part : orParts.next()) {
+            if (part.getType() != Part.Type.SIMPLE_PROPERTY || part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER || part.getProperty().hasNext()) {
+                return false;
+            }
+            GremlinProperty property = schema.getPropertyForFieldname(part.getProperty().getSegment());
+            if (property == null || (property.getIndex() != IndexType.UNIQUE && property.getIndex() != IndexType.NON_UNIQUE)) {
+                return false;
+            }
+        }
+        return !orParts.hasNext();
+    }
+
+    private static String bindingName(int index) {
+        return "placeholder_" + index;
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.data.orient.repository.object.query.AbstractOrientQuery#isCountQuery()
      */
@@ -75,5 +184,67 @@ public class PartTreeGremlinQuery extends AbstractGremlinQuery {
         return tree.isDelete();
     }
 
+    /**
+     * A {@link ParameterAccessor} handing out a {@link Bytecode.Binding} for each bindable parameter, in the same order as the
+     * values of a {@link ParametersParameterAccessor}.
+     */
+    private static class TemplateParameterAccessor implements ParameterAccessor {
+
+        private final Sort sort;
+
+        private final Pageable pageable;
+
+        private TemplateParameterAccessor(Sort sort, Pageable pageable) {
+            this.sort = sort;
+            this.pageable = pageable;
+        }
+
+        @Override
+        public Pageable getPageable() {
+            return pageable;
+        }
+
+        @Override
+        public Sort getSort() {
+            return sort;
+        }
+
+        @Override
+        public Optional<Class<?>> getDynamicProjection() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Class<?> findDynamicProjection() {
+            return null;
+        }
 
+        @Override
+        public Object getBindableValue(int index) {
+            return new Bytecode.Binding<>(bindingName(index), null);
+        }
+
+        @Override
+        public boolean hasBindableNullValue() {
+            return false;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Object next() {
+                    return getBindableValue(index++);
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package org.springframework.data.gremlin.query;
+
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+import java.util.stream.Stream;
+
+/**
+ * A {@link RepositoryQuery} of a reactive repository, executing a blocking {@link AbstractGremlinQuery} through
+ * {@link ReactiveGremlinTransactions}. Methods returning a {@code Flux} stream the results of the query as they are requested,
+ * other methods return a {@code Mono} of its result.
+ */
+public class ReactiveGremlinQuery implements RepositoryQuery {
+
+    private final AbstractGremlinQuery query;
+
+    private final ReactiveGremlinTransactions transactions;
+
+    public ReactiveGremlinQuery(AbstractGremlinQuery query, ReactiveGremlinTransactions transactions) {
+        this.query = query;
+        this.transactions = transactions;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object execute(Object[] parameters) {
+        if (query.getQueryMethod().isReactiveStreamQuery()) {
+            return transactions.flux(() -> (Stream<Object>) query.execute(parameters));
+        }
+        return transactions.mono(() -> query.execute(parameters));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+     */
+    @Override
+    public GremlinQueryMethod getQueryMethod() {
+        return query.getQueryMethod();
+    }
+}
@@ -1,33 +1,62 @@
 package org.springframework.data.gremlin.query;
 
-import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.accessor.AbstractGremlinFieldPropertyAccessor;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
 import org.springframework.data.gremlin.utils.GraphUtil;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.util.ClassUtils;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.script.Bindings;
-import javax.script.ScriptEngine;
+import javax.script.CompiledScript;
 import javax.script.ScriptException;
 
 
 /**
  * A concrete {@link AbstractGremlinQuery} which handles String based gremlin queries defined using the {@link org.springframework.data.gremlin.annotation.Query} annotation.
+ * <p>
+ * The query is rewritten to use named bindings for its parameters and compiled once through the shared {@link GremlinScriptCache}.
+ * </p>
+ * <p>
+ * The parameters of a modifying query which are written to, or compared with, a property of the entity, as in
+ * {@code property('awesome', ?)}, are encoded as a save would write them, so that enums, JSON and serializable values can be bound.
+ * </p>
+ * <p>
+ * When the {@value #QUERY_TEMPLATES_KEY} system property is set, the query is instead parsed into a {@link GremlinTraversalTemplate}
+ * and executed without the script engine. Queries outside of the subset understood by the template parser fall back to the
+ * script engine.
+ * </p>
  *
  * @author Gman
  */
 public class StringBasedGremlinQuery extends AbstractGremlinQuery {
 
+    public static final String QUERY_TEMPLATES_KEY = "sdg-query-templates";
+
+    /** A {@code property('name', binding)} or {@code has('name', binding)} step of a query. */
+    private static final Pattern PROPERTY_BINDING = Pattern.compile("\\.(?:property|has)\\(\\s*['\"]([^'\"]+)['\"]\\s*,\\s*(\\w+)\\s*\\)");
+
     private static final Logger logger = LoggerFactory.getLogger(StringBasedGremlinQuery.class);
 
     private GremlinGraphFactory dbf;
@@ -38,55 +67,165 @@ public class StringBasedGremlinQuery extends AbstractGremlinQuery {
 
     private boolean modifyingQuery;
 
+    /** The names of the properties bound to the parameters of a modifying query, by binding name. */
+    private final Map<String, String> propertyBindings = new HashMap<>();
+
+    private final GremlinScriptCache scriptCache;
+
+    private volatile CompiledScript compiledQuery;
+
+    private volatile GremlinTraversalTemplate template;
+
     public StringBasedGremlinQuery(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter, String query, GremlinQueryMethod method) {
+        this(dbf, schemaFactory, graphAdapter, query, method, new GremlinScriptCache());
+    }
+
+    public StringBasedGremlinQuery(GremlinGraphFactory dbf, GremlinSchemaFactory schemaFactory, GremlinGraphAdapter graphAdapter, String query, GremlinQueryMethod method,
+                                   GremlinScriptCache scriptCache) {
         super(schemaFactory, method, graphAdapter);
         this.dbf = dbf;
-        this.queryString = query;
         this.countQuery = method.hasAnnotatedQuery() && method.getQueryAnnotation().count();
         this.modifyingQuery = method.hasAnnotatedQuery() && method.getQueryAnnotation().modify();
+        this.scriptCache = scriptCache;
+        this.queryString = bindParameterNames(query, method.getParameters());
+        if (modifyingQuery) {
+            Set<String> bindingNames = bindingNames(method.getParameters());
+            Matcher matcher = PROPERTY_BINDING.matcher(queryString);
+            while (matcher.find()) {
+                if (bindingNames.contains(matcher.group(2))) {
+                    propertyBindings.put(matcher.group(2), matcher.group(1));
+                }
+            }
+        }
+        if (Boolean.getBoolean(QUERY_TEMPLATES_KEY)) {
+            try {
+                this.template = GremlinTraversalTemplate.parse(queryString, bindingNames(method.getParameters()));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Could not parse Gremlin query {} of {} into a traversal template, falling back to the script engine: {}", queryString, method, e.getMessage());
+            }
+        }
+        if (template == null) {
+            this.compiledQuery = compile();
+        }
+    }
+
+    private CompiledScript compile() {
+        try {
+            return scriptCache.compile(queryString);
+        } catch (ScriptException e) {
+            throw new IllegalArgumentException(String.format("Could not compile Gremlin query String %s. Error: %s ", queryString, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Rewrites the positional ({@code ?}) and named ({@code :name}) placeholders of the query into binding names, so the
+     * query text is independent of the parameter values and can be compiled once.
+     */
+    private static String bindParameterNames(String query, Parameters<?, ?> parameters) {
+        for (Parameter param : parameters.getBindableParameters()) {
+            Optional<String> paramName = param.getName();
+            if (!paramName.isPresent()) {
+                query = query.replaceFirst("\\?", positionalBindingName(param));
+            } else {
+                query = query.replaceFirst(param.getPlaceholder(), Matcher.quoteReplacement(paramName.get()));
+            }
+        }
+        return query;
+    }
+
+    private static Set<String> bindingNames(Parameters<?, ?> parameters) {
+        Set<String> names = new HashSet<>();
+        for (Parameter param : parameters.getBindableParameters()) {
+            names.add(bindingName(param));
+        }
+        return names;
+    }
+
+    private static String bindingName(Parameter param) {
+        Optional<String> paramName = param.getName();
+        return paramName.isPresent() ? paramName.get() : positionalBindingName(param);
+    }
+
+    private static String positionalBindingName(Parameter param) {
+        return "placeholder_" + param.getIndex();
     }
 
     @Override
     @SuppressWarnings("rawtypes")
     protected Object doRunQuery(DefaultParameters parameters, Object[] values, boolean ignorePaging) {
 
-        ScriptEngine engine = new GremlinGroovyScriptEngine();
-        Bindings bindings = engine.createBindings();
         Graph graph = dbf.graph();
-        bindings.put("g", graph.traversal());
-        bindings.put("graph", graph.traversal());
-        bindings.put("G", graph.traversal());
-
-        String queryString = this.queryString;
+        GraphTraversalSource source = graph.traversal();
+
+        Object result = null;
+        GremlinTraversalTemplate template = this.template;
+        if (template != null) {
+            Map<String, Object> bindingValues = new HashMap<>();
+            for (Parameter param : parameters.getBindableParameters()) {
+                bindingValues.put(bindingName(param), encode(bindingName(param), values[param.getIndex()]));
+            }
+            try {
+                result = template.apply(source, bindingValues);
+            } catch (IllegalStateException e) {
+                logger.warn("Could not translate Gremlin query {} from its traversal template, falling back to the script engine: {}", queryString, e.getMessage());
+                this.compiledQuery = compile();
+                this.template = template = null;
+            }
+        }
 
-        for (Parameter param : parameters.getBindableParameters()) {
-            Optional<String> paramName = param.getName();
-            String placeholder = param.getPlaceholder();
-            Object val = values[param.getIndex()];
-            if (! paramName.isPresent()) {
-                placeholder = "placeholder_" + param.getIndex();
-                queryString = queryString.replaceFirst("\\?", placeholder);
-                bindings.put(placeholder, val);
-            } else {
-                queryString = queryString.replaceFirst(placeholder, paramName.get());
-                bindings.put(paramName.get(), val);
+        if (template == null) {
+            Bindings bindings = scriptCache.createBindings();
+            bindings.put("g", source);
+            bindings.put("graph", source);
+            bindings.put("G", source);
+            for (Parameter param : parameters.getBindableParameters()) {
+                bindings.put(bindingName(param), encode(bindingName(param), values[param.getIndex()]));
+            }
+            try {
+                result = scriptCache.eval(compiledQuery, bindings);
+            } catch (ScriptException e) {
+                throw new IllegalArgumentException(String.format("Could not evaluate Gremlin query String %s. Error: %s ", queryString, e.getMessage()), e);
             }
         }
 
         ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
         Pageable pageable = accessor.getPageable();
-        if (pageable != null && pageable.isPaged() && !ignorePaging) {
-            queryString = String.format("%s.range(%d, %d)", queryString, pageable.getOffset(), pageable.getOffset() + pageable.getPageSize() );
+        Sort sort = accessor.getSort();
+        boolean seek = pageable instanceof KeysetPageRequest && ((KeysetPageRequest) pageable).isSeek();
+        if ((seek || sort.isSorted()) && !ignorePaging && result instanceof GraphTraversal) {
+            GremlinSchema<?> schema = schemaFactory.getSchema(method.getEntityInformation().getJavaType());
+            if (seek) {
+                KeysetPageRequest keyset = (KeysetPageRequest) pageable;
+                GraphUtil.seek((GraphTraversal) result, schema, keyset.getOrder(), keyset.getKey());
+            }
+            GraphUtil.order((GraphTraversal) result, schema, sort);
+        }
+        if (pageable != null && pageable.isPaged() && !ignorePaging && result instanceof GraphTraversal) {
+            result = ((GraphTraversal) result).range(pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
         }
 
-        try {
-
-            logger.info(GraphUtil.queryToString(graph, (GraphTraversal)engine.eval(queryString, bindings)));
+        if (logger.isDebugEnabled() && result instanceof GraphTraversal) {
+            logger.debug(GraphUtil.queryToString(graph, (GraphTraversal) result));
+        }
+        return result;
+    }
 
-            return engine.eval(queryString, bindings);
-        } catch (ScriptException e) {
-            throw new IllegalArgumentException(String.format("Could not evaluate Gremlin query String %s. Error: %s ", queryString, e.getMessage()), e);
+    /**
+     * Encodes the value of the given binding as the property it is bound to, if it is a value of the field of the property.
+     */
+    private Object encode(String bindingName, Object value) {
+        String propertyName = propertyBindings.get(bindingName);
+        if (propertyName == null || value == null) {
+            return value;
+        }
+        GremlinProperty property = schemaFactory.getSchema(method.getEntityInformation().getJavaType()).getProperty(propertyName);
+        if (property != null && property.getAccessor() instanceof AbstractGremlinFieldPropertyAccessor) {
+            AbstractGremlinFieldPropertyAccessor<?> accessor = (AbstractGremlinFieldPropertyAccessor<?>) property.getAccessor();
+            if (ClassUtils.isAssignableValue(accessor.getField().getType(), value)) {
+                return accessor.toPropertyValue(value);
+            }
         }
+        return value;
     }
 
     @Override
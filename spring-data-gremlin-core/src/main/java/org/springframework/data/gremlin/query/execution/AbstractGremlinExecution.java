@@ -1,18 +1,25 @@
 package org.springframework.data.gremlin.query.execution;
 
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.gremlin.query.AbstractGremlinQuery;
 import org.springframework.data.gremlin.query.CompositeResult;
+import org.springframework.data.gremlin.query.GremlinProjection;
+import org.springframework.data.gremlin.query.KeysetPageRequest;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinLoadingGroup;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.gremlin.utils.GenericsUtil;
+import org.springframework.data.gremlin.utils.GraphUtil;
 import org.springframework.data.repository.query.DefaultParameters;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Query execution strategies.
@@ -43,7 +50,8 @@ public abstract class AbstractGremlinExecution {
      * @return the result
      */
     public Object execute(AbstractGremlinQuery query, Object[] values) {
-        return doExecute(query, values);
+        // The entities of the results read their elements together, but those of a stream are only loaded once it is consumed
+        return GremlinLoadingGroup.batch(() -> doExecute(query, values));
     }
 
     /**
@@ -64,6 +72,73 @@ public abstract class AbstractGremlinExecution {
         return map;
     }
 
+    /**
+     * Appends the steps reading the properties of the {@link GremlinProjection} of the given query, if it returns one, to the
+     * given traversal. The key of a {@link KeysetPageRequest} is read as well, for {@link #keysetContinuation}.
+     */
+    protected GraphTraversal project(AbstractGremlinQuery query, GraphTraversal traversal, Pageable pageable) {
+        GremlinProjection projection = query.getProjection();
+        if (projection == null) {
+            return traversal;
+        }
+        if (pageable instanceof KeysetPageRequest) {
+            return projection.apply(traversal, GraphUtil.propertyName(entitySchema(query), ((KeysetPageRequest) pageable).getOrder()));
+        }
+        return projection.apply(traversal);
+    }
+
+    /**
+     * Returns the function mapping the results of the given query to its result objects: entities, {@link Map}s,
+     * {@link CompositeResult}s or projections.
+     */
+    protected Function<Object, Object> elementMapper(AbstractGremlinQuery query) {
+        return elementMapper(query, true);
+    }
+
+    /**
+     * Returns the function mapping the results of the given query to its result objects, loading the entities apart from the
+     * identity map of the transaction unless they are to be shared.
+     */
+    @SuppressWarnings("unchecked")
+    protected Function<Object, Object> elementMapper(AbstractGremlinQuery query, boolean shared) {
+        GremlinProjection projection = query.getProjection();
+        if (projection != null) {
+            return result -> projection.map(result, graphAdapter, shared);
+        }
+
+        Class<?> mappedType = query.getQueryMethod().getResultElementType();
+
+        if (mappedType.isAssignableFrom(Map.class)) {
+            return element -> elementToMap((Element) element);
+        } else if (mappedType == CompositeResult.class) {
+            Class<?> type = GenericsUtil.getGenericType(query.getQueryMethod().getMethod());
+            GremlinSchema mapper = schemaFactory.getSchema(type);
+            return element -> new CompositeResult<Object>(load(mapper, (Element) element, shared), elementToMap((Element) element));
+        }
+        GremlinSchema mapper = schemaFactory.getSchema(mappedType);
+        return element -> load(mapper, (Element) element, shared);
+    }
+
+    private Object load(GremlinSchema<?> mapper, Element element, boolean shared) {
+        return shared ? mapper.loadFromGraph(graphAdapter, element) : mapper.loadUnsharedFromGraph(graphAdapter, element);
+    }
+
+    /**
+     * Returns the given pageable or, for a {@link KeysetPageRequest}, a copy knowing the key of the last of the given results
+     * to continue after.
+     */
+    protected Pageable keysetContinuation(AbstractGremlinQuery query, Pageable pageable, List<?> results) {
+        if (!(pageable instanceof KeysetPageRequest) || results.isEmpty()) {
+            return pageable;
+        }
+        KeysetPageRequest keyset = (KeysetPageRequest) pageable;
+        return keyset.withLastKey(GremlinProjection.value(results.get(results.size() - 1), GraphUtil.propertyName(entitySchema(query), keyset.getOrder())));
+    }
+
+    protected GremlinSchema entitySchema(AbstractGremlinQuery query) {
+        return schemaFactory.getSchema(query.getQueryMethod().getEntityInformation().getJavaType());
+    }
+
     @SuppressWarnings("unchecked")
     protected List<Object> buildList(AbstractGremlinQuery query, Class<?> mappedType, Object[] values) {
 
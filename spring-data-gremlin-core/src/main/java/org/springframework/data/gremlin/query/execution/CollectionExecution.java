@@ -6,6 +6,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.gremlin.query.AbstractGremlinQuery;
 import org.springframework.data.gremlin.query.CompositeResult;
+import org.springframework.data.gremlin.query.KeysetPageRequest;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
@@ -19,6 +20,10 @@ import java.util.Map;
 
 /**
  * Executes the query to return a collection of entities.
+ * <p>
+ * A {@link org.springframework.data.domain.Page} is counted with a {@link CountExecution}, also when it is requested with a
+ * {@link KeysetPageRequest}. A {@link org.springframework.data.domain.Slice}, returned by the {@link SliceExecution}, is not.
+ * </p>
  *
  * @author Gman
  */
@@ -39,26 +44,29 @@ public class CollectionExecution extends AbstractGremlinExecution {
     protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
         Class<?> mappedType = query.getQueryMethod().getReturnedObjectType();
 
-        Iterable<Element> elements = ((GraphTraversal) query.runQuery(parameters, values)).toList();
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+        Pageable pageable = accessor.getPageable();
+
+        List<Object> elements = project(query, (GraphTraversal) query.runQuery(parameters, values), pageable).toList();
 
         List<Object> objects = new ArrayList<Object>();
-        if (mappedType.isAssignableFrom(Map.class)) {
-            buildMapList(elements, objects);
+        if (query.getProjection() != null) {
+            elements.stream().map(elementMapper(query)).forEach(objects::add);
+        } else if (mappedType.isAssignableFrom(Map.class)) {
+            buildMapList((List) elements, objects);
 
         } else if (mappedType == CompositeResult.class) {
             Class<?> type = GenericsUtil.getGenericType(query.getQueryMethod().getMethod());
             GremlinSchema mapper = schemaFactory.getSchema(type);
-            buildCompositeResults(mapper, elements, objects);
+            buildCompositeResults(mapper, (List) elements, objects);
         } else {
             GremlinSchema mapper = schemaFactory.getSchema(mappedType);
-            buildEntityList(mapper, elements, objects);
+            buildEntityList(mapper, (List) elements, objects);
         }
 
-        ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
-        Pageable pageable = accessor.getPageable();
         if (pageable != null &&  pageable.isPaged()) {
             long total = (Long) new CountExecution(schemaFactory, parameters, graphAdapter).doExecute(query, values);
-            return new PageImpl<Object>(objects, pageable, total);
+            return new PageImpl<Object>(objects, keysetContinuation(query, pageable, elements), total);
         }
 
         return objects;
@@ -2,10 +2,13 @@ package org.springframework.data.gremlin.query.execution;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.springframework.data.gremlin.query.AbstractGremlinQuery;
+import org.springframework.data.gremlin.repository.GremlinCountCache;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.repository.query.DefaultParameters;
 
+import java.util.List;
+
 /**
  * Executes the query to return the sum of entities.
  *
@@ -26,6 +29,16 @@ public class CountExecution extends AbstractGremlinExecution {
          */
     @Override
     protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
-        return ((GraphTraversal) query.runQuery(parameters, values, true)).count().next();
+        GremlinCountCache countCache = graphAdapter.getCountCache();
+        List<?> key = countCache == null ? null : query.getCountKey(values);
+        if (key == null) {
+            return count(query, values);
+        }
+        List<String> labels = schemaFactory.getSchema(query.getQueryMethod().getEntityInformation().getJavaType()).getClassNames();
+        return countCache.count(labels, key, () -> count(query, values));
+    }
+
+    private long count(AbstractGremlinQuery query, Object[] values) {
+        return (Long) ((GraphTraversal) query.runQuery(parameters, values, true)).count().next();
     }
 }
@@ -1,12 +1,21 @@
 package org.springframework.data.gremlin.query.execution;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.springframework.data.gremlin.query.AbstractGremlinQuery;
+import org.springframework.data.gremlin.query.PartTreeGremlinQuery;
+import org.springframework.data.gremlin.repository.GremlinCountCache;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.repository.query.DefaultParameters;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 /**
- * Executes the query to return a sum of entities.
+ * Executes a modifying query to return the number of elements modified.
  *
  * @author Gman
  */
@@ -24,6 +33,52 @@ public class ModifyExecution extends AbstractGremlinExecution {
          */
     @Override
     protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
-        return query.runQuery(parameters, values, true);
+        GremlinCountCache countCache = graphAdapter.getCountCache();
+        if (countCache != null) {
+            if (query instanceof PartTreeGremlinQuery) {
+                // A derived delete drops elements of its domain class, along with the edges of its vertices
+                List<String> labels = new ArrayList<>(entitySchema(query).getClassNames());
+                labels.addAll(Arrays.asList(countCache.getCountedEdgeLabels()));
+                countCache.clear(labels);
+            } else {
+                // A string based query may write elements of any label
+                countCache.clear();
+            }
+        }
+        Object result = query.runQuery(parameters, values, true);
+        Map<Object, Object> identityMap = graphAdapter.getIdentityMap();
+        if (!(result instanceof Traversal)) {
+            if (identityMap != null) {
+                identityMap.clear();
+            }
+            return result;
+        }
+        // A Gremlin query modifies the graph as it is iterated
+        Traversal<?, ?> traversal = (Traversal<?, ?>) result;
+        List<Object> ids = new ArrayList<>();
+        boolean known = true;
+        long count = 0;
+        while (traversal.hasNext()) {
+            Object next = traversal.next();
+            if (next instanceof Element) {
+                ids.add(((Element) next).id());
+            } else {
+                known = false;
+            }
+            count++;
+        }
+        if (identityMap != null) {
+            // The entities loaded from the modified elements are stale; a query emitting no elements may have modified any of them
+            if (known && count > 0) {
+                identityMap.keySet().removeAll(ids);
+            } else {
+                identityMap.clear();
+            }
+        }
+        Class<?> returnType = query.getQueryMethod().getReturnedObjectType();
+        if (returnType == int.class || returnType == Integer.class) {
+            return (int) count;
+        }
+        return count;
     }
 }
@@ -1,7 +1,7 @@
 package org.springframework.data.gremlin.query.execution;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.springframework.data.gremlin.query.AbstractGremlinQuery;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.schema.GremlinSchema;
@@ -30,8 +30,8 @@ public class SingleEntityExecution extends AbstractGremlinExecution {
     protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
         Class<?> mappedType = query.getQueryMethod().getReturnedObjectType();
 
-        List<Vertex> vertices = ((GraphTraversal)query.runQuery(parameters, values)).toList();
-        Vertex vertex;
+        List<Object> vertices = project(query, (GraphTraversal) query.runQuery(parameters, values), null).toList();
+        Object vertex;
         if (vertices.size() > 1) {
             throw new IllegalArgumentException("The query resulted in multiple Vertices. Expected only one result for this Execution.");
         }
@@ -42,13 +42,15 @@ public class SingleEntityExecution extends AbstractGremlinExecution {
             return null;
         }
 
-        if (mappedType.isAssignableFrom(Map.class)) {
+        if (query.getProjection() != null) {
+            return query.getProjection().map(vertex, graphAdapter);
+        } else if (mappedType.isAssignableFrom(Map.class)) {
 
-            Map<String, Object> map = elementToMap(vertex);
+            Map<String, Object> map = elementToMap((Element) vertex);
             return map;
         } else {
             GremlinSchema mapper = schemaFactory.getSchema(mappedType);
-            return mapper.loadFromGraph(graphAdapter, vertex);
+            return mapper.loadFromGraph(graphAdapter, (Element) vertex);
 
         }
     }
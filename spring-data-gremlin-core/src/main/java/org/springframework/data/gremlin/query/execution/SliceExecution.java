@@ -0,0 +1,124 @@
+package org.springframework.data.gremlin.query.execution;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.query.AbstractGremlinQuery;
+import org.springframework.data.gremlin.query.KeysetPageRequest;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Executes the query to return a {@link org.springframework.data.domain.Slice} of entities.
+ * <p>
+ * Rather than counting all the results, one more element than the page size is fetched to tell whether there is a next slice.
+ * For a {@link KeysetPageRequest} the slice's pageable carries the key of its last element, so that its
+ * {@link org.springframework.data.domain.Slice#nextPageable()} seeks straight to the next slice.
+ * </p>
+ */
+public class SliceExecution extends AbstractGremlinExecution {
+
+    /**
+     * Instantiates a new {@link org.springframework.data.gremlin.query.execution.SliceExecution}.
+     */
+    public SliceExecution(GremlinSchemaFactory schemaFactory, DefaultParameters parameters, GremlinGraphAdapter graphAdapter) {
+        super(schemaFactory, parameters, graphAdapter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+        Pageable pageable = accessor.getPageable();
+
+        Object[] lookaheadValues = values;
+        if (pageable.isPaged()) {
+            lookaheadValues = values.clone();
+            lookaheadValues[parameters.getPageableIndex()] = lookahead(pageable);
+        }
+
+        List<Object> elements = project(query, (GraphTraversal) query.runQuery(parameters, lookaheadValues), pageable).toList();
+        boolean hasNext = pageable.isPaged() && elements.size() > pageable.getPageSize();
+        if (hasNext) {
+            elements = elements.subList(0, pageable.getPageSize());
+        }
+
+        pageable = keysetContinuation(query, pageable, elements);
+
+        Function<Object, Object> mapper = elementMapper(query);
+        List<Object> objects = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            objects.add(mapper.apply(element));
+        }
+        return new SliceImpl<>(objects, pageable, hasNext);
+    }
+
+    /**
+     * @return a pageable for the same elements as the given one, plus the first element of the next page
+     */
+    static Pageable lookahead(Pageable pageable) {
+        if (pageable instanceof KeysetPageRequest) {
+            return ((KeysetPageRequest) pageable).withPageSize(pageable.getPageSize() + 1);
+        }
+        return new LookaheadPageable(pageable);
+    }
+
+    /**
+     * A pageable one element larger than the one it wraps, at the same offset, as are the pageables it leads to.
+     */
+    static class LookaheadPageable implements Pageable {
+
+        private final Pageable pageable;
+
+        LookaheadPageable(Pageable pageable) {
+            this.pageable = pageable;
+        }
+
+        @Override
+        public int getPageNumber() {
+            return pageable.getPageNumber();
+        }
+
+        @Override
+        public int getPageSize() {
+            return pageable.getPageSize() + 1;
+        }
+
+        @Override
+        public long getOffset() {
+            return pageable.getOffset();
+        }
+
+        @Override
+        public Sort getSort() {
+            return pageable.getSort();
+        }
+
+        @Override
+        public Pageable next() {
+            return new LookaheadPageable(pageable.next());
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return new LookaheadPageable(pageable.previousOrFirst());
+        }
+
+        @Override
+        public Pageable first() {
+            return new LookaheadPageable(pageable.first());
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return pageable.hasPrevious();
+        }
+    }
+}
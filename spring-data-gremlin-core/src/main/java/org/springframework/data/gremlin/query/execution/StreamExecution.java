@@ -0,0 +1,63 @@
+package org.springframework.data.gremlin.query.execution;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.query.AbstractGremlinQuery;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+/**
+ * Executes the query to return a {@link Stream} or {@link java.util.Iterator} of entities.
+ * <p>
+ * Elements are mapped as they are consumed, so the result is never held in memory as a whole: the entities are not kept in the
+ * identity map of the transaction either. The traversal is closed when the Stream is closed or, at the latest, when the
+ * surrounding transaction completes.
+ * </p>
+ */
+public class StreamExecution extends AbstractGremlinExecution {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamExecution.class);
+
+    /**
+     * Instantiates a new {@link org.springframework.data.gremlin.query.execution.StreamExecution}.
+     */
+    public StreamExecution(GremlinSchemaFactory schemaFactory, DefaultParameters parameters, GremlinGraphAdapter graphAdapter) {
+        super(schemaFactory, parameters, graphAdapter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Object doExecute(AbstractGremlinQuery query, Object[] values) {
+        final GraphTraversal<?, Object> traversal = project(query, (GraphTraversal) query.runQuery(parameters, values), null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    close(traversal);
+                }
+            });
+        }
+
+        Stream<Object> stream = traversal.toStream().map(elementMapper(query, false)).onClose(() -> close(traversal));
+        if (query.getQueryMethod().isIteratorQuery()) {
+            return stream.iterator();
+        }
+        return stream;
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception e) {
+            LOGGER.warn("Could not close traversal: {}", e.getMessage());
+        }
+    }
+}
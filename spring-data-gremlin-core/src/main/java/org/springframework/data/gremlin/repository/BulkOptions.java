@@ -0,0 +1,82 @@
+package org.springframework.data.gremlin.repository;
+
+/**
+ * Options of a bulk {@link GremlinRepository#saveAll(Iterable, BulkOptions)}.
+ */
+public final class BulkOptions {
+
+    private static final int BATCH_SIZE = Integer.getInteger("sdg-bulk-batch-size", 1000);
+
+    private static final BulkOptions DEFAULTS = new BulkOptions(BATCH_SIZE, false, false);
+
+    private final int batchSize;
+
+    private final boolean deferEdges;
+
+    private final boolean upsert;
+
+    private BulkOptions(int batchSize, boolean deferEdges, boolean upsert) {
+        this.batchSize = batchSize;
+        this.deferEdges = deferEdges;
+        this.upsert = upsert;
+    }
+
+    /**
+     * @return the default options, committing every {@code sdg-bulk-batch-size} entities and writing each entity in full
+     */
+    public static BulkOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options committing every given number of entities.
+     *
+     * @param batchSize the number of entities per transaction
+     * @return the copy
+     */
+    public BulkOptions withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("The batch size must be at least 1, but was %d.", batchSize));
+        }
+        return new BulkOptions(batchSize, deferEdges, upsert);
+    }
+
+    /**
+     * Returns a copy of these options writing the edges of a batch once all of its elements have been created, so that entities
+     * of the same batch can refer to each other regardless of their order.
+     *
+     * @param deferEdges whether to write the edges in a second pass
+     * @return the copy
+     */
+    public BulkOptions withDeferredEdges(boolean deferEdges) {
+        return new BulkOptions(batchSize, deferEdges, upsert);
+    }
+
+    /**
+     * Returns a copy of these options upserting the vertex entities which have no id by their unique indexed property, as
+     * {@link GremlinRepository#upsert(Object)} does, rather than creating them.
+     *
+     * @param upsert whether to upsert the new vertex entities
+     * @return the copy
+     */
+    public BulkOptions withUpsert(boolean upsert) {
+        return new BulkOptions(batchSize, deferEdges, upsert);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isDeferEdges() {
+        return deferEdges;
+    }
+
+    public boolean isUpsert() {
+        return upsert;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOptions{batchSize=" + batchSize + ", deferEdges=" + deferEdges + ", upsert=" + upsert + '}';
+    }
+}
@@ -0,0 +1,108 @@
+package org.springframework.data.gremlin.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a bulk {@link GremlinRepository#saveAll(Iterable, BulkOptions)}: the number of entities saved, the entities
+ * which could not be saved along with the reason, and the throughput of the load.
+ *
+ * @param <S> the type of the entities
+ */
+public class BulkResult<S> {
+
+    private final long started = System.nanoTime();
+
+    private long elapsed = -1;
+
+    private long savedCount;
+
+    private int batchCount;
+
+    private final List<Failure<S>> failures = new ArrayList<>();
+
+    void saved(int count) {
+        savedCount += count;
+        batchCount++;
+    }
+
+    void failed(S entity, RuntimeException cause) {
+        failures.add(new Failure<>(entity, cause));
+    }
+
+    void finish() {
+        elapsed = System.nanoTime() - started;
+    }
+
+    /**
+     * @return the number of entities saved
+     */
+    public long getSavedCount() {
+        return savedCount;
+    }
+
+    /**
+     * @return the number of batches committed
+     */
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * @return the entities which could not be saved, in the order they were given
+     */
+    public List<Failure<S>> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * @return the duration of the load in milliseconds
+     */
+    public long getElapsedMillis() {
+        return (elapsed < 0 ? System.nanoTime() - started : elapsed) / 1000000;
+    }
+
+    /**
+     * @return the number of entities saved per second
+     */
+    public double getThroughput() {
+        long millis = Math.max(getElapsedMillis(), 1);
+        return savedCount * 1000d / millis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkResult{saved=%d, failed=%d, batches=%d, elapsed=%dms, throughput=%.1f/s}", savedCount, failures.size(), batchCount,
+                getElapsedMillis(), getThroughput());
+    }
+
+    /**
+     * An entity which could not be saved.
+     *
+     * @param <S> the type of the entity
+     */
+    public static class Failure<S> {
+
+        private final S entity;
+
+        private final RuntimeException cause;
+
+        Failure(S entity, RuntimeException cause) {
+            this.entity = entity;
+            this.cause = cause;
+        }
+
+        public S getEntity() {
+            return entity;
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+    }
+}
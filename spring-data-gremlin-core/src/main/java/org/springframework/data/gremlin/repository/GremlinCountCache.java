@@ -0,0 +1,305 @@
+package org.springframework.data.gremlin.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the number of elements per label, so that {@code count()} does not scan the label on every call.
+ * <p>
+ * A counter is loaded from the graph on first use and then adjusted by the elements the {@link GremlinGraphAdapter} creates and
+ * removes. The adjustments of a transaction are applied when it commits, and dropped when it rolls back; within the transaction
+ * they are added to the counts it reads. Writes bypassing the adapter are not seen, so counters are reloaded from the graph once
+ * they are older than {@code sdg-count-reconcile-interval} milliseconds.
+ * </p>
+ * <p>
+ * Counts of derived {@code countBy} queries over indexed equality predicates are cached as well, up to {@code sdg-count-cache-size}
+ * of them. As their elements may change without being created or removed, they are dropped whenever an element of their labels
+ * is written.
+ * </p>
+ * <p>
+ * The cache is enabled by declaring it as a bean, which the {@link GremlinGraphAdapter} picks up.
+ * </p>
+ */
+public class GremlinCountCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinCountCache.class);
+
+    private static final long RECONCILE_INTERVAL = Long.getLong("sdg-count-reconcile-interval", 60000);
+
+    private static final int MAX_PREDICATE_COUNTERS = Integer.getInteger("sdg-count-cache-size", 10000);
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<List<?>, Counter> predicateCounters = new ConcurrentHashMap<>();
+
+    private final Set<String> edgeLabels = ConcurrentHashMap.newKeySet();
+
+    private final long reconcileInterval;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    public GremlinCountCache() {
+        this(RECONCILE_INTERVAL);
+    }
+
+    /**
+     * Instantiates a new GremlinCountCache.
+     *
+     * @param reconcileInterval the number of milliseconds after which a counter is reloaded from the graph
+     */
+    public GremlinCountCache(long reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * Returns the number of elements with the given label.
+     *
+     * @param label  the label
+     * @param loader counts the elements in the graph, within the current transaction
+     * @return the number of elements
+     */
+    public long count(String label, LongSupplier loader) {
+        Pending pending = pending(false);
+        if (pending != null && (pending.cleared || pending.clearedLabels.contains(label))) {
+            return loader.getAsLong();
+        }
+        long delta = pending == null ? 0 : pending.delta(label);
+
+        Counter counter = counters.get(label);
+        if (counter == null || counter.isStale()) {
+            // The graph already holds the writes of this transaction, which are added again when it commits
+            counter = new Counter(loader.getAsLong() - delta, null);
+            counters.put(label, counter);
+            loadCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return counter.value.sum() + delta;
+    }
+
+    /**
+     * Returns the number of edges with the given label, so that the edges of a removed vertex are only walked for the labels whose
+     * edges are counted.
+     *
+     * @param label  the label of the edges
+     * @param loader counts the edges in the graph, within the current transaction
+     * @return the number of edges
+     * @see #getCountedEdgeLabels()
+     */
+    public long countEdges(String label, LongSupplier loader) {
+        edgeLabels.add(label);
+        return count(label, loader);
+    }
+
+    /**
+     * @return the labels of the edges which have a counter, whose removal must be recorded
+     */
+    public String[] getCountedEdgeLabels() {
+        return edgeLabels.stream().filter(counters::containsKey).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the number of elements of the given labels matching the given predicate.
+     *
+     * @param labels    the labels the predicate applies to
+     * @param predicate the predicate along with its values, as a key
+     * @param loader    counts the matching elements in the graph, within the current transaction
+     * @return the number of elements
+     */
+    public long count(List<String> labels, List<?> predicate, LongSupplier loader) {
+        Pending pending = pending(false);
+        if (pending != null && (pending.cleared || !disjoint(pending.written, labels))) {
+            return loader.getAsLong();
+        }
+
+        List<?> key = Arrays.asList(labels, predicate);
+        Counter counter = predicateCounters.get(key);
+        if (counter == null || counter.isStale()) {
+            counter = new Counter(loader.getAsLong(), labels);
+            if (predicateCounters.size() < MAX_PREDICATE_COUNTERS) {
+                predicateCounters.put(key, counter);
+            }
+            loadCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return counter.value.sum();
+    }
+
+    /**
+     * Records that an element with the given label has been created or removed.
+     *
+     * @param label the label
+     * @param delta 1 for a created element, -1 for a removed one
+     */
+    public void add(String label, long delta) {
+        Pending pending = pending(true);
+        if (pending != null) {
+            pending.deltas.merge(label, delta, Long::sum);
+            pending.written.add(label);
+        } else {
+            apply(label, delta);
+            written(label);
+        }
+    }
+
+    /**
+     * Records that an element with the given label has been updated.
+     *
+     * @param label the label
+     */
+    public void written(String label) {
+        Pending pending = pending(true);
+        if (pending != null) {
+            pending.written.add(label);
+        } else {
+            predicateCounters.values().removeIf(counter -> counter.labels.contains(label));
+        }
+    }
+
+    /**
+     * Drops all the counters, for writes whose elements are not known one by one.
+     */
+    public void clear() {
+        Pending pending = pending(true);
+        if (pending != null) {
+            pending.cleared = true;
+        } else {
+            LOGGER.debug("clearing the element counters");
+            counters.clear();
+            predicateCounters.clear();
+        }
+    }
+
+    /**
+     * Drops the counters of the given labels, for writes to elements of these labels which are not known one by one.
+     *
+     * @param labels the labels
+     */
+    public void clear(Collection<String> labels) {
+        Pending pending = pending(true);
+        if (pending != null) {
+            pending.clearedLabels.addAll(labels);
+            pending.written.addAll(labels);
+        } else {
+            LOGGER.debug("clearing the counters of {}", labels);
+            counters.keySet().removeAll(labels);
+            predicateCounters.values().removeIf(counter -> !disjoint(labels, counter.labels));
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    private void apply(String label, long delta) {
+        Counter counter = counters.get(label);
+        if (counter != null) {
+            counter.value.add(delta);
+        }
+    }
+
+    /**
+     * @return the writes of the current transaction, registering them if asked to, or null outside of a transaction
+     */
+    private Pending pending(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private static boolean disjoint(Collection<String> written, List<String> labels) {
+        for (String label : labels) {
+            if (written.contains(label)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class Counter {
+
+        private final LongAdder value = new LongAdder();
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        private final List<String> labels;
+
+        private Counter(long value, List<String> labels) {
+            this.value.add(value);
+            this.labels = labels;
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - loadedAt > reconcileInterval;
+        }
+    }
+
+    /**
+     * The writes of a transaction, applied to the counters once it has committed.
+     */
+    private class Pending extends TransactionSynchronizationAdapter {
+
+        private final Map<String, Long> deltas = new HashMap<>();
+
+        private final Set<String> written = new HashSet<>();
+
+        private final Set<String> clearedLabels = new HashSet<>();
+
+        private boolean cleared;
+
+        private long delta(String label) {
+            return deltas.getOrDefault(label, 0L);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(GremlinCountCache.this);
+            if (status != TransactionSynchronization.STATUS_COMMITTED) {
+                return;
+            }
+            if (cleared) {
+                LOGGER.debug("clearing the element counters");
+                counters.clear();
+                predicateCounters.clear();
+                return;
+            }
+            deltas.forEach(GremlinCountCache.this::apply);
+            if (!clearedLabels.isEmpty()) {
+                LOGGER.debug("clearing the counters of {}", clearedLabels);
+                counters.keySet().removeAll(clearedLabels);
+            }
+            if (!written.isEmpty()) {
+                predicateCounters.values().removeIf(counter -> !disjoint(written, counter.labels));
+            }
+        }
+    }
+}
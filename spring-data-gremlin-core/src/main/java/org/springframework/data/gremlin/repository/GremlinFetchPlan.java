@@ -0,0 +1,486 @@
+package org.springframework.data.gremlin.repository;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedProperty;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertexProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.annotation.FetchPlan;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.LazyInitializationHandler;
+import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
+import org.springframework.data.gremlin.schema.property.GremlinCollectionProperty;
+import org.springframework.data.gremlin.schema.property.GremlinCollectionViaProperty;
+import org.springframework.data.gremlin.schema.property.GremlinLinkProperty;
+import org.springframework.data.gremlin.schema.property.GremlinLinkViaProperty;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The relations to load eagerly with some entities, as paths of related fields separated by dots, e.g. {@code "address.area"}.
+ * <p>
+ * Fetching the plan for entities loaded from the graph reads the elements along all its paths, with their properties and the edges
+ * between them, in a single {@code project} traversal from the elements of the entities. The entities along each path are then
+ * initialized level by level from the results of the traversal rather than from their elements, so that none of them reads the
+ * graph on its own. The relations which are not on a path stay lazy.
+ * </p>
+ * <p>
+ * A plan can be declared on a query method with {@link FetchPlan}, or fetched for any entities, e.g.
+ * {@code GremlinFetchPlan.of("address.area").fetch(repository.findByLastName("Webber"))}. Only {@code @Link}, {@code @LinkVia}
+ * and the vertices of edge entities can be fetched.
+ * </p>
+ */
+public final class GremlinFetchPlan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinFetchPlan.class);
+
+    // The keys of the results of the fetch traversal, the other keys being the fetched fields
+    private static final String ELEMENT = "~element";
+    private static final String VALUES = "~values";
+    private static final String EDGE = "~edge";
+    private static final String RELATED = "~related";
+
+    private final List<String> paths;
+
+    private final Node root = new Node();
+
+    private GremlinFetchPlan(List<String> paths) {
+        this.paths = Collections.unmodifiableList(paths);
+        for (String path : paths) {
+            Node node = root;
+            for (String field : path.split("\\.", -1)) {
+                if (field.trim().isEmpty()) {
+                    throw new IllegalArgumentException(String.format("Could not parse the fetch path '%s', as it has an empty field.", path));
+                }
+                node = node.children.computeIfAbsent(field.trim(), key -> new Node());
+            }
+        }
+    }
+
+    /**
+     * @param paths the paths of the related fields to load eagerly
+     * @return the fetch plan
+     */
+    public static GremlinFetchPlan of(String... paths) {
+        if (paths.length == 0) {
+            throw new IllegalArgumentException("A fetch plan needs at least one path.");
+        }
+        return new GremlinFetchPlan(Arrays.asList(paths));
+    }
+
+    /**
+     * @param fetchPlan the annotation of a query method
+     * @return the fetch plan declared by the annotation
+     */
+    public static GremlinFetchPlan of(FetchPlan fetchPlan) {
+        return of(fetchPlan.value());
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Loads the relations of this plan for the given entities.
+     *
+     * @param result an entity, an {@link Optional} entity, or an {@link Iterable} of entities such as a list or a page; streams and
+     *               iterators are left lazy, as they would have to be consumed
+     * @return the given result
+     */
+    public <R> R fetch(R result) {
+        Collection<?> entities;
+        if (result instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            ((Iterable<?>) result).forEach(list::add);
+            entities = list;
+        } else if (result instanceof Optional) {
+            entities = ((Optional<?>) result).map(Collections::singletonList).orElse(Collections.emptyList());
+        } else if (result != null) {
+            entities = Collections.singletonList(result);
+        } else {
+            entities = Collections.emptyList();
+        }
+
+        // Only the entities loaded from the graph have a schema and an element to fetch from
+        Map<GremlinSchema<?>, List<Object>> bySchema = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            GremlinSchema<?> schema = LazyInitializationHandler.getSchema(entity);
+            if (schema != null) {
+                bySchema.computeIfAbsent(schema, key -> new ArrayList<>()).add(entity);
+            }
+        }
+        for (Map.Entry<GremlinSchema<?>, List<Object>> entry : bySchema.entrySet()) {
+            initialize(root, entry.getKey(), entry.getValue(), prefetch(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the elements along the paths, with their properties and the edges to the next elements, in one traversal.
+     *
+     * @return the results of the traversal keyed by the ids of the elements of the given entities, or an empty map if it failed
+     */
+    private Map<Object, Map<String, Object>> prefetch(GremlinSchema<?> schema, List<Object> entities) {
+        Traversal<Element, Map<String, Object>> fetch = fetchTraversal(root, schema);
+
+        Element first = LazyInitializationHandler.getElement(entities.get(0));
+        Object[] ids = entities.stream().map(entity -> LazyInitializationHandler.getElement(entity).id()).toArray();
+        try {
+            GraphTraversalSource g = first.graph().traversal();
+            GraphTraversal<?, ? extends Element> start = schema.isEdgeSchema() ? g.E(ids) : g.V(ids);
+            Map<Object, Map<String, Object>> fetched = byId(start.map(fetch).toList());
+            LOGGER.debug("Fetched {} for {} {} entities", paths, ids.length, schema.getClassName());
+            return fetched;
+        } catch (RuntimeException e) {
+            // The entities are still initialized, just from their own elements
+            LOGGER.debug("Could not fetch {} for {} entities: {}", paths, schema.getClassName(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the traversal from an element of the given schema to a map of the element, its properties and, for each child of the
+     * given node, the results of the traversal of the child for each of its related elements
+     */
+    @SuppressWarnings("unchecked")
+    private static Traversal<Element, Map<String, Object>> fetchTraversal(Node node, GremlinSchema<?> schema) {
+        List<String> keys = new ArrayList<>();
+        keys.add(VALUES);
+        keys.addAll(node.children.keySet());
+        GraphTraversal<Element, Map<String, Object>> traversal = __.<Element>start().<Object>project(ELEMENT, keys.toArray(new String[0]))
+                                                                    .by(__.identity()).by(__.valueMap());
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            GremlinRelatedProperty<?> property = getRelatedProperty(schema, child.getKey());
+            traversal = traversal.by(relatedTraversal(property, fetchTraversal(child.getValue(), property.getRelatedSchema())).fold());
+        }
+        return traversal;
+    }
+
+    /**
+     * @return the traversal from the elements holding the given property to the results of the given traversal for each of their
+     * related elements, along with the edge to each for links
+     */
+    @SuppressWarnings("unchecked")
+    private static GraphTraversal<?, ?> relatedTraversal(GremlinRelatedProperty<?> property, Traversal<Element, Map<String, Object>> fetch) {
+        if (property instanceof GremlinLinkProperty || property instanceof GremlinCollectionProperty) {
+            GraphTraversal<Edge, Vertex> otherV = property.getDirection() == Direction.OUT ? __.inV() : __.outV();
+            return __.toE(property.getDirection(), property.getName()).project(EDGE, RELATED).by(__.identity()).by(otherV.map((Traversal) fetch));
+        }
+        if (property instanceof GremlinLinkViaProperty || property instanceof GremlinCollectionViaProperty) {
+            return __.toE(property.getDirection(), property.getRelatedSchema().getClassName()).map((Traversal) fetch);
+        }
+        if (property instanceof GremlinAdjacentProperty) {
+            return __.toV(property.getDirection()).map((Traversal) fetch);
+        }
+        throw new IllegalArgumentException(String.format("Could not fetch %s of %s, as only links and their vertices can be fetched.",
+                                                         property.getName(), property.getSchema().getClassName()));
+    }
+
+    /**
+     * Initializes the given entities from the results of the fetch traversal for their elements, and then the related entities of
+     * each path level by level. An entity without results is initialized from its own element.
+     */
+    @SuppressWarnings("unchecked")
+    private void initialize(Node node, GremlinSchema<?> schema, Collection<?> entities, Map<Object, Map<String, Object>> fetched) {
+        for (Object entity : entities) {
+            Map<String, Object> result = fetchedOf(entity, fetched);
+            if (result != null) {
+                LazyInitializationHandler.initProxy(entity, view(node, schema, result));
+            } else {
+                LazyInitializationHandler.initProxy(entity);
+            }
+        }
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            GremlinRelatedProperty<?> property = getRelatedProperty(schema, child.getKey());
+            boolean link = property instanceof GremlinLinkProperty || property instanceof GremlinCollectionProperty;
+            List<Object> related = new ArrayList<>();
+            List<Map<String, Object>> relatedResults = new ArrayList<>();
+            for (Object entity : entities) {
+                Object value = property.getAccessor().get(entity);
+                if (value instanceof Collection) {
+                    related.addAll((Collection<?>) value);
+                } else if (value != null) {
+                    related.add(value);
+                }
+                Map<String, Object> result = fetchedOf(entity, fetched);
+                if (result != null) {
+                    for (Object item : (List<?>) result.get(child.getKey())) {
+                        relatedResults.add(link ? (Map<String, Object>) ((Map<?, ?>) item).get(RELATED) : (Map<String, Object>) item);
+                    }
+                }
+            }
+            if (!related.isEmpty()) {
+                initialize(child.getValue(), property.getRelatedSchema(), related, byId(relatedResults));
+            }
+        }
+    }
+
+    /**
+     * @return a view of the element of the given result of the fetch traversal, reading its properties and the fetched edges or
+     * vertices of the children of the given node from the result
+     */
+    @SuppressWarnings("unchecked")
+    private static Element view(Node node, GremlinSchema<?> schema, Map<String, Object> result) {
+        Element element = (Element) result.get(ELEMENT);
+        Map<String, ?> values = (Map<String, ?>) result.get(VALUES);
+        if (element instanceof Vertex) {
+            Map<String, List<Edge>> edges = new HashMap<>();
+            for (String field : node.children.keySet()) {
+                GremlinRelatedProperty<?> property = getRelatedProperty(schema, field);
+                List<Edge> fetchedEdges = new ArrayList<>();
+                String label;
+                if (property instanceof GremlinLinkProperty || property instanceof GremlinCollectionProperty) {
+                    label = property.getName();
+                    for (Object item : (List<?>) result.get(field)) {
+                        fetchedEdges.add((Edge) ((Map<?, ?>) item).get(EDGE));
+                    }
+                } else {
+                    label = property.getRelatedSchema().getClassName();
+                    for (Object item : (List<?>) result.get(field)) {
+                        fetchedEdges.add((Edge) ((Map<?, ?>) item).get(ELEMENT));
+                    }
+                }
+                edges.put(FetchedVertex.key(property.getDirection(), label), fetchedEdges);
+            }
+            return new FetchedVertex((Vertex) element, values, edges);
+        }
+        Map<Direction, Vertex> vertices = new EnumMap<>(Direction.class);
+        for (String field : node.children.keySet()) {
+            GremlinRelatedProperty<?> property = getRelatedProperty(schema, field);
+            for (Object item : (List<?>) result.get(field)) {
+                vertices.put(property.getDirection(), (Vertex) ((Map<?, ?>) item).get(ELEMENT));
+            }
+        }
+        return new FetchedEdge((Edge) element, values, vertices);
+    }
+
+    private static Map<String, Object> fetchedOf(Object entity, Map<Object, Map<String, Object>> fetched) {
+        Element element = LazyInitializationHandler.getElement(entity);
+        return element == null ? null : fetched.get(element.id());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Map<String, Object>> byId(List<? extends Map<String, Object>> results) {
+        Map<Object, Map<String, Object>> byId = new HashMap<>();
+        for (Map<String, Object> result : results) {
+            byId.putIfAbsent(((Element) result.get(ELEMENT)).id(), result);
+        }
+        return byId;
+    }
+
+    private static GremlinRelatedProperty<?> getRelatedProperty(GremlinSchema<?> schema, String field) {
+        for (GremlinSchema<?> current = schema; current != null; current = current.getSuperSchema()) {
+            GremlinProperty property = current.getPropertyForFieldname(field);
+            if (property instanceof GremlinRelatedProperty) {
+                return (GremlinRelatedProperty<?>) property;
+            }
+            if (property != null) {
+                throw new IllegalArgumentException(String.format("Could not fetch %s of %s, as it is not a relation.", field, schema.getClassName()));
+            }
+        }
+        throw new IllegalArgumentException(String.format("Could not fetch %s, as it is not a field of %s.", field, schema.getClassName()));
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinFetchPlan" + paths;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new LinkedHashMap<>();
+    }
+
+    /**
+     * A vertex whose properties, and edges along the fetched relations, are those of the results of the fetch traversal. Any other
+     * call, such as a write or the edges of another relation, goes to the vertex itself.
+     */
+    private static final class FetchedVertex implements Vertex {
+
+        private final Vertex vertex;
+
+        private final Map<String, ?> values;
+
+        private final Map<String, List<Edge>> edges;
+
+        private FetchedVertex(Vertex vertex, Map<String, ?> values, Map<String, List<Edge>> edges) {
+            this.vertex = vertex;
+            this.values = values;
+            this.edges = edges;
+        }
+
+        private static String key(Direction direction, String label) {
+            return direction + ":" + label;
+        }
+
+        @Override
+        public Object id() {
+            return vertex.id();
+        }
+
+        @Override
+        public String label() {
+            return vertex.label();
+        }
+
+        @Override
+        public Graph graph() {
+            return vertex.graph();
+        }
+
+        @Override
+        public Edge addEdge(String label, Vertex inVertex, Object... keyValues) {
+            return vertex.addEdge(label, inVertex, keyValues);
+        }
+
+        @Override
+        public <V> VertexProperty<V> property(VertexProperty.Cardinality cardinality, String key, V value, Object... keyValues) {
+            return vertex.property(cardinality, key, value, keyValues);
+        }
+
+        @Override
+        public Iterator<Edge> edges(Direction direction, String... edgeLabels) {
+            List<Edge> fetched = edgeLabels.length == 1 ? edges.get(key(direction, edgeLabels[0])) : null;
+            return fetched != null ? fetched.iterator() : vertex.edges(direction, edgeLabels);
+        }
+
+        @Override
+        public Iterator<Vertex> vertices(Direction direction, String... edgeLabels) {
+            return vertex.vertices(direction, edgeLabels);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Iterator<VertexProperty<V>> properties(String... propertyKeys) {
+            List<VertexProperty<V>> properties = new ArrayList<>();
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                if (propertyKeys.length == 0 || Arrays.asList(propertyKeys).contains(entry.getKey())) {
+                    for (Object value : (List<?>) entry.getValue()) {
+                        properties.add(new DetachedVertexProperty<>(null, entry.getKey(), (V) value, Collections.emptyMap()));
+                    }
+                }
+            }
+            return properties.iterator();
+        }
+
+        @Override
+        public void remove() {
+            vertex.remove();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return ElementHelper.areEqual(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return vertex.toString();
+        }
+    }
+
+    /**
+     * An edge whose properties, and vertices along the fetched relations, are those of the results of the fetch traversal. Any other
+     * call goes to the edge itself.
+     */
+    private static final class FetchedEdge implements Edge {
+
+        private final Edge edge;
+
+        private final Map<String, ?> values;
+
+        private final Map<Direction, Vertex> vertices;
+
+        private FetchedEdge(Edge edge, Map<String, ?> values, Map<Direction, Vertex> vertices) {
+            this.edge = edge;
+            this.values = values;
+            this.vertices = vertices;
+        }
+
+        @Override
+        public Object id() {
+            return edge.id();
+        }
+
+        @Override
+        public String label() {
+            return edge.label();
+        }
+
+        @Override
+        public Graph graph() {
+            return edge.graph();
+        }
+
+        @Override
+        public <V> Property<V> property(String key, V value) {
+            return edge.property(key, value);
+        }
+
+        @Override
+        public Iterator<Vertex> vertices(Direction direction) {
+            Vertex fetched = vertices.get(direction);
+            return fetched != null ? Collections.singletonList(fetched).iterator() : edge.vertices(direction);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Iterator<Property<V>> properties(String... propertyKeys) {
+            List<Property<V>> properties = new ArrayList<>();
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                if (propertyKeys.length == 0 || Arrays.asList(propertyKeys).contains(entry.getKey())) {
+                    properties.add(new DetachedProperty<>(entry.getKey(), (V) entry.getValue()));
+                }
+            }
+            return properties.iterator();
+        }
+
+        @Override
+        public void remove() {
+            edge.remove();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return ElementHelper.areEqual(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return edge.toString();
+        }
+    }
+}
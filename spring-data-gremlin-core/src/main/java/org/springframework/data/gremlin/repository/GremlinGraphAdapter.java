@@ -1,5 +1,6 @@
 package org.springframework.data.gremlin.repository;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -9,10 +10,19 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.data.gremlin.tx.GremlinUnitOfWork;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Base class for creating verticies and edges on the Graph. This class can be
@@ -22,9 +32,16 @@ public class GremlinGraphAdapter<G extends Graph> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinGraphAdapter.class);
 
+    private static final int FIND_BATCH_SIZE = Integer.getInteger("sdg-find-batch-size", 1000);
+
     @Autowired
     protected GremlinGraphFactory<G> graphFactory;
 
+    @Autowired(required = false)
+    protected GremlinCountCache countCache;
+
+    private int findBatchSize = FIND_BATCH_SIZE;
+
     @Transactional(readOnly = false)
     public Vertex createVertex(String className) {
         G graph = graphFactory.graph();
@@ -36,7 +53,11 @@ public class GremlinGraphAdapter<G extends Graph> {
         if (LOGGER.isTraceEnabled()) { 
         	LOGGER.trace("CREATING VERTEX: " + className);
         }
-        return graph.addVertex(className);
+        Vertex vertex = graph.addVertex(className);
+        if (countCache != null) {
+            countCache.add(className, 1);
+        }
+        return vertex;
     }
 
     @Transactional(readOnly = true)
@@ -66,6 +87,99 @@ public class GremlinGraphAdapter<G extends Graph> {
         return playerVertex;
     }
 
+    /**
+     * Finds the vertices with the given ids with one lookup per batch of ids.
+     *
+     * @param ids the ids
+     * @return the vertices in the order of the given ids, with null for ids having no vertex
+     */
+    @Transactional(readOnly = true)
+    public List<Vertex> findVerticesById(List<String> ids) {
+        G graph = graphFactory.graph();
+        return findElementsById(ids, graph::vertices);
+    }
+
+    /**
+     * Finds the edges with the given ids with one lookup per batch of ids.
+     *
+     * @param ids the ids
+     * @return the edges in the order of the given ids, with null for ids having no edge
+     */
+    @Transactional(readOnly = true)
+    public List<Edge> findEdgesById(List<String> ids) {
+        G graph = graphFactory.graph();
+        return findElementsById(ids, graph::edges);
+    }
+
+    private <E extends Element> List<E> findElementsById(List<String> ids, Function<Object[], Iterator<E>> lookup) {
+        List<E> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += findBatchSize) {
+            List<String> batch = ids.subList(from, Math.min(from + findBatchSize, ids.size()));
+
+            Map<String, E> found = new HashMap<>();
+            Object[] decoded = batch.stream().filter(Objects::nonNull).map(this::decodeId).distinct().toArray();
+            // Looking up no ids at all would return every element
+            if (decoded.length > 0) {
+                lookup.apply(decoded).forEachRemaining(element -> found.put(element.id().toString(), element));
+            }
+
+            // As findVertexById, fall back to the raw ids which could not be found decoded
+            Object[] missing = batch.stream().filter(id -> id != null && !found.containsKey(decodeId(id)) && !id.equals(decodeId(id))).distinct().toArray();
+            if (missing.length > 0) {
+                lookup.apply(missing).forEachRemaining(element -> found.put(element.id().toString(), element));
+            }
+
+            for (String id : batch) {
+                E element = id == null ? null : found.get(decodeId(id));
+                result.add(element != null || id == null ? element : found.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the number of ids looked up at once by {@link #findVerticesById(List)} and {@link #findEdgesById(List)}, which defaults
+     * to the {@code sdg-find-batch-size} system property or 1000.
+     *
+     * @param findBatchSize the batch size
+     */
+    public void setFindBatchSize(int findBatchSize) {
+        if (findBatchSize < 1) {
+            throw new IllegalArgumentException(String.format("The find batch size must be positive, but was %d", findBatchSize));
+        }
+        this.findBatchSize = findBatchSize;
+    }
+
+    /**
+     * @return the entities loaded in the current transaction keyed by their element ids, or null if there is no transaction
+     */
+    public Map<Object, Object> getIdentityMap() {
+        return graphFactory == null ? null : graphFactory.identityMap();
+    }
+
+    /**
+     * Writes the saves pending in the {@link GremlinUnitOfWork} of the current transaction, if any, so that traversals see them.
+     */
+    public void flush() {
+        if (graphFactory != null) {
+            GremlinUnitOfWork.flush(graphFactory);
+        }
+    }
+
+    /**
+     * Reads the properties and edges of the given elements ahead, so that the proxies loaded from them one by one are served from
+     * the transaction rather than the store. This does nothing, as a traversal would only read the elements into results which are
+     * thrown away; adapters of backends which cache elements read ahead in their transactions override this.
+     *
+     * @param elements the elements of sibling proxies
+     */
+    public void prefetch(List<? extends Element> elements) {
+    }
+
+    public int getFindBatchSize() {
+        return findBatchSize;
+    }
+
     public Element refresh(Element element) {
         return element;
     }
@@ -123,19 +237,48 @@ public class GremlinGraphAdapter<G extends Graph> {
         	LOGGER.trace("CREATING EDGE " + outVertex + " -" + name + "-> " + inVertex + "...");
         }
         Edge edge = outVertex.addEdge(name, inVertex);
+        if (countCache != null) {
+            countCache.add(name, 1);
+        }
         return edge;
     }
 
     @Transactional(readOnly = false)
     public void removeEdge(Edge edge) {
+        if (countCache != null) {
+            countCache.add(edge.label(), -1);
+        }
         edge.remove();
     }
 
     @Transactional(readOnly = false)
     public void removeVertex(Vertex vertexToDelete) {
+        if (countCache != null) {
+            // The edges of the vertex are removed along with it, a self-loop being listed twice
+            String[] edgeLabels = countCache.getCountedEdgeLabels();
+            if (edgeLabels.length > 0) {
+                Set<Edge> edges = new HashSet<>();
+                vertexToDelete.edges(Direction.BOTH, edgeLabels).forEachRemaining(edges::add);
+                for (Edge edge : edges) {
+                    countCache.add(edge.label(), -1);
+                }
+            }
+            countCache.add(vertexToDelete.label(), -1);
+        }
         vertexToDelete.remove();
     }
 
+    /**
+     * @return the cache of element counts, or null if counts are not cached
+     */
+    public GremlinCountCache getCountCache() {
+        return countCache;
+    }
+
+    public void setCountCache(GremlinCountCache countCache) {
+        this.countCache = countCache;
+    }
+
     public String encodeId(String id) {
         return id;
     }
@@ -0,0 +1,33 @@
+package org.springframework.data.gremlin.repository;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Thrown when saving a versioned entity whose element has been saved since the entity was loaded.
+ */
+public class GremlinOptimisticLockingException extends OptimisticLockingFailureException {
+
+    private final Object entity;
+
+    private final Object expectedVersion;
+
+    public GremlinOptimisticLockingException(Object entity, String id, Object expectedVersion) {
+        super(String.format("Could not save %s with id %s, as it has been changed since version %s.", entity, id, expectedVersion));
+        this.entity = entity;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * @return the entity which could not be saved
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return the version of the entity, which its element no longer has
+     */
+    public Object getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -14,4 +14,41 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 public interface GremlinRepository<T> extends PagingAndSortingRepository<T, String> {
 
     <S extends T> S save(S entity, Object... noCascade);
+
+    /**
+     * Saves the given entities in batches, each committed on its own, reporting the entities which could not be saved rather
+     * than failing the whole load.
+     *
+     * @param entities the entities
+     * @param options  the batch size and whether to write edges in a second pass
+     * @return the number of entities saved, the failures and the throughput
+     */
+    <S extends T> BulkResult<S> saveAll(Iterable<S> entities, BulkOptions options);
+
+    /**
+     * Creates the given entity, or updates the element having the same value of its unique indexed property, in a single traversal
+     * rather than a query followed by a save. An entity which already has an id is saved.
+     *
+     * @param entity the entity, whose schema must have a property with a {@link org.springframework.data.gremlin.annotation.Index}
+     *               of type UNIQUE
+     * @return the entity, with the id of its element
+     */
+    <S extends T> S upsert(S entity);
+
+    /**
+     * Starts an update of some properties of the element with the given id, written without loading its entity. An element with
+     * the id which is not an element of this repository is not updated.
+     *
+     * @param id the id of the element
+     * @return the update, to {@link GremlinUpdate#set(String, Object)} the fields of and {@link GremlinUpdate#execute()}
+     */
+    GremlinUpdate<T> update(String id);
+
+    /**
+     * Starts an update of some properties of all the elements of this repository, which may be narrowed with
+     * {@link GremlinUpdate#where(String, org.apache.tinkerpop.gremlin.process.traversal.P)}.
+     *
+     * @return the update
+     */
+    GremlinUpdate<T> updateAll();
 }
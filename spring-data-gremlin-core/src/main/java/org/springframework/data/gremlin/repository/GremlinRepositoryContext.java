@@ -1,6 +1,7 @@
 package org.springframework.data.gremlin.repository;
 
 import org.springframework.data.gremlin.query.AbstractNativeGremlinQuery;
+import org.springframework.data.gremlin.query.GremlinScriptCache;
 import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.gremlin.schema.writer.SchemaWriter;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
@@ -18,6 +19,7 @@ public class GremlinRepositoryContext {
     private SchemaWriter schemaWriter;
     private Class<? extends AbstractNativeGremlinQuery> nativeQueryType;
     private Class<? extends GremlinRepository> repositoryType;
+    private GremlinScriptCache scriptCache = new GremlinScriptCache();
 
     public GremlinRepositoryContext(GremlinGraphFactory graphFactory, GremlinGraphAdapter graphAdapter, GremlinSchemaFactory schemaFactory) {
         this(graphFactory, graphAdapter, schemaFactory, null);
@@ -66,4 +68,15 @@ public class GremlinRepositoryContext {
     public Class<? extends AbstractNativeGremlinQuery> getNativeQueryType() {
         return nativeQueryType;
     }
+
+    /**
+     * @return the {@link GremlinScriptCache} shared by all declared queries of this context
+     */
+    public GremlinScriptCache getScriptCache() {
+        return scriptCache;
+    }
+
+    public void setScriptCache(GremlinScriptCache scriptCache) {
+        this.scriptCache = scriptCache;
+    }
 }
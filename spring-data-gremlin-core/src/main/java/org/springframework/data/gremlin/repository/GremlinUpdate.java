@@ -0,0 +1,207 @@
+package org.springframework.data.gremlin.repository;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+import org.springframework.data.gremlin.schema.property.accessor.AbstractGremlinFieldPropertyAccessor;
+import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An update of some properties of the elements of a repository, written in a single traversal without loading their entities.
+ * <p>
+ * Fields are resolved to their properties through {@link GremlinSchema#getPropertyForFieldname(String)} and the values are encoded
+ * by the accessors of the properties, so that enums, JSON and serializable values are written as a save writes them. Setting a
+ * null value removes the property, and any other value must be a value of the field. Only plain properties can be updated, and the
+ * version of versioned entities is incremented.
+ * </p>
+ * <p>
+ * An update runs in the current transaction, or commits on its own when there is none. The entities of the updated elements are
+ * dropped from the identity map of the transaction, so that they are loaded again with the new values.
+ * </p>
+ *
+ * @param <T> the type of the entities
+ */
+public class GremlinUpdate<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinUpdate.class);
+
+    private final GremlinGraphFactory dbf;
+
+    private final GremlinGraphAdapter graphAdapter;
+
+    private final GremlinSchema<T> schema;
+
+    private final Supplier<GraphTraversal<?, ? extends Element>> elements;
+
+    private final Map<GremlinProperty, P<?>> conditions = new LinkedHashMap<>();
+
+    private final Map<GremlinProperty, Object> values = new LinkedHashMap<>();
+
+    GremlinUpdate(GremlinGraphFactory dbf, GremlinGraphAdapter graphAdapter, GremlinSchema<T> schema,
+                  Supplier<GraphTraversal<?, ? extends Element>> elements) {
+        this.dbf = dbf;
+        this.graphAdapter = graphAdapter;
+        this.schema = schema;
+        this.elements = elements;
+    }
+
+    /**
+     * Only updates the elements whose given field matches the given predicate.
+     *
+     * @param field     the name of the field
+     * @param predicate the predicate, whose value is given as a value of the field
+     * @return this update
+     */
+    @SuppressWarnings("unchecked")
+    public GremlinUpdate<T> where(String field, P<?> predicate) {
+        GremlinProperty property = getProperty(field);
+        P<Object> condition = ((P<Object>) predicate).clone();
+        if (!(condition instanceof ConnectiveP)) {
+            Object value = condition.getValue();
+            if (value instanceof Collection) {
+                List<Object> encoded = new ArrayList<>();
+                for (Object element : (Collection<?>) value) {
+                    encoded.add(encode(property, element));
+                }
+                condition.setValue(encoded);
+            } else {
+                condition.setValue(encode(property, value));
+            }
+        }
+        conditions.put(property, condition);
+        return this;
+    }
+
+    /**
+     * Sets the given field to the given value.
+     *
+     * @param field the name of the field
+     * @param value the value of the field, or null to remove its property
+     * @return this update
+     */
+    public GremlinUpdate<T> set(String field, Object value) {
+        GremlinProperty property = getProperty(field);
+        if (property == schema.getVersionProperty()) {
+            throw new IllegalArgumentException(String.format("Could not set %s of %s, as it is its version.", field, schema.getClassName()));
+        }
+        values.put(property, encode(property, value));
+        return this;
+    }
+
+    /**
+     * Writes the properties set to the matching elements.
+     *
+     * @return the number of elements updated
+     */
+    public long execute() {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        // The pending saves may be updated
+        graphAdapter.flush();
+        Graph graph = dbf.graph();
+        boolean commit = !TransactionSynchronizationManager.isActualTransactionActive();
+        try {
+            long count = write();
+            if (commit) {
+                dbf.commitTx(graph);
+            }
+            return count;
+        } catch (RuntimeException e) {
+            if (commit) {
+                dbf.rollbackTx(graph);
+            }
+            throw e;
+        }
+    }
+
+    private long write() {
+        GraphTraversal<?, ? extends Element> traversal = elements.get();
+        for (Map.Entry<GremlinProperty, P<?>> condition : conditions.entrySet()) {
+            traversal = traversal.has(condition.getKey().getName(), condition.getValue());
+        }
+        for (Map.Entry<GremlinProperty, Object> value : values.entrySet()) {
+            String name = value.getKey().getName();
+            if (value.getValue() == null) {
+                traversal = traversal.sideEffect(__.properties(name).drop());
+            } else {
+                traversal = traversal.property(name, value.getValue());
+            }
+        }
+        GremlinProperty versionProperty = schema.getVersionProperty();
+        if (versionProperty != null) {
+            String name = versionProperty.getName();
+            Object zero = SimpleGremlinRepository.zeroVersion(versionProperty);
+            traversal = traversal.sideEffect(traverser -> {
+                Element element = traverser.get();
+                element.property(name, SimpleGremlinRepository.nextVersion(element.property(name).orElse(zero)));
+            });
+        }
+
+        Map<Object, Object> identityMap = graphAdapter.getIdentityMap();
+        long count = 0;
+        while (traversal.hasNext()) {
+            Element element = traversal.next();
+            if (identityMap != null) {
+                identityMap.remove(element.id());
+            }
+            count++;
+        }
+
+        GremlinCountCache countCache = graphAdapter.getCountCache();
+        if (countCache != null && count > 0) {
+            for (String label : schema.getClassNames()) {
+                countCache.written(label);
+            }
+        }
+        LOGGER.debug("updated {} of {} {} elements", values.keySet(), count, schema.getClassName());
+        return count;
+    }
+
+    private GremlinProperty getProperty(String field) {
+        GremlinProperty property = schema.getPropertyForFieldname(field);
+        if (property == null) {
+            throw new IllegalArgumentException(String.format("Could not update %s, as it is not a property of %s.", field, schema.getClassName()));
+        }
+        if (property instanceof GremlinRelatedProperty) {
+            throw new IllegalArgumentException(String.format("Could not update %s of %s, as only plain properties can be updated.", field,
+                                                             schema.getClassName()));
+        }
+        return property;
+    }
+
+    /**
+     * Encodes the given value of the field of the given property as the property.
+     *
+     * @throws IllegalArgumentException if the value is not a value of the field
+     */
+    private Object encode(GremlinProperty property, Object value) {
+        if (value != null && property.getAccessor() instanceof AbstractGremlinFieldPropertyAccessor) {
+            AbstractGremlinFieldPropertyAccessor<?> accessor = (AbstractGremlinFieldPropertyAccessor<?>) property.getAccessor();
+            Class<?> type = accessor.getField().getType();
+            if (!ClassUtils.isAssignableValue(type, value)) {
+                throw new IllegalArgumentException(String.format("Could not update %s of %s to %s, as it is not a %s.", accessor.getField().getName(),
+                                                                 schema.getClassName(), value, type.getName()));
+            }
+            return accessor.toPropertyValue(value);
+        }
+        return value;
+    }
+}
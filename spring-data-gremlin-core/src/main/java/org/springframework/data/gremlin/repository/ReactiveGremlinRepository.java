@@ -0,0 +1,16 @@
+package org.springframework.data.gremlin.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * The reactive counterpart of {@link GremlinRepository}, returning {@link reactor.core.publisher.Mono}s and
+ * {@link reactor.core.publisher.Flux}es. Its derived and {@link org.springframework.data.gremlin.annotation.Query} methods may
+ * return them as well.
+ *
+ * @param <T> the generic type to handle
+ * @see org.springframework.data.gremlin.tx.ReactiveGremlinTransactions
+ */
+@NoRepositoryBean
+public interface ReactiveGremlinRepository<T> extends ReactiveSortingRepository<T, String> {
+}
@@ -1,6 +1,10 @@
 package org.springframework.data.gremlin.repository;
 
-import org.apache.commons.lang.NotImplementedException;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -10,20 +14,39 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.annotation.Index;
 import org.springframework.data.gremlin.schema.GremlinEdgeSchema;
+import org.springframework.data.gremlin.schema.GremlinLoadingGroup;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.LazyInitializationHandler;
 import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.data.gremlin.tx.GremlinUnitOfWork;
+import org.springframework.data.gremlin.utils.GraphUtil;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.PagingAndSortingRepository} interface for Gremlin.
@@ -37,6 +60,9 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SimpleGremlinRepository.class);
 
+    /** The number of elements {@link #deleteAll()} removes before committing them. */
+    private static final int DELETE_BATCH_SIZE = Integer.getInteger("sdg-delete-batch-size", 10000);
+
     protected GremlinGraphFactory dbf;
 
     protected GremlinSchema<T> schema;
@@ -65,10 +91,19 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
     //    }
 
     private Element create(GremlinSchema<? extends T> schema, Graph graph, final T object, Object... noCascade) {
+        Element element = createElement(schema, graph, object);
+        schema.copyToGraph(graphAdapter, element, object, noCascade);
+        return element;
+    }
+
+    /**
+     * Creates the element of the given new entity, with its version but without its properties.
+     */
+    private Element createElement(GremlinSchema<? extends T> schema, Graph graph, final T object) {
         Element element;
         if (schema.isVertexSchema()) {
             element = graphAdapter.createVertex(graph, schema.getClassName());
-            schema.copyToGraph(graphAdapter, element, object, noCascade);
+            initVersion(schema, element, object);
         } else if (schema.isEdgeSchema()) {
             GremlinEdgeSchema edgeSchema = (GremlinEdgeSchema) schema;
             GremlinAdjacentProperty adjacentOutProperty = edgeSchema.getOutProperty();
@@ -90,8 +125,7 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
             }
 
             element = graphAdapter.addEdge(null, outVertex, inVertex, schema.getClassName());
-
-            schema.copyToGraph(graphAdapter, element, object, noCascade);
+            initVersion(schema, element, object);
         } else {
             throw new IllegalStateException("Schema is neither EDGE nor VERTEX!");
         }
@@ -109,22 +143,98 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
         if (StringUtils.isEmpty(id)) {
             create(schema, graph, object);
         } else {
-            Element element;
-            if (schema.isVertexSchema()) {
-                element = graphAdapter.getVertex(schema.decodeId(id));
-            } else if (schema.isEdgeSchema()) {
-                element = graphAdapter.getEdge(schema.decodeId(id));
-            } else {
-                throw new IllegalStateException("Schema is neither EDGE nor VERTEX!");
-            }
-            if (element == null) {
-                throw new IllegalStateException(String.format("Could not save %s with id %s, as it does not exist.", object, id));
-            }
+            Element element = getElement(schema, object, id);
+            checkVersion(schema, graph, element, object, id);
             schema.copyToGraph(graphAdapter, element, object, noCascade);
+            if (graphAdapter.getCountCache() != null) {
+                graphAdapter.getCountCache().written(element.label());
+            }
         }
         return object;
     }
 
+    private Element getElement(GremlinSchema<? extends T> schema, T object, String id) {
+        Element element;
+        if (schema.isVertexSchema()) {
+            element = graphAdapter.getVertex(schema.decodeId(id));
+        } else if (schema.isEdgeSchema()) {
+            element = graphAdapter.getEdge(schema.decodeId(id));
+        } else {
+            throw new IllegalStateException("Schema is neither EDGE nor VERTEX!");
+        }
+        if (element == null) {
+            throw new IllegalStateException(String.format("Could not save %s with id %s, as it does not exist.", object, id));
+        }
+        return element;
+    }
+
+    /**
+     * Writes the version of a new versioned entity to its element, starting it at zero if the entity has none.
+     */
+    private void initVersion(GremlinSchema<? extends T> schema, Element element, T entity) {
+        GremlinProperty versionProperty = schema.getVersionProperty();
+        if (versionProperty == null) {
+            return;
+        }
+        Object version = versionProperty.getAccessor().get(entity);
+        if (version == null) {
+            version = zeroVersion(versionProperty);
+            versionProperty.getAccessor().set(entity, version);
+        }
+        element.property(versionProperty.getName(), version);
+    }
+
+    /**
+     * Increments the version of an existing versioned entity and of its element, provided the element still has the version of the
+     * entity. The check and the increment are a single conditional traversal, so that a concurrent save fails rather than being
+     * overwritten. An element saved before its entity was versioned is taken to be at version zero.
+     *
+     * @throws GremlinOptimisticLockingException if the element has been saved since the entity was loaded
+     */
+    private void checkVersion(GremlinSchema<? extends T> schema, Graph graph, Element element, T entity, String id) {
+        GremlinProperty versionProperty = schema.getVersionProperty();
+        if (versionProperty == null) {
+            return;
+        }
+        String name = versionProperty.getName();
+        Object zero = zeroVersion(versionProperty);
+        LazyInitializationHandler.initProperty(entity, versionProperty);
+        Object expected = versionProperty.getAccessor().get(entity);
+        Object current = expected == null ? zero : expected;
+        Object next = nextVersion(current);
+
+        GraphTraversal<?, ? extends Element> traversal = element instanceof Vertex ? graph.traversal().V(element.id()) : graph.traversal().E(element.id());
+        if (current.equals(zero)) {
+            traversal = traversal.or(__.hasNot(name), __.has(name, zero));
+        } else {
+            traversal = traversal.has(name, current);
+        }
+        if (!traversal.property(name, next).hasNext()) {
+            throw new GremlinOptimisticLockingException(entity, id, expected);
+        }
+        versionProperty.getAccessor().set(entity, next);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // The increment was rolled back with the element
+                        versionProperty.getAccessor().set(entity, expected);
+                    }
+                }
+            });
+        }
+    }
+
+    static Object zeroVersion(GremlinProperty versionProperty) {
+        return ClassUtils.primitiveToWrapper(versionProperty.getType()) == Integer.class ? (Object) 0 : (Object) 0L;
+    }
+
+    static Object nextVersion(Object version) {
+        return version instanceof Integer ? (Object) ((Integer) version + 1) : (Object) (((Number) version).longValue() + 1);
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         return save(entity, new Object[0]);
@@ -138,10 +248,15 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
 
         GremlinSchema<? extends T> schema = this.schema.findMostSpecificSchema(s.getClass());
         String id = schema.getObjectId(s);
+        if (graphAdapter.isValidId(id) && !LazyInitializationHandler.isLoaded(s)) {
+            return s;
+        }
+        GremlinUnitOfWork unitOfWork = GremlinUnitOfWork.current(dbf);
+        if (unitOfWork != null && !unitOfWork.isFlushing()) {
+            unitOfWork.register(s, new PendingSave(schema, s, noCascade));
+            return s;
+        }
         if (graphAdapter.isValidId(id)) {
-            if (!LazyInitializationHandler.isInitialized(s)) {
-                return s;
-            }
             save(schema, graph, s, noCascade);
         } else {
             create(schema, graph, s, noCascade);
@@ -170,8 +285,345 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
         return iterable;
     }
 
+    /**
+     * Saves the given entities in batches of {@link BulkOptions#getBatchSize()} entities. When this method begins the transaction,
+     * it commits each batch; within the transaction of a caller, all the batches are committed with it. Within a batch the entities
+     * are grouped by schema and the schemas are resolved once per class.
+     * <p>
+     * An entity which cannot be saved is reported in the result and the load goes on. The element created for a new entity is
+     * removed along with its edges, and its id cleared, so that it is not committed with the batch; the elements of the related
+     * entities it cascaded to are kept, and an existing entity may be left partly updated. When a batch fails to commit, it is
+     * rolled back and all of its entities are reported, the ids of the new ones being cleared; the related entities they cascaded
+     * to may keep the ids of the rolled back elements.
+     * </p>
+     *
+     * @param entities the entities
+     * @param options  the bulk options
+     * @return the number of entities saved and the entities which could not be
+     */
+    @Transactional(readOnly = false)
+    @Override
+    public <S extends T> BulkResult<S> saveAll(Iterable<S> entities, BulkOptions options) {
+        graphAdapter.flush();
+        BulkResult<S> result = new BulkResult<>();
+        Graph graph = dbf.graph();
+        Map<Class<?>, GremlinSchema<? extends T>> schemas = new HashMap<>();
+        boolean commitBatches = ownsTransaction();
+
+        List<S> batch = new ArrayList<>(options.getBatchSize());
+        for (Iterator<S> iterator = entities.iterator(); iterator.hasNext(); ) {
+            batch.add(iterator.next());
+            if (batch.size() == options.getBatchSize() || !iterator.hasNext()) {
+                saveBatch(graph, batch, schemas, options.isDeferEdges(), options.isUpsert(), commitBatches, result);
+                batch.clear();
+            }
+        }
+
+        if (graphAdapter.getCountCache() != null) {
+            // The batches may have been committed behind the back of the transaction synchronization of the counters
+            graphAdapter.getCountCache().clear();
+        }
+        result.finish();
+        LOGGER.debug("Saved {} entities in bulk: {}", schema.getClassName(), result);
+        return result;
+    }
+
+    private <S extends T> void saveBatch(Graph graph, List<S> batch, Map<Class<?>, GremlinSchema<? extends T>> schemas, boolean deferEdges,
+                                         boolean upsert, boolean commit, BulkResult<S> result) {
+        Map<GremlinSchema<? extends T>, List<S>> groups = new LinkedHashMap<>();
+        for (S entity : batch) {
+            GremlinSchema<? extends T> entitySchema = schemas.computeIfAbsent(entity.getClass(), schema::findMostSpecificSchema);
+            groups.computeIfAbsent(entitySchema, key -> new ArrayList<>()).add(entity);
+        }
+
+        Map<S, GremlinSchema<? extends T>> written = new IdentityHashMap<>();
+        Set<S> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        // The elements created for the new entities, to be removed if their entities fail
+        Map<S, Element> createdElements = new IdentityHashMap<>();
+        Map<S, Element> deferred = new IdentityHashMap<>();
+        for (Map.Entry<GremlinSchema<? extends T>, List<S>> group : groups.entrySet()) {
+            GremlinSchema<? extends T> entitySchema = group.getKey();
+            for (S entity : group.getValue()) {
+                try {
+                    boolean create = !graphAdapter.isValidId(entitySchema.getObjectId(entity));
+                    if (create) {
+                        created.add(entity);
+                    }
+                    if (entitySchema.isVertexSchema() && (deferEdges || upsert && create)) {
+                        Element element = vertexOf(entitySchema, graph, entity, upsert);
+                        if (create && (!upsert || !element.property(uniqueKey(entitySchema, entity).getName()).isPresent())) {
+                            createdElements.put(entity, element);
+                        }
+                        if (deferEdges) {
+                            // Only the plain properties for now, the edges are written once the whole batch has its vertices
+                            writeProperties(entitySchema, element, entity, new IdentityHashMap<>(), GremlinSchema.PLAIN_PROPERTIES);
+                            deferred.put(entity, element);
+                        } else {
+                            entitySchema.copyToGraph(graphAdapter, element, entity);
+                        }
+                    } else if (!deferEdges || !entitySchema.isEdgeSchema()) {
+                        saveNew(entitySchema, graph, entity, create, createdElements);
+                    }
+                    written.put(entity, entitySchema);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Could not save {}: {}", entity, e.getMessage());
+                    discard(entitySchema, entity, createdElements.remove(entity));
+                    result.failed(entity, e);
+                }
+            }
+        }
+
+        if (deferEdges) {
+            for (Map.Entry<GremlinSchema<? extends T>, List<S>> group : groups.entrySet()) {
+                GremlinSchema<? extends T> entitySchema = group.getKey();
+                for (S entity : group.getValue()) {
+                    try {
+                        if (deferred.containsKey(entity)) {
+                            writeEdges(entitySchema, deferred.get(entity), entity, new HashMap<>());
+                        } else if (entitySchema.isEdgeSchema()) {
+                            saveNew(entitySchema, graph, entity, created.contains(entity), createdElements);
+                            written.put(entity, entitySchema);
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.debug("Could not save {}: {}", entity, e.getMessage());
+                        written.remove(entity);
+                        discard(entitySchema, entity, createdElements.remove(entity));
+                        result.failed(entity, e);
+                    }
+                }
+            }
+        }
+
+        if (!commit) {
+            result.saved(written.size());
+            return;
+        }
+        try {
+            dbf.commitTx(graph);
+            result.saved(written.size());
+            LOGGER.debug("committed a batch of {} {} entities", written.size(), schema.getClassName());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not commit a batch of {} {} entities: {}", written.size(), schema.getClassName(), e.getMessage());
+            dbf.rollbackTx(graph);
+            for (Map.Entry<S, GremlinSchema<? extends T>> entry : written.entrySet()) {
+                if (created.contains(entry.getKey())) {
+                    entry.getValue().getIdAccessor().set(entry.getKey(), null);
+                }
+                result.failed(entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Saves the given entity of a bulk save, recording the element created for it if it is new.
+     */
+    private <S extends T> void saveNew(GremlinSchema<? extends T> schema, Graph graph, S entity, boolean create, Map<S, Element> createdElements) {
+        if (create) {
+            Element element = createElement(schema, graph, entity);
+            createdElements.put(entity, element);
+            schema.copyToGraph(graphAdapter, element, entity);
+        } else {
+            save(schema, graph, entity);
+        }
+    }
+
+    /**
+     * Removes the element created for an entity which could not be saved, along with its edges, and clears the id of the entity.
+     */
+    private void discard(GremlinSchema<? extends T> schema, T entity, Element element) {
+        if (element == null) {
+            return;
+        }
+        LOGGER.debug("removing the {} element of {}", element.label(), entity);
+        element.remove();
+        schema.getIdAccessor().set(entity, null);
+    }
+
+    @Override
+    public GremlinUpdate<T> update(String id) {
+        return new GremlinUpdate<>(dbf, graphAdapter, schema, () -> {
+            // An element of another repository is not updated
+            GraphTraversalSource source = dbf.graph().traversal();
+            List<String> labels = schema.getClassNames();
+            String[] otherLabels = labels.subList(1, labels.size()).toArray(new String[0]);
+            if (schema.isVertexSchema()) {
+                Vertex vertex = graphAdapter.findVertexById(id);
+                return vertex == null ? source.V().limit(0) : source.V(vertex).hasLabel(labels.get(0), otherLabels);
+            } else if (schema.isEdgeSchema()) {
+                Edge edge = graphAdapter.findEdgeById(id);
+                return edge == null ? source.E().limit(0) : source.E(edge).hasLabel(labels.get(0), otherLabels);
+            }
+            throw new IllegalStateException("Schema is neither VERTEX nor EDGE!");
+        });
+    }
+
+    @Override
+    public GremlinUpdate<T> updateAll() {
+        return new GremlinUpdate<>(dbf, graphAdapter, schema, this::findAllTraversal);
+    }
+
+    @Transactional(readOnly = false)
+    @Override
+    public <S extends T> S upsert(S entity) {
+        GremlinSchema<? extends T> schema = this.schema.findMostSpecificSchema(entity.getClass());
+        if (graphAdapter.isValidId(schema.getObjectId(entity))) {
+            return save(entity);
+        }
+        if (!schema.isVertexSchema()) {
+            throw new IllegalStateException(String.format("Could not upsert %s, as only vertices can be upserted.", entity));
+        }
+        // The pending saves may hold the element of the key
+        graphAdapter.flush();
+        Graph graph = dbf.graph();
+        schema.copyToGraph(graphAdapter, upsertVertex(schema, graph, entity), entity);
+        return entity;
+    }
+
+    /**
+     * Finds the vertex having the value of the unique indexed property of the given entity, or creates it, in a single
+     * {@code fold().coalesce(unfold(), addV())} traversal. The entity takes on the version of an existing vertex, as it has not been
+     * loaded from it.
+     *
+     * @return the vertex, whose properties are left to be written
+     */
+    private Vertex upsertVertex(GremlinSchema<? extends T> schema, Graph graph, T entity) {
+        GremlinProperty key = uniqueKey(schema, entity);
+        LazyInitializationHandler.initProperty(entity, key);
+        Object value = key.getAccessor().get(entity);
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Could not upsert %s, as its %s is null.", entity, key.getName()));
+        }
+
+        String label = schema.getClassName();
+        Vertex vertex = graph.traversal().V().has(label, key.getName(), value).fold().coalesce(__.unfold(), __.addV(label)).next();
+
+        GremlinCountCache countCache = graphAdapter.getCountCache();
+        if (vertex.property(key.getName()).isPresent()) {
+            GremlinProperty versionProperty = schema.getVersionProperty();
+            if (versionProperty != null) {
+                versionProperty.getAccessor().set(entity, vertex.property(versionProperty.getName()).orElse(zeroVersion(versionProperty)));
+                checkVersion(schema, graph, vertex, entity, vertex.id().toString());
+            }
+            if (countCache != null) {
+                countCache.written(label);
+            }
+        } else {
+            initVersion(schema, vertex, entity);
+            if (countCache != null) {
+                countCache.add(label, 1);
+            }
+        }
+        return vertex;
+    }
+
+    /**
+     * @return the unique indexed property by which the given entity is upserted
+     */
+    private GremlinProperty uniqueKey(GremlinSchema<? extends T> schema, T entity) {
+        return schema.getPropertyStream()
+                     .filter(property -> property.getIndex() == Index.IndexType.UNIQUE && !(property instanceof GremlinRelatedProperty))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalStateException(
+                             String.format("Could not upsert %s, as %s has no unique indexed property.", entity, schema.getClassName())));
+    }
+
+    /**
+     * Creates or updates the vertex of the given entity with its plain properties, leaving its edges to {@link #writeEdges}.
+     *
+     * @param upsert whether a new entity is upserted by its unique indexed property rather than created
+     * @return the vertex
+     */
+    private Element writeVertex(GremlinSchema<? extends T> schema, Graph graph, T entity, Map<Object, Element> noCascadingMap, boolean upsert) {
+        Element element = vertexOf(schema, graph, entity, upsert);
+        writeProperties(schema, element, entity, noCascadingMap, GremlinSchema.PLAIN_PROPERTIES);
+        return element;
+    }
+
+    /**
+     * Finds the vertex of the given existing entity, checking its version, or upserts or creates the vertex of a new entity, without
+     * writing its properties.
+     *
+     * @param upsert whether a new entity is upserted by its unique indexed property rather than created
+     * @return the vertex
+     */
+    private Element vertexOf(GremlinSchema<? extends T> schema, Graph graph, T entity, boolean upsert) {
+        String id = schema.getObjectId(entity);
+        Element element;
+        if (graphAdapter.isValidId(id)) {
+            element = getElement(schema, entity, id);
+            checkVersion(schema, graph, element, entity, id);
+            if (graphAdapter.getCountCache() != null) {
+                graphAdapter.getCountCache().written(element.label());
+            }
+        } else if (upsert) {
+            element = upsertVertex(schema, graph, entity);
+        } else {
+            element = createElement(schema, graph, entity);
+        }
+        return element;
+    }
+
+    /**
+     * Writes the related properties of the given entity, whose vertex has been written by {@link #writeVertex}.
+     */
+    private void writeEdges(GremlinSchema<? extends T> schema, Element element, T entity, Map<Object, Element> noCascadingMap) {
+        writeProperties(schema, element, entity, noCascadingMap, GremlinSchema.RELATED_PROPERTIES);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeProperties(GremlinSchema<? extends T> schema, Element element, T entity, Map<Object, Element> noCascadingMap,
+                                 Predicate<? super GremlinProperty> filter) {
+        ((GremlinSchema<T>) schema).cascadeCopyToGraph(graphAdapter, element, entity, noCascadingMap, filter);
+    }
+
+    /**
+     * A save held back in the {@link GremlinUnitOfWork} of its transaction. The vertex of a vertex entity is written first and its
+     * edges after the vertices of all the pending entities; an edge entity is written with the edges.
+     */
+    private final class PendingSave implements GremlinUnitOfWork.Write {
+
+        private final GremlinSchema<? extends T> schema;
+
+        private final T entity;
+
+        private final Object[] noCascade;
+
+        private Element element;
+
+        private PendingSave(GremlinSchema<? extends T> schema, T entity, Object[] noCascade) {
+            this.schema = schema;
+            this.entity = entity;
+            this.noCascade = noCascade;
+        }
+
+        @Override
+        public void writeElement() {
+            if (schema.isVertexSchema()) {
+                element = writeVertex(schema, dbf.graph(), entity, noCascadingMap(), false);
+            }
+        }
+
+        @Override
+        public void writeEdges() {
+            if (element != null) {
+                SimpleGremlinRepository.this.writeEdges(schema, element, entity, noCascadingMap());
+            } else {
+                save(schema, dbf.graph(), entity, noCascade);
+            }
+        }
+
+        private Map<Object, Element> noCascadingMap() {
+            Map<Object, Element> noCascadingMap = new IdentityHashMap<>();
+            for (Object skip : noCascade) {
+                noCascadingMap.put(skip, element);
+            }
+            return noCascadingMap;
+        }
+    }
+
     @Override
     public Optional<T> findById(String id) {
+        graphAdapter.flush();
         T object = null;
         Element element;
         if (schema.isVertexSchema()) {
@@ -192,37 +644,71 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
 
     @Override
     public boolean existsById(String id) {
-        return count() == 1;
+        return findById(id).isPresent();
     }
-    
+
     @Override
     public Iterable<T> findAll() {
-        throw new NotImplementedException("Finding all vertices in Graph databases does not really make sense. So, it hasn't been implemented.");
+        return load(findAllTraversal());
     }
 
+    /**
+     * Finds the entities with the given ids, looking their elements up in batches, in the order of the given ids. Ids without an
+     * element are skipped.
+     */
     @Override
     public Iterable<T> findAllById(Iterable<String> iterable) {
-        Set<T> objects = new HashSet<T>();
-        for (String id : iterable) {
-            findById(id).ifPresent(objects::add);
+        graphAdapter.flush();
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(Lists.newArrayList(iterable)));
+        List<? extends Element> elements;
+        if (schema.isVertexSchema()) {
+            elements = graphAdapter.findVerticesById(ids);
+        } else if (schema.isEdgeSchema()) {
+            elements = graphAdapter.findEdgesById(ids);
+        } else {
+            throw new IllegalStateException("Schema is neither VERTEX nor EDGE!");
         }
-        return objects;
+
+        return GremlinLoadingGroup.batch(() -> {
+            List<T> objects = new ArrayList<>(elements.size());
+            for (Element element : elements) {
+                if (element != null) {
+                    objects.add(schema.findMostSpecificSchema(element).loadFromGraph(graphAdapter, element));
+                }
+            }
+            return objects;
+        });
     }
 
+    /**
+     * Counts the elements of the schema with a {@code count()} step, without loading them, or from the
+     * {@link GremlinCountCache} if there is one.
+     */
     @Override
     public long count() {
-        throw new NotImplementedException("Counting all vertices in Gremlin has not been implemented.");
+        graphAdapter.flush();
+        GremlinCountCache countCache = graphAdapter.getCountCache();
+        if (countCache == null) {
+            return findAllTraversal().count().next();
+        }
+        long count = 0;
+        for (String label : schema.getClassNames()) {
+            LongSupplier loader = () -> findAllTraversal(label).count().next();
+            count += schema.isEdgeSchema() ? countCache.countEdges(label, loader) : countCache.count(label, loader);
+        }
+        return count;
     }
 
     @Transactional(readOnly = false)
     @Override
     public void deleteById(String id) {
+        graphAdapter.flush();
         if (schema.isVertexSchema()) {
             Vertex v = graphAdapter.findVertexById(id);
-            v.remove();;
+            graphAdapter.removeVertex(v);
         } else if (schema.isEdgeSchema()) {
             Edge v = graphAdapter.findEdgeById(id);
-            v.remove();
+            graphAdapter.removeEdge(v);
         }
     }
 
@@ -240,20 +726,96 @@ public class SimpleGremlinRepository<T> implements GremlinRepository<T> {
         }
     }
     
+    /**
+     * Drops the elements of the schema in chunks of {@code sdg-delete-batch-size} elements, counting each chunk as it drops it.
+     * When this method begins the transaction, it commits each full chunk so that the transaction never holds more than one chunk
+     * of deletions, and the chunks committed before a failure stay deleted. Within the transaction of a caller, all the chunks are
+     * committed with it.
+     */
+    @Transactional(readOnly = false)
     @Override
     public void deleteAll() {
-        throw new NotImplementedException("Deleting all vertices in Gremlin has not been implemented.");
+        Graph graph = dbf.graph();
+        boolean commitChunks = ownsTransaction();
+        long dropped;
+        do {
+            dropped = findAllTraversal().limit(DELETE_BATCH_SIZE).sideEffect(__.drop()).count().next();
+            if (dropped == DELETE_BATCH_SIZE && commitChunks) {
+                LOGGER.debug("committing the deletion of {} {} elements", dropped, schema.getClassName());
+                dbf.commitTx(graph);
+            }
+        } while (dropped == DELETE_BATCH_SIZE);
+        // The dropped vertices took their edges with them, whatever their labels
+        Map<Object, Object> identityMap = graphAdapter.getIdentityMap();
+        if (identityMap != null) {
+            identityMap.clear();
+        }
+        if (graphAdapter.getCountCache() != null) {
+            graphAdapter.getCountCache().clear();
+        }
+    }
+
+    /**
+     * @return true if the current transaction was begun for the current repository method, rather than by its caller
+     */
+    private static boolean ownsTransaction() {
+        try {
+            return TransactionAspectSupport.currentTransactionStatus().isNewTransaction();
+        } catch (NoTransactionException e) {
+            return false;
+        }
     }
 
     @Override
     public Iterable<T> findAll(Sort sort) {
-        throw new NotImplementedException("Sorting all vertices in Gremlin has not been implemented.");
+        return load(GraphUtil.order(findAllTraversal(), schema, sort));
+    }
+
+    /**
+     * @return a traversal of all the elements having one of the labels of the schema
+     */
+    protected GraphTraversal<?, ? extends Element> findAllTraversal() {
+        List<String> labels = schema.getClassNames();
+        return findAllTraversal(labels.get(0), labels.subList(1, labels.size()).toArray(new String[0]));
+    }
+
+    /**
+     * @return a traversal of all the elements of the kind of the schema having one of the given labels
+     */
+    private GraphTraversal<?, ? extends Element> findAllTraversal(String label, String... otherLabels) {
+        graphAdapter.flush();
+        GraphTraversalSource source = dbf.graph().traversal();
+        if (schema.isVertexSchema()) {
+            return source.V().hasLabel(label, otherLabels);
+        } else if (schema.isEdgeSchema()) {
+            return source.E().hasLabel(label, otherLabels);
+        }
+        throw new IllegalStateException("Schema is neither VERTEX nor EDGE!");
     }
 
+    /**
+     * Loads only the elements of the requested page with a {@code range()} step. The total is counted with a {@code count()}
+     * step, unless it follows from the size of the page.
+     */
     @Override
     public Page<T> findAll(Pageable pageable) {
-        throw new NotImplementedException("Deleting all vertices in Gremlin has not been implemented.");
+        GraphTraversal<?, ? extends Element> traversal = GraphUtil.order(findAllTraversal(), schema, pageable.getSort());
+        if (pageable.isPaged()) {
+            traversal = traversal.range(pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
+        }
+        List<T> content = load(traversal);
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
     }
 
+    /**
+     * @return the entities of the elements of the given traversal, loaded with their most specific schemas
+     */
+    private List<T> load(GraphTraversal<?, ? extends Element> traversal) {
+        return GremlinLoadingGroup.batch(() -> {
+            List<T> result = new ArrayList<>();
+            traversal.forEachRemaining(element -> result.add(schema.findMostSpecificSchema(element).loadFromGraph(graphAdapter, element)));
+            return result;
+        });
+    }
 
 }
@@ -0,0 +1,159 @@
+package org.springframework.data.gremlin.repository;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
+import org.springframework.data.gremlin.utils.GraphUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Default implementation of the {@link ReactiveGremlinRepository} interface, running the operations of a blocking
+ * {@link SimpleGremlinRepository} through {@link ReactiveGremlinTransactions}.
+ *
+ * @param <T> the type of the entity to handle
+ */
+public class SimpleReactiveGremlinRepository<T> implements ReactiveGremlinRepository<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimpleReactiveGremlinRepository.class);
+
+    protected final SimpleGremlinRepository<T> repository;
+
+    protected final ReactiveGremlinTransactions transactions;
+
+    public SimpleReactiveGremlinRepository(SimpleGremlinRepository<T> repository, ReactiveGremlinTransactions transactions) {
+        this.repository = repository;
+        this.transactions = transactions;
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return transactions.mono(() -> repository.save(entity));
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return transactions.flux(() -> StreamSupport.stream(repository.saveAll(entities).spliterator(), false));
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        return transactions.transactional(Flux.from(entityStream).concatMap(this::save));
+    }
+
+    @Override
+    public Mono<T> findById(String id) {
+        return transactions.mono(() -> repository.findById(id).orElse(null));
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return transactions.mono(() -> repository.findById(id).isPresent());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return stream(repository::findAllTraversal);
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return stream(() -> GraphUtil.order(repository.findAllTraversal(), repository.schema, sort));
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<String> ids) {
+        return transactions.flux(() -> StreamSupport.stream(repository.findAllById(ids).spliterator(), false));
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<String> idStream) {
+        return transactions.transactional(Flux.from(idStream).concatMap(this::findById));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return transactions.mono(repository::count);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return transactions.mono(() -> {
+            repository.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return transactions.mono(() -> {
+            repository.delete(entity);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return transactions.mono(() -> {
+            repository.deleteAll(entities);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        return transactions.transactional(Flux.from(entityStream).concatMap(this::delete).then());
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return transactions.mono(() -> {
+            repository.deleteAll();
+            return null;
+        });
+    }
+
+    /**
+     * @return a Flux of the entities of the elements of the given traversal, loaded as they are requested
+     */
+    private Flux<T> stream(Supplier<GraphTraversal<?, ? extends Element>> traversalSupplier) {
+        return transactions.flux(() -> {
+            GraphTraversal<?, ? extends Element> traversal = traversalSupplier.get();
+            Stream<T> entities = traversal.toStream()
+                    .map(element -> repository.schema.findMostSpecificSchema(element).loadUnsharedFromGraph(repository.graphAdapter, element));
+            return entities.onClose(() -> close(traversal));
+        });
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception e) {
+            LOGGER.warn("Could not close traversal: {}", e.getMessage());
+        }
+    }
+}
@@ -126,6 +126,9 @@ public class GremlinBeanPostProcessor implements BeanFactoryPostProcessor, Order
                     ((GremlinRelatedProperty) property).setRelatedSchema(relatedSchema);
                 }
             });
+
+        // All the properties are known, so the mappers can be compiled now rather than on the first load or save
+        schemaMap.values().forEach(GremlinSchema::compileMapper);
     }
 
     private void generateSchemasFromEntities(Set<Class<?>> classes) {
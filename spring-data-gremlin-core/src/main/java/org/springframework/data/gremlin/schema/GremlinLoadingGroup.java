@@ -0,0 +1,126 @@
+package org.springframework.data.gremlin.schema;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The proxies loaded one after another by a thread within a {@link #batch(Supplier)} before any of them is used, such as the
+ * results of a query or the objects of a related collection. The first of them to be used reads the properties and edges of all
+ * their elements ahead with
+ * {@link GremlinGraphAdapter#prefetch(List)}, so that the others are not each read on their own. Only the adapters of backends
+ * which cache the elements read ahead in their transactions, such as JanusGraph, read anything.
+ * <p>
+ * A group holds up to {@code -Dsdg-sibling-batch-size} proxies, 50 by default, and a size below 2 disables the batching. No group
+ * is joined once its batch has returned, so that the elements of a group always come from the same transaction.
+ * </p>
+ */
+public final class GremlinLoadingGroup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinLoadingGroup.class);
+
+    static final int SIZE = Integer.getInteger("sdg-sibling-batch-size", 50);
+
+    /** The batch of proxies the current thread is loading, if any. */
+    private static final ThreadLocal<Batch> BATCH = new ThreadLocal<>();
+
+    private final GremlinGraphAdapter graphAdapter;
+
+    // Guarded by this
+    private final List<Element> elements = new ArrayList<>();
+    private boolean fetched;
+
+    private GremlinLoadingGroup(GremlinGraphAdapter graphAdapter) {
+        this.graphAdapter = graphAdapter;
+    }
+
+    /**
+     * Runs the given loads of several proxies, whose proxies join loading groups. A batch run within another one has groups of
+     * its own, the groups of the outer batch being joined again once it returns.
+     *
+     * @param loads the loads
+     * @param <R>   the type of the result
+     * @return the result of the loads
+     */
+    public static <R> R batch(Supplier<R> loads) {
+        Batch outer = BATCH.get();
+        BATCH.set(new Batch());
+        try {
+            return loads.get();
+        } finally {
+            if (outer != null) {
+                BATCH.set(outer);
+            } else {
+                BATCH.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the group the proxy of the given element joins, or null if it is not loaded within a batch or the batching is disabled
+     */
+    static GremlinLoadingGroup join(GremlinGraphAdapter graphAdapter, Element element) {
+        Batch batch = BATCH.get();
+        if (SIZE < 2 || graphAdapter == null || batch == null) {
+            return null;
+        }
+        GremlinLoadingGroup group = batch.open;
+        if (group == null || group.graphAdapter != graphAdapter || !group.add(element)) {
+            group = new GremlinLoadingGroup(graphAdapter);
+            group.add(element);
+            batch.open = group;
+        }
+        return group;
+    }
+
+    private synchronized boolean add(Element element) {
+        if (fetched || elements.size() >= SIZE) {
+            return false;
+        }
+        elements.add(element);
+        return true;
+    }
+
+    /**
+     * Reads the elements of this group ahead, unless they have been already. The proxies loaded from now on join a new group.
+     */
+    void fetch() {
+        List<Element> siblings;
+        synchronized (this) {
+            if (fetched) {
+                return;
+            }
+            fetched = true;
+            siblings = new ArrayList<>(elements);
+            elements.clear();
+        }
+        Batch batch = BATCH.get();
+        if (batch != null && batch.open == this) {
+            batch.open = null;
+        }
+        if (siblings.size() < 2) {
+            return;
+        }
+        try {
+            graphAdapter.prefetch(siblings);
+            LOGGER.debug("Fetched {} sibling elements ahead", siblings.size());
+        } catch (RuntimeException e) {
+            // Each proxy still reads its own element
+            LOGGER.warn("Could not fetch {} sibling elements ahead: {}", siblings.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * The proxies loaded by a call to {@link #batch(Supplier)}.
+     */
+    private static final class Batch {
+
+        /** The group the proxies join, until one of its proxies is used. */
+        private GremlinLoadingGroup open;
+    }
+}
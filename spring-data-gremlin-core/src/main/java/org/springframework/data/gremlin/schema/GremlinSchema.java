@@ -11,18 +11,25 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.repository.GremlinRepository;
 import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
+import org.springframework.data.gremlin.schema.property.GremlinDynamicProperty;
+import org.springframework.data.gremlin.schema.property.GremlinLinkViaProperty;
 import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+import org.springframework.data.gremlin.schema.property.accessor.AbstractGremlinFieldPropertyAccessor;
 import org.springframework.data.gremlin.schema.property.accessor.GremlinFieldPropertyAccessor;
 import org.springframework.data.gremlin.schema.property.accessor.GremlinIdPropertyAccessor;
 import org.springframework.data.gremlin.schema.property.accessor.GremlinPropertyAccessor;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinPropertyFieldAccessor;
 import org.springframework.data.gremlin.schema.property.encoder.GremlinPropertyEncoder;
 import org.springframework.data.gremlin.schema.property.mapper.GremlinPropertyMapper;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
 import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +47,21 @@ public abstract class GremlinSchema<V> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinSchema.class);
 
+    /**
+     * Accepts all the properties, as {@link #cascadeCopyToGraph(GremlinGraphAdapter, Element, Object, Map)} does.
+     */
+    public static final Predicate<GremlinProperty> ALL_PROPERTIES = property -> true;
+
+    /**
+     * Accepts the plain properties, leaving out the related properties.
+     */
+    public static final Predicate<GremlinProperty> PLAIN_PROPERTIES = property -> !(property instanceof GremlinRelatedProperty);
+
+    /**
+     * Accepts the related properties only.
+     */
+    public static final Predicate<GremlinProperty> RELATED_PROPERTIES = property -> property instanceof GremlinRelatedProperty;
+
     public GremlinSchema(Class<V> classType, GremlinSchema<? super V> superSchema) {
         this.classType = classType;
         this.superSchema = superSchema;
@@ -57,6 +79,7 @@ public abstract class GremlinSchema<V> {
     private GremlinIdPropertyAccessor idAccessor;
     private GremlinPropertyMapper idMapper;
     private GremlinPropertyEncoder idEncoder;
+    private GremlinProperty versionProperty;
 
     private GremlinAdjacentProperty outProperty;
     private GremlinAdjacentProperty inProperty;
@@ -69,6 +92,11 @@ public abstract class GremlinSchema<V> {
 
     private Class<? extends V> proxyClass;
 
+    private volatile boolean mapperCompiled;
+    private volatile GremlinSchemaMapper mapper;
+
+    private volatile Map<String, GremlinProperty> getterToPropertyMap;
+
     public void addProperty(GremlinProperty property) {
         property.setSchema(this);
         if (property instanceof GremlinAdjacentProperty) {
@@ -85,8 +113,8 @@ public abstract class GremlinSchema<V> {
         if (property.getName().equals("out")) {
             property.setName(property.getSchema().getClassName());
         }
-        if (property.getAccessor() instanceof GremlinFieldPropertyAccessor) {
-            fieldToPropertyMap.put(((GremlinFieldPropertyAccessor) property.getAccessor()).getField().getName(), property);
+        if (property.getAccessor() instanceof GremlinPropertyFieldAccessor) {
+            fieldToPropertyMap.put(((GremlinPropertyFieldAccessor) property.getAccessor()).getField().getName(), property);
         }
         typePropertyMap.put(property.getType(), property);
     }
@@ -137,6 +165,20 @@ public abstract class GremlinSchema<V> {
         this.idAccessor = idAccessor;
     }
 
+    /**
+     * @return the property holding the version of the entities, checked and incremented by their repository on save, or null if they
+     * are not versioned
+     */
+    public GremlinProperty getVersionProperty() {
+        if (versionProperty == null && superSchema != null) {
+            return superSchema.getVersionProperty();
+        } else return versionProperty;
+    }
+
+    public void setVersionProperty(GremlinProperty versionProperty) {
+        this.versionProperty = versionProperty;
+    }
+
     public Collection<String> getPropertyNames() {
         return propertyMap.keySet();
     }
@@ -152,6 +194,60 @@ public abstract class GremlinSchema<V> {
         return properties.stream();
     }
 
+    /**
+     * Compiles the mapper copying the properties of this schema between its objects and their elements, unless it has been
+     * compiled already. The properties, including those of the super schema, must all have been added.
+     */
+    public void compileMapper() {
+        getMapper();
+    }
+
+    /**
+     * @return the compiled mapper of this schema, or null if the properties are copied one by one
+     */
+    GremlinSchemaMapper getMapper() {
+        if (!mapperCompiled && GremlinSchemaMapper.ENABLED) {
+            synchronized (this) {
+                if (!mapperCompiled) {
+                    mapper = GremlinSchemaMapper.compile(this);
+                    mapperCompiled = true;
+                }
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * @param methodName the name of a method without parameters
+     * @return the property whose field the method gets, if it is the getter of a field holding a single property or any plain
+     * properties, or else null
+     */
+    GremlinProperty getPropertyForGetter(String methodName) {
+        Map<String, GremlinProperty> getters = getterToPropertyMap;
+        if (getters == null) {
+            getters = new HashMap<>();
+            Set<String> ambiguous = new HashSet<>();
+            for (GremlinProperty property : (Iterable<GremlinProperty>) getPropertyStream()::iterator) {
+                if (!(property.getAccessor() instanceof AbstractGremlinFieldPropertyAccessor)) {
+                    continue;
+                }
+                AbstractGremlinFieldPropertyAccessor accessor = (AbstractGremlinFieldPropertyAccessor) property.getAccessor();
+                boolean related = property instanceof GremlinRelatedProperty;
+                String field = StringUtils.capitalize(accessor.getRootField().getName());
+                for (String getter : new String[] { "get" + field, "is" + field }) {
+                    GremlinProperty previous = getters.putIfAbsent(getter, property);
+                    // The plain properties of an embedded field load together, but a relation must be the only property of its field
+                    if (related && accessor.getEmbeddedAccessor() != null || previous != null && (related || previous instanceof GremlinRelatedProperty)) {
+                        ambiguous.add(getter);
+                    }
+                }
+            }
+            getters.keySet().removeAll(ambiguous);
+            getterToPropertyMap = getters;
+        }
+        return getters.get(methodName);
+    }
+
     public String getClassName() {
         return className;
     }
@@ -189,7 +285,8 @@ public abstract class GremlinSchema<V> {
     }
 
     public void copyToGraph(GremlinGraphAdapter graphAdapter, Element element, Object obj, Object... noCascade) {
-        Map<Object, Element> noCascadingMap = new HashMap<>();
+        // Keyed by identity, as the hashCode of a proxy would load it
+        Map<Object, Element> noCascadingMap = new IdentityHashMap<>();
         for (Object skip : noCascade) {
             noCascadingMap.put(skip, element);
         }
@@ -197,29 +294,51 @@ public abstract class GremlinSchema<V> {
     }
 
     public void copyToGraph(GremlinGraphAdapter graphAdapter, Element element, Object obj) {
-        cascadeCopyToGraph(graphAdapter, element, obj, new HashMap<>());
+        cascadeCopyToGraph(graphAdapter, element, obj, new IdentityHashMap<>());
     }
 
     public void cascadeCopyToGraph(GremlinGraphAdapter graphAdapter, Element element, final Object obj, Map<Object, Element> noCascadingMap) {
+        cascadeCopyToGraph(graphAdapter, element, obj, noCascadingMap, ALL_PROPERTIES);
+    }
+
+    /**
+     * Copies the properties of the given object accepted by the given filter to the given element, cascading to the related
+     * objects of the accepted properties in full. The properties accepted by {@link #ALL_PROPERTIES}, {@link #PLAIN_PROPERTIES} or
+     * {@link #RELATED_PROPERTIES} are copied by the compiled mapper of the schema, if it has one. The properties of a proxy which
+     * have not been loaded are not copied.
+     */
+    public void cascadeCopyToGraph(GremlinGraphAdapter graphAdapter, Element element, final Object obj, Map<Object, Element> noCascadingMap,
+                                   Predicate<? super GremlinProperty> filter) {
 
         if (noCascadingMap.containsKey(obj)) {
             return;
         }
         noCascadingMap.put(obj, element);
 
-        getPropertyStream().forEach(property -> {
-            try {
-
-                GremlinPropertyAccessor accessor = property.getAccessor();
-                Object val = accessor.get(obj);
+        if (GremlinSnapshot.isUntouched(obj, element)) {
+            // A proxy which has not been initialized cannot have been changed, nor its related objects
+            return;
+        }
+        // The properties of a proxy load one by one, and those not loaded yet cannot have been changed, so they are left as they are
+        // rather than loaded, or copied as nulls
+        if (!LazyInitializationHandler.isInitialized(obj)) {
+            Predicate<? super GremlinProperty> accepted = filter;
+            filter = property -> accepted.test(property) && LazyInitializationHandler.isLoaded(obj, property);
+        }
+        GremlinSnapshot snapshot = GremlinSnapshot.of(obj, element);
 
-                if (val != null) {
-                    property.copyToVertex(graphAdapter, element, val, noCascadingMap);
-                }
+        GremlinSchemaMapper mapper = filter == ALL_PROPERTIES || filter == PLAIN_PROPERTIES || filter == RELATED_PROPERTIES ? getMapper() : null;
+        if (mapper != null) {
+            try {
+                mapper.copyToGraph(graphAdapter, element, obj, noCascadingMap, snapshot, filter != RELATED_PROPERTIES, filter != PLAIN_PROPERTIES);
             } catch (RuntimeException e) {
-                LOGGER.warn(String.format("Could not save property %s of %s", property, obj.toString()), e);
+                LOGGER.debug("Could not copy {} with its compiled mapper, copying its properties one by one", obj, e);
+                mapper = null;
             }
-        });
+        }
+        if (mapper == null) {
+            copyPropertiesToGraph(graphAdapter, element, obj, noCascadingMap, filter, snapshot);
+        }
         setObjectId(obj, element);
 
         if (getGraphId(obj) == null && TransactionSynchronizationManager.isSynchronizationActive()) {
@@ -234,8 +353,71 @@ public abstract class GremlinSchema<V> {
         }
     }
 
+    private void copyPropertiesToGraph(GremlinGraphAdapter graphAdapter, Element element, Object obj, Map<Object, Element> noCascadingMap,
+                                       Predicate<? super GremlinProperty> filter, GremlinSnapshot snapshot) {
+        // The version is only written by the repository, so that a cascaded save cannot move it back
+        GremlinProperty versionProperty = getVersionProperty();
+        getPropertyStream().filter(filter).filter(property -> property != versionProperty).forEach(property -> {
+            try {
+                GremlinPropertyAccessor accessor = property.getAccessor();
+                Object val = accessor.get(obj);
+
+                if (snapshot != null && !snapshot.isDirty(property, val)) {
+                    cascadeUnchanged(graphAdapter, element, property, val, noCascadingMap);
+                    return;
+                }
+                if (val != null) {
+                    property.copyToVertex(graphAdapter, element, val, noCascadingMap);
+                }
+                if (snapshot != null) {
+                    snapshot.written(property, val);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn(String.format("Could not save property %s of %s", property, obj.toString()), e);
+            }
+        });
+    }
+
+    /**
+     * Cascades the copy of an unchanged related property to the related objects, as its mapper would, without diffing its edges.
+     * The related objects are only written if they have changed themselves.
+     */
+    void cascadeUnchanged(GremlinGraphAdapter graphAdapter, Element element, GremlinProperty property, Object val,
+                          Map<Object, Element> noCascadingMap) {
+        if (val == null || !(property instanceof GremlinRelatedProperty) || property instanceof GremlinDynamicProperty
+                || property instanceof GremlinLinkViaProperty) {
+            return;
+        }
+        if (!Boolean.getBoolean(GremlinPropertyMapper.CASCADE_ALL_KEY) && ((GremlinRelatedProperty) property).getDirection() != Direction.OUT) {
+            return;
+        }
+        Collection<?> related = val instanceof Collection ? (Collection<?>) val : Collections.singleton(val);
+        for (Object relatedObj : related) {
+            if (noCascadingMap.containsKey(relatedObj) || !LazyInitializationHandler.isLoaded(relatedObj)) {
+                continue;
+            }
+            GremlinSnapshot relatedSnapshot = GremlinSnapshot.of(relatedObj);
+            if (relatedSnapshot == null) {
+                // Not loaded from the graph, so let the mapper find or create its element
+                property.copyToVertex(graphAdapter, element, val, noCascadingMap);
+                return;
+            }
+            relatedSnapshot.getSchema().cascadeCopyToGraph(graphAdapter, relatedSnapshot.getElement(), relatedObj, noCascadingMap);
+        }
+    }
+
     public V loadFromGraph(GremlinGraphAdapter graphAdapter, Element element) {
 
+        // Share the entities loaded in the transaction, so that each element is loaded once
+        Map<Object, Object> identityMap = graphAdapter.getIdentityMap();
+        return cascadeLoadFromGraph(graphAdapter, element, identityMap != null ? identityMap : new HashMap<>());
+    }
+
+    /**
+     * Loads the entity of the given element apart from the identity map of the transaction, so that streamed results are not all
+     * held until the transaction completes.
+     */
+    public V loadUnsharedFromGraph(GremlinGraphAdapter graphAdapter, Element element) {
         return cascadeLoadFromGraph(graphAdapter, element, new HashMap<>());
     }
 
@@ -250,10 +432,10 @@ public abstract class GremlinSchema<V> {
     }
 
     public V cascadeLoadFromGraph(GremlinGraphAdapter graphAdapter, Element element, Map<Object, Object> noCascadingMap) {
-        //noinspection unchecked
-        V obj = (V) noCascadingMap.get(element.id());
-        if (obj != null) {
-            return obj;
+        Object obj = noCascadingMap.get(element.id());
+        if (getClassType().isInstance(obj)) {
+            //noinspection unchecked
+            return (V) obj;
         }
         GremlinSchema<? extends V> schema = findMostSpecificSchema(element);
         return schema.specificCascadeLoadFromGraph(graphAdapter, element, noCascadingMap);
@@ -328,6 +510,24 @@ public abstract class GremlinSchema<V> {
         inheritedClassSchemaMapping.put(gremlinSchema.getClassName(), gremlinSchema);
     }
 
+    /**
+     * @return the class name of this schema followed by those of its inherited schemas and theirs, being the labels an element of this
+     * schema can have.
+     */
+    public List<String> getClassNames() {
+        Set<String> classNames = new LinkedHashSet<>();
+        addClassNames(classNames);
+        return new ArrayList<>(classNames);
+    }
+
+    private void addClassNames(Set<String> classNames) {
+        if (classNames.add(className) && inheritedClassSchemaMapping != null) {
+            for (GremlinSchema<? extends V> schema : inheritedClassSchemaMapping.values()) {
+                schema.addClassNames(classNames);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return "GremlinSchema{"
@@ -364,9 +564,19 @@ public abstract class GremlinSchema<V> {
     }
 
     public GremlinSchema<? extends V> findMostSpecificSchema(Element element) {
-        if (inheritedClassSchemaMapping == null) {
+        if (inheritedClassSchemaMapping == null || className.equals(element.label())) {
             return this;
         }
-        return inheritedClassSchemaMapping.getOrDefault(element.label(), this);
+        GremlinSchema<? extends V> schema = inheritedClassSchemaMapping.get(element.label());
+        if (schema != null) {
+            return schema;
+        }
+        for (GremlinSchema<? extends V> inherited : inheritedClassSchemaMapping.values()) {
+            GremlinSchema<? extends V> specific = inherited.findMostSpecificSchema(element);
+            if (specific != inherited) {
+                return specific;
+            }
+        }
+        return this;
     }
 }
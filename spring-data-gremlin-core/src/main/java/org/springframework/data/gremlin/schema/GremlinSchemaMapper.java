@@ -0,0 +1,153 @@
+package org.springframework.data.gremlin.schema;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinPropertyAccessor;
+
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies all the properties of a {@link GremlinSchema} between its objects and their elements, in a class compiled for the schema.
+ * <p>
+ * The compiled class reads and writes each property in straight-line code, through fields holding the property and its accessor
+ * as their concrete types, so that each call site only ever sees one type. It has no stream, lambda or exception handling per
+ * property: when any property fails, the schema copies all the properties again one by one, which handles the failure as before.
+ * </p>
+ * <p>
+ * The mappers are compiled with javassist, which also creates the proxies of the schemas, when the schemas are initialised. With
+ * {@code -Dsdg-interpreted-mappers=true} no mapper is compiled and the properties are always copied one by one.
+ * </p>
+ */
+abstract class GremlinSchemaMapper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinSchemaMapper.class);
+
+    static final boolean ENABLED = !Boolean.getBoolean("sdg-interpreted-mappers");
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static ClassPool pool;
+
+    protected final GremlinSchema<?> schema;
+
+    protected GremlinSchemaMapper(GremlinSchema<?> schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Copies the properties of the given object to the given element, as {@link GremlinSchema#cascadeCopyToGraph} does for each
+     * property, but for the version property.
+     *
+     * @param snapshot the values of the properties as loaded from the element, or null to copy every property
+     * @param plain    whether to copy the plain properties
+     * @param related  whether to copy the related properties
+     */
+    public abstract void copyToGraph(GremlinGraphAdapter graphAdapter, Element element, Object obj, Map noCascadingMap, GremlinSnapshot snapshot,
+                                     boolean plain, boolean related);
+
+    /**
+     * Loads the properties of the given object from the given element, as {@link LazyInitializationHandler} does for each property.
+     *
+     * @param plain   whether to load the plain properties
+     * @param related whether to load the related properties
+     */
+    public abstract void loadFromGraph(GremlinGraphAdapter graphAdapter, Element element, Object obj, Map noCascadingMap, boolean plain,
+                                       boolean related);
+
+    /**
+     * @return the mapper compiled for the given schema, or null if it could not be compiled
+     */
+    static GremlinSchemaMapper compile(GremlinSchema<?> schema) {
+        GremlinProperty[] properties = schema.getPropertyStream().toArray(GremlinProperty[]::new);
+        GremlinProperty versionProperty = schema.getVersionProperty();
+        String simpleName = schema.getClassType().getSimpleName();
+        String name = GremlinSchemaMapper.class.getName() + "$" + (simpleName.isEmpty() ? "Schema" : simpleName) + "$" + COUNTER.incrementAndGet();
+
+        try {
+            ClassPool pool = getPool();
+            CtClass mapperClass = pool.makeClass(name, pool.get(GremlinSchemaMapper.class.getName()));
+
+            StringBuilder constructor = new StringBuilder("public ").append(mapperClass.getSimpleName()).append("(")
+                                                                    .append(GremlinSchema.class.getName()).append(" schema, ")
+                                                                    .append(GremlinProperty.class.getName()).append("[] properties) {\n")
+                                                                    .append("super(schema);\n");
+            StringBuilder copy = new StringBuilder("public void copyToGraph(").append(GremlinGraphAdapter.class.getName()).append(" graphAdapter, ")
+                                                                              .append(Element.class.getName()).append(" element, Object obj, java.util.Map noCascadingMap, ")
+                                                                              .append(GremlinSnapshot.class.getName()).append(" snapshot, boolean plain, boolean related) {\n");
+            StringBuilder load = new StringBuilder("public void loadFromGraph(").append(GremlinGraphAdapter.class.getName()).append(" graphAdapter, ")
+                                                                                .append(Element.class.getName()).append(" element, Object obj, java.util.Map noCascadingMap, boolean plain, boolean related) {\n");
+
+            for (int i = 0; i < properties.length; i++) {
+                GremlinProperty property = properties[i];
+                String propertyType = typeName(pool, property.getClass(), GremlinProperty.class);
+                String accessorType = typeName(pool, property.getAccessor().getClass(), GremlinPropertyAccessor.class);
+                mapperClass.addField(CtField.make(String.format("private final %s p%d;", propertyType, i), mapperClass));
+                mapperClass.addField(CtField.make(String.format("private final %s a%d;", accessorType, i), mapperClass));
+                constructor.append(String.format("this.p%1$d = (%2$s) properties[%1$d];\n", i, propertyType));
+                constructor.append(String.format("this.a%1$d = (%2$s) properties[%1$d].getAccessor();\n", i, accessorType));
+
+                if (property != versionProperty) {
+                    copy.append(String.format("if (%s) {\n", property instanceof GremlinRelatedProperty ? "related" : "plain"))
+                        .append(String.format("Object v%1$d = a%1$d.get(obj);\n", i))
+                        .append(String.format("if (snapshot == null || snapshot.isDirty(p%1$d, v%1$d)) {\n", i))
+                        .append(String.format("if (v%1$d != null) { p%1$d.copyToVertex(graphAdapter, element, v%1$d, noCascadingMap); }\n", i))
+                        .append(String.format("if (snapshot != null) { snapshot.written(p%1$d, v%1$d); }\n", i))
+                        .append("} else {\n")
+                        .append(String.format("schema.cascadeUnchanged(graphAdapter, element, p%1$d, v%1$d, noCascadingMap);\n", i))
+                        .append("}\n}\n");
+                }
+                load.append(String.format("if (%s) {\n", property instanceof GremlinRelatedProperty ? "related" : "plain"))
+                    .append(String.format("a%1$d.set(obj, p%1$d.loadFromVertex(graphAdapter, element, noCascadingMap));\n", i))
+                    .append("}\n");
+            }
+
+            mapperClass.addConstructor(CtNewConstructor.make(constructor.append("}").toString(), mapperClass));
+            mapperClass.addMethod(CtNewMethod.make(copy.append("}").toString(), mapperClass));
+            mapperClass.addMethod(CtNewMethod.make(load.append("}").toString(), mapperClass));
+
+            Class<?> cls = mapperClass.toClass(GremlinSchemaMapper.class.getClassLoader(), GremlinSchemaMapper.class.getProtectionDomain());
+            mapperClass.detach();
+            LOGGER.debug("Compiled {} for the {} properties of {}", name, properties.length, schema.getClassName());
+            return (GremlinSchemaMapper) cls.getConstructor(GremlinSchema.class, GremlinProperty[].class).newInstance(schema, properties);
+        } catch (Exception | LinkageError e) {
+            LOGGER.warn("Could not compile a mapper for {}, copying its properties one by one: {}", schema.getClassName(), e.toString());
+            return null;
+        }
+    }
+
+    private static synchronized ClassPool getPool() {
+        if (pool == null) {
+            pool = new ClassPool(true);
+            pool.appendClassPath(new LoaderClassPath(GremlinSchemaMapper.class.getClassLoader()));
+        }
+        return pool;
+    }
+
+    /**
+     * @return the name of the given class if the mapper can refer to it, or else the name of the given interface
+     */
+    private static String typeName(ClassPool pool, Class<?> cls, Class<?> iface) {
+        if (!Modifier.isPublic(cls.getModifiers()) || cls.getClassLoader() != GremlinSchemaMapper.class.getClassLoader()) {
+            return iface.getName();
+        }
+        try {
+            pool.get(cls.getName());
+            return cls.getName();
+        } catch (NotFoundException e) {
+            return iface.getName();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.springframework.data.gremlin.schema;
+
+import javassist.util.proxy.MethodHandler;
+import javassist.util.proxy.ProxyObject;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.springframework.data.gremlin.schema.property.GremlinDynamicProperty;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The values of the properties of an entity as they were loaded from, or last written to, its element, so that saving the entity
+ * only writes the properties which have changed since.
+ * <p>
+ * Plain properties are compared by value, as given by their accessor. Values which may be mutated in place, other than
+ * collections, maps and arrays of immutable values, are not tracked and are always written. Related properties are compared by
+ * the identity of the related objects, so that their edges are only diffed when an object has been replaced, added or removed;
+ * the related objects are tracked by their own snapshots.
+ * </p>
+ * <p>
+ * The values are recorded as the properties of the proxy of an entity are loaded, and a property which has not been loaded is
+ * always written; the proxy loads all its properties before it is saved. Written values are only recorded when their transaction commits,
+ * so that a rolled back save is written again by the next one. Dirty tracking can be disabled with {@code -Dsdg-dirty-tracking=false}.
+ * </p>
+ */
+class GremlinSnapshot {
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("sdg-dirty-tracking", "true"));
+
+    /** The snapshot value of a property whose value cannot be compared. */
+    private static final Object UNTRACKED = new Object();
+
+    private final GremlinSchema<?> schema;
+
+    private final Element element;
+
+    private final Map<GremlinProperty, Object> values = new IdentityHashMap<>();
+
+    private Map<GremlinProperty, Object> written;
+
+    GremlinSnapshot(GremlinSchema<?> schema, Element element) {
+        this.schema = schema;
+        this.element = element;
+    }
+
+    /**
+     * @return the snapshot of the given object if it is a loaded proxy of the given element, or null if it is not tracked
+     */
+    static GremlinSnapshot of(Object obj, Element element) {
+        GremlinSnapshot snapshot = of(obj);
+        if (snapshot == null || !snapshot.element.id().equals(element.id())) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the snapshot of the given object if it is a loaded proxy, or null if it is not tracked
+     */
+    static GremlinSnapshot of(Object obj) {
+        LazyInitializationHandler handler = handlerOf(obj);
+        return handler == null ? null : handler.getSnapshot();
+    }
+
+    /**
+     * @return true if the given object is a proxy of the given element none of whose properties have been loaded, and so cannot
+     * have been changed
+     */
+    static boolean isUntouched(Object obj, Element element) {
+        LazyInitializationHandler handler = handlerOf(obj);
+        return handler != null && !LazyInitializationHandler.isLoaded(obj) && handler.getElement().id().equals(element.id());
+    }
+
+    private static LazyInitializationHandler handlerOf(Object obj) {
+        if (ENABLED && obj instanceof ProxyObject) {
+            MethodHandler handler = ((ProxyObject) obj).getHandler();
+            if (handler instanceof LazyInitializationHandler) {
+                return (LazyInitializationHandler) handler;
+            }
+        }
+        return null;
+    }
+
+    GremlinSchema<?> getSchema() {
+        return schema;
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+    /**
+     * Records the given value of the given property as loaded from the element.
+     */
+    void loaded(GremlinProperty property, Object val) {
+        values.put(property, copyOf(property, val));
+    }
+
+    /**
+     * @return true if the given value of the given property differs from its snapshot
+     */
+    boolean isDirty(GremlinProperty property, Object val) {
+        if (!values.containsKey(property)) {
+            return true;
+        }
+        Object snapshot = values.get(property);
+        if (snapshot == UNTRACKED) {
+            return true;
+        }
+        if (isLink(property)) {
+            return !sameObjects(snapshot, val);
+        }
+        return !Objects.deepEquals(snapshot, val);
+    }
+
+    /**
+     * Records the given value as written to the element, once the current transaction, if any, has committed.
+     */
+    void written(GremlinProperty property, Object val) {
+        Object copy = copyOf(property, val);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            values.put(property, copy);
+            return;
+        }
+        if (written == null) {
+            written = new IdentityHashMap<>();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                        values.putAll(written);
+                    }
+                    written = null;
+                }
+            });
+        }
+        written.put(property, copy);
+    }
+
+    private static boolean isLink(GremlinProperty property) {
+        return property instanceof GremlinRelatedProperty && !(property instanceof GremlinDynamicProperty);
+    }
+
+    private static Object copyOf(GremlinProperty property, Object val) {
+        if (val == null) {
+            return null;
+        }
+        if (isLink(property)) {
+            if (val instanceof Collection) {
+                Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+                objects.addAll((Collection<?>) val);
+                return new LinkedObjects(objects, ((Collection<?>) val).size());
+            }
+            return val;
+        }
+        return copyOf(val);
+    }
+
+    private static Object copyOf(Object val) {
+        if (val == null || isImmutable(val)) {
+            return val;
+        }
+        if (val instanceof Date) {
+            return ((Date) val).clone();
+        }
+        if (val.getClass().isArray()) {
+            if (val.getClass().getComponentType().isPrimitive()) {
+                int length = Array.getLength(val);
+                Object copy = Array.newInstance(val.getClass().getComponentType(), length);
+                System.arraycopy(val, 0, copy, 0, length);
+                return copy;
+            }
+            return UNTRACKED;
+        }
+        if (val instanceof Set || val instanceof List) {
+            Collection<?> collection = (Collection<?>) val;
+            for (Object element : collection) {
+                if (element != null && !isImmutable(element)) {
+                    return UNTRACKED;
+                }
+            }
+            return val instanceof Set ? new HashSet<>(collection) : new ArrayList<>(collection);
+        }
+        if (val instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) val;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() != null && !isImmutable(entry.getKey()) || entry.getValue() != null && !isImmutable(entry.getValue())) {
+                    return UNTRACKED;
+                }
+            }
+            return new HashMap<>(map);
+        }
+        return UNTRACKED;
+    }
+
+    private static boolean isImmutable(Object val) {
+        return val instanceof String || val instanceof Boolean || val instanceof Character || val instanceof Enum || val instanceof Integer
+                || val instanceof Long || val instanceof Short || val instanceof Byte || val instanceof Double || val instanceof Float
+                || val instanceof BigDecimal || val instanceof BigInteger || val instanceof UUID || val instanceof Class
+                || val.getClass().getName().startsWith("java.time.");
+    }
+
+    private static boolean sameObjects(Object snapshot, Object val) {
+        if (snapshot instanceof LinkedObjects) {
+            if (!(val instanceof Collection)) {
+                return false;
+            }
+            LinkedObjects linked = (LinkedObjects) snapshot;
+            Collection<?> objects = (Collection<?>) val;
+            if (linked.size != objects.size()) {
+                return false;
+            }
+            for (Object object : objects) {
+                if (!linked.objects.contains(object)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return snapshot == val;
+    }
+
+    /**
+     * The identities of the objects of a related collection.
+     */
+    private static final class LinkedObjects {
+
+        private final Set<Object> objects;
+
+        private final int size;
+
+        private LinkedObjects(Set<Object> objects, int size) {
+            this.objects = objects;
+            this.size = size;
+        }
+    }
+}
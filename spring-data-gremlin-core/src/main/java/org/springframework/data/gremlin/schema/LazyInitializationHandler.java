@@ -9,32 +9,60 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
+import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
 import org.springframework.data.gremlin.schema.property.accessor.GremlinPropertyAccessor;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
+ * Loads the properties of a proxy from its element as they are first accessed.
+ * <p>
+ * Calling the getter of a related field loads that relation only, and calling the getter of any other field loads all the plain
+ * properties together. Any other method loads all the properties which have not been loaded yet, as it may use any field. The
+ * whole object can be loaded on the first call instead with {@code -Dsdg-whole-object-proxies=true}.
+ * </p>
+ * <p>
+ * The first proxy of a {@link GremlinLoadingGroup} to load reads the elements of its siblings ahead.
+ * </p>
+ *
  * @author <a href="mailto:atul.mahind@kiwigrid.com">Atul Mahind</a>
  */
 public class LazyInitializationHandler implements MethodHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LazyInitializationHandler.class);
 
+    static final boolean FIELD_LEVEL = !Boolean.getBoolean("sdg-whole-object-proxies");
+
     private volatile boolean initialized;
 
+    private volatile boolean loaded;
+
+    private volatile GremlinSnapshot snapshot;
+
+    // Guarded by this
+    private boolean loading;
+    private boolean plainLoaded;
+    private final Set<GremlinProperty> loadedRelations = Collections.newSetFromMap(new IdentityHashMap<>());
+
     private final GremlinSchema<?> schema;
     private final GremlinGraphAdapter graphAdapter;
     private final Element element;
     private final Map<Object, Object> noCascadingMap;
+    private final GremlinLoadingGroup group;
 
     LazyInitializationHandler(GremlinSchema<?> schema, GremlinGraphAdapter graphAdapter, Element element, Map<Object, Object> noCascadingMap) {
         this.schema = schema;
         this.graphAdapter = graphAdapter;
         this.element = element;
         this.noCascadingMap = noCascadingMap;
+        this.group = GremlinLoadingGroup.join(graphAdapter, element);
     }
 
     @Override
@@ -52,32 +80,68 @@ public class LazyInitializationHandler implements MethodHandler {
                 return args[0] == self;
             }
         }
-        init(self);
+        if (!initialized) {
+            load(self, FIELD_LEVEL && args.length == 0 ? schema.getPropertyForGetter(thisMethod.getName()) : null, element);
+        }
         return proceed.invoke(self, args);
     }
 
-    private void init(Object self) {
+    private void init(Object self, Element source) {
         if (!initialized) {
-            synchronized (this) {
-                if (!initialized) {
-                    initialized = true;
-                    this.initialize(self);
+            load(self, null, source);
+        }
+    }
+
+    /**
+     * Loads the given relation, all the plain properties if the given property is plain, or all the properties if it is null. A
+     * proxy being loaded does not load again when its accessors are used to set its fields.
+     *
+     * @param source the element to read the properties from, being the element of the proxy or a copy of it read ahead
+     */
+    private synchronized void load(Object self, GremlinProperty property, Element source) {
+        boolean related = property instanceof GremlinRelatedProperty;
+        if (initialized || loading || related && loadedRelations.contains(property) || property != null && !related && plainLoaded) {
+            return;
+        }
+        loading = true;
+        try {
+            if (!loaded) {
+                if (group != null && source == element) {
+                    group.fetch();
                 }
+                begin(self);
+            }
+            if (property == null) {
+                loadAll(self, source);
+                initialized = true;
+            } else if (related) {
+                loadProperty(self, property, source);
+                loadedRelations.add(property);
+            } else {
+                loadPlain(self, source);
+                plainLoaded = true;
             }
+            if (!initialized && plainLoaded && loadedRelations.size() == countRelations()) {
+                initialized = true;
+            }
+        } finally {
+            loading = false;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void initialize(Object self) {
-        LOGGER.debug("Init proxy of {}:{} (keys: {})", schema.getClassName(), element.id(), element.keys());
-        if (element instanceof Vertex) {
-        	((Vertex)element).edges(Direction.OUT).forEachRemaining(e -> {
-                LOGGER.debug("  edge this -[{}]-> {}", e.label(), e.inVertex());
-        	});
-        	((Vertex)element).edges(Direction.IN).forEachRemaining(e -> {
-                LOGGER.debug("  edge this <-[{}]- {}", e.label(), e.outVertex());
-        	});
-            LOGGER.debug("Vertex links: {}:{} (keys: {})", schema.getClassName(), element.id(), element.keys());
+    private void begin(Object self) {
+        // Listing the keys and edges reads the whole element, so only do it for the log
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Init proxy of {}:{} (keys: {})", schema.getClassName(), element.id(), element.keys());
+            if (element instanceof Vertex) {
+                ((Vertex) element).edges(Direction.OUT).forEachRemaining(e -> {
+                    LOGGER.debug("  edge this -[{}]-> {}", e.label(), e.inVertex());
+                });
+                ((Vertex) element).edges(Direction.IN).forEachRemaining(e -> {
+                    LOGGER.debug("  edge this <-[{}]- {}", e.label(), e.outVertex());
+                });
+                LOGGER.debug("Vertex links: {}:{} (keys: {})", schema.getClassName(), element.id(), element.keys());
+            }
         }
         try {
             GremlinPropertyAccessor idAccessor = schema.getIdAccessor();
@@ -85,27 +149,166 @@ public class LazyInitializationHandler implements MethodHandler {
         } catch (Exception e) {
             throw new IllegalStateException("Could not instantiate new " + schema.getClassType(), e);
         }
-        schema.getPropertyStream().forEach(property -> {
-            LOGGER.trace("Load property {}::{} of {}", schema.getClassType(), property.getName(), element.id());
-            Object val = property.loadFromVertex(graphAdapter, element, noCascadingMap);
-            LOGGER.trace("Loaded property {}::{} of {} : {}", schema.getClassType(), property.getName(), element.id(), val instanceof Collection ? "[" + ((Collection)val).size() + "]" : (val == null ? "<null>" : getClass().getSimpleName()));
-            GremlinPropertyAccessor accessor = property.getAccessor();
-            try {
-                accessor.set(self, val);
-            } catch (Exception e) {
-                LOGGER.warn("Could not load property {} of {}", property, self.toString(), e);
+        if (GremlinSnapshot.ENABLED) {
+            snapshot = new GremlinSnapshot(schema, element);
+        }
+        loaded = true;
+    }
+
+    private void loadAll(Object self, Element source) {
+        if (!plainLoaded && loadedRelations.isEmpty() && loadWithMapper(self, source, true, true)) {
+            record(self, GremlinSchema.ALL_PROPERTIES);
+        } else {
+            if (!plainLoaded) {
+                loadPlain(self, source);
             }
-        });
+            schema.getPropertyStream().filter(GremlinSchema.RELATED_PROPERTIES).filter(property -> !loadedRelations.contains(property))
+                  .forEach(property -> loadProperty(self, property, source));
+        }
         LOGGER.debug("Finished proxy initialization of {}:{}", schema.getClassName(), element.id());
     }
 
+    private void loadPlain(Object self, Element source) {
+        if (!loadWithMapper(self, source, true, false)) {
+            schema.getPropertyStream().filter(GremlinSchema.PLAIN_PROPERTIES).forEach(property -> loadProperty(self, property, source));
+            return;
+        }
+        record(self, GremlinSchema.PLAIN_PROPERTIES);
+    }
+
+    /**
+     * @return true if the properties were loaded by the compiled mapper of the schema
+     */
+    private boolean loadWithMapper(Object self, Element source, boolean plain, boolean related) {
+        // The compiled mapper does not trace each property
+        GremlinSchemaMapper mapper = LOGGER.isTraceEnabled() ? null : schema.getMapper();
+        if (mapper == null) {
+            return false;
+        }
+        try {
+            mapper.loadFromGraph(graphAdapter, source, self, noCascadingMap, plain, related);
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not load {} with its compiled mapper, loading its properties one by one", self, e);
+            return false;
+        }
+    }
+
+    private void loadProperty(Object self, GremlinProperty property, Element source) {
+        LOGGER.trace("Load property {}::{} of {}", schema.getClassType(), property.getName(), element.id());
+        Object val = property.loadFromVertex(graphAdapter, source, noCascadingMap);
+        LOGGER.trace("Loaded property {}::{} of {} : {}", schema.getClassType(), property.getName(), element.id(), val instanceof Collection ? "[" + ((Collection)val).size() + "]" : (val == null ? "<null>" : getClass().getSimpleName()));
+        GremlinPropertyAccessor accessor = property.getAccessor();
+        try {
+            accessor.set(self, val);
+        } catch (Exception e) {
+            LOGGER.warn("Could not load property {} of {}", property, self.toString(), e);
+        }
+        if (snapshot != null) {
+            snapshot.loaded(property, accessor.get(self));
+        }
+    }
+
+    private void record(Object self, Predicate<GremlinProperty> filter) {
+        if (snapshot != null) {
+            schema.getPropertyStream().filter(filter).forEach(property -> snapshot.loaded(property, property.getAccessor().get(self)));
+        }
+    }
+
+    private long countRelations() {
+        return schema.getPropertyStream().filter(GremlinSchema.RELATED_PROPERTIES).count();
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+    /**
+     * @return the values of the properties as loaded from the element, or null if the proxy has not been initialized
+     */
+    GremlinSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     public static void initProxy(Object object) {
+        LazyInitializationHandler handler = getHandler(object);
+        if (handler != null) {
+            handler.init(object, handler.element);
+        }
+    }
+
+    /**
+     * Loads the given property of the given proxy unless it has been loaded, along with the other plain properties if it is plain,
+     * as calling its getter would.
+     *
+     * @param object   the proxy, or any other object which is left as it is
+     * @param property a property of the schema of the object
+     */
+    public static void initProperty(Object object, GremlinProperty property) {
+        LazyInitializationHandler handler = getHandler(object);
+        if (handler != null && !handler.initialized) {
+            handler.load(object, FIELD_LEVEL ? property : null, handler.element);
+        }
+    }
+
+    /**
+     * Loads the properties of the given proxy which have not been loaded yet from the given copy of its element, such as a view of
+     * its properties and edges read ahead, rather than from its element. The proxy keeps its element for the saves.
+     *
+     * @param object the proxy
+     * @param source an element having the id, properties and edges of the element of the proxy
+     */
+    public static void initProxy(Object object, Element source) {
+        LazyInitializationHandler handler = getHandler(object);
+        if (handler != null) {
+            handler.init(object, source);
+        }
+    }
+
+    /**
+     * @return the element the given proxy is loaded from, or null if the object is not a proxy
+     */
+    public static Element getElement(Object object) {
+        LazyInitializationHandler handler = getHandler(object);
+        return handler != null ? handler.element : null;
+    }
+
+    /**
+     * @return the schema the given proxy is loaded with, or null if the object is not a proxy
+     */
+    public static GremlinSchema<?> getSchema(Object object) {
+        LazyInitializationHandler handler = getHandler(object);
+        return handler != null ? handler.schema : null;
+    }
+
+    private static LazyInitializationHandler getHandler(Object object) {
         if (object instanceof ProxyObject) {
             MethodHandler handler = ((ProxyObject) object).getHandler();
             if (handler instanceof LazyInitializationHandler) {
-                ((LazyInitializationHandler) handler).init(object);
+                return (LazyInitializationHandler) handler;
             }
         }
+        return null;
+    }
+
+    /**
+     * @return false if the given object is a proxy none of whose properties have been loaded yet, and so cannot have been changed
+     */
+    public static boolean isLoaded(Object object) {
+        LazyInitializationHandler handler = getHandler(object);
+        return handler == null || handler.loaded;
+    }
+
+    /**
+     * @return true if the given property of the given object has been loaded, which it has unless the object is a proxy
+     */
+    public static boolean isLoaded(Object object, GremlinProperty property) {
+        LazyInitializationHandler handler = getHandler(object);
+        return handler == null || handler.isLoaded(property);
+    }
+
+    private synchronized boolean isLoaded(GremlinProperty property) {
+        return initialized || (property instanceof GremlinRelatedProperty ? loadedRelations.contains(property) : plainLoaded);
     }
 
     public static boolean isInitialized(Object object) {
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.gremlin.annotation.Index;
+import org.springframework.data.gremlin.annotation.Version;
 import org.springframework.data.gremlin.schema.GremlinDynamicSchema;
 import org.springframework.data.gremlin.schema.GremlinEdgeSchema;
 import org.springframework.data.gremlin.schema.GremlinSchema;
@@ -281,6 +282,19 @@ public class BasicSchemaGenerator implements SchemaGenerator {
         property.setAccessor(accessor);
         schema.addProperty(property);
         //        }
+
+        if (isVersionField(field)) {
+            Class<?> versionType = ClassUtils.primitiveToWrapper(field.getType());
+            if (versionType != Long.class && versionType != Integer.class) {
+                throw new IllegalArgumentException(String.format("Version field %s of %s must be a Long or an Integer.", field.getName(),
+                                                                 schema.getClassType().getSimpleName()));
+            }
+            schema.setVersionProperty(property);
+        }
+    }
+
+    protected boolean isVersionField(Field field) {
+        return AnnotationUtils.getAnnotation(field, Version.class) != null;
     }
 
     protected Index.IndexType getIndexType(Field field) {
@@ -67,6 +67,10 @@ public class GremlinProperty<C> {
         this.accessor = accessor;
     }
 
+    public GremlinPropertyMapper getPropertyMapper() {
+        return propertyMapper;
+    }
+
     public Class<C> getType() {
         return type;
     }
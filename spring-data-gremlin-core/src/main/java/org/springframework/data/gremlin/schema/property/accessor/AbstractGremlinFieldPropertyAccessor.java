@@ -1,5 +1,7 @@
 package org.springframework.data.gremlin.schema.property.accessor;
 
+import org.springframework.data.gremlin.schema.LazyInitializationHandler;
+
 import java.lang.reflect.Field;
 
 /**
@@ -12,6 +14,8 @@ public abstract class AbstractGremlinFieldPropertyAccessor<V> implements Gremlin
 
     protected Field field;
 
+    protected GremlinFieldHandle handle;
+
     protected AbstractGremlinFieldPropertyAccessor embeddedAccessor;
 
     public AbstractGremlinFieldPropertyAccessor(Field field, AbstractGremlinFieldPropertyAccessor embeddedAccessor) {
@@ -20,26 +24,53 @@ public abstract class AbstractGremlinFieldPropertyAccessor<V> implements Gremlin
     }
 
     public AbstractGremlinFieldPropertyAccessor(Field field) {
-        field.setAccessible(true);
+        this.handle = GremlinFieldHandle.of(field);
         this.field = field;
     }
 
     protected Object getEmbeddedObject(Object object, boolean force) {
 
         if (embeddedAccessor != null) {
-            Object parentObj = embeddedAccessor.get(object);
-            if (parentObj == null) {
-                if (force) {
-                    parentObj = embeddedAccessor.newInstance();
-                    embeddedAccessor.set(object, parentObj);
-                }
-            }
-            object = parentObj;
+            LazyInitializationHandler.initProxy(object);
+            object = embeddedAccessor.getFieldValue(object, force);
         }
 
         return object;
     }
 
+    /**
+     * Walks the chain of embedded accessors through their handles, rather than their accessors, so that the root object is only
+     * checked for a proxy once.
+     *
+     * @param object the root object
+     * @param force  whether to create the missing embedded objects
+     * @return the value of the field in its embedded object, or null when there is none
+     */
+    private Object getFieldValue(Object object, boolean force) {
+        Object parentObj = embeddedAccessor == null ? object : embeddedAccessor.getFieldValue(object, force);
+        if (parentObj == null) {
+            return null;
+        }
+        Object value = handle.get(parentObj);
+        if (value == null && force) {
+            value = newInstance();
+            handle.set(parentObj, value);
+        }
+        return value;
+    }
+
+    /**
+     * Converts the given value of the field into the value of its property, as {@link #get(Object)} does, so that a property can
+     * be written without the object holding the field.
+     *
+     * @param value the value of the field, may be null
+     * @return the value of the property
+     */
+    @SuppressWarnings("unchecked")
+    public V toPropertyValue(Object value) {
+        return (V) value;
+    }
+
     public Object newInstance() {
         try {
             return field.getType().newInstance();
@@ -69,4 +100,8 @@ public abstract class AbstractGremlinFieldPropertyAccessor<V> implements Gremlin
     public Field getField() {
         return field;
     }
+
+    public GremlinFieldHandle getHandle() {
+        return handle;
+    }
 }
\ No newline at end of file
@@ -24,29 +24,20 @@ public class GremlinDynamicMapPropertyAccessor<V> extends AbstractGremlinFieldPr
 
     @Override
     public V get(Object object) {
-        try {
-
-            object = getEmbeddedObject(object, false);
-            V result = null;
-            if (object != null) {
-                result = (V) field.get(object);
-            }
-            return result;
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        object = getEmbeddedObject(object, false);
+        V result = null;
+        if (object != null) {
+            result = (V) handle.get(object);
         }
+        return result;
     }
 
     @Override
     public void set(Object object, V val) {
 
-        try {
-            object = getEmbeddedObject(object, true);
-            if (object != null) {
-                field.set(object, val);
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        object = getEmbeddedObject(object, true);
+        if (object != null) {
+            handle.set(object, val);
         }
     }
 
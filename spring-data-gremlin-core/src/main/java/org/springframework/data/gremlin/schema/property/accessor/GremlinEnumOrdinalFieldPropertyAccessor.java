@@ -26,19 +26,19 @@ public class GremlinEnumOrdinalFieldPropertyAccessor extends AbstractGremlinFiel
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Getting enum ordinal from " + object);
         }
-        try {
-            Object result = field.get(object);
-            if (result == null) {
-                return null;
-            }
-            Enum numnum = (Enum) result;
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Got " + numnum + " with ordinal " + numnum.ordinal());
-            }
-            return numnum.ordinal();
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        return toPropertyValue(handle.get(object));
+    }
+
+    @Override
+    public Integer toPropertyValue(Object value) {
+        if (value == null) {
+            return null;
         }
+        Enum numnum = (Enum) value;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Got " + numnum + " with ordinal " + numnum.ordinal());
+        }
+        return numnum.ordinal();
     }
 
     @Override
@@ -46,21 +46,17 @@ public class GremlinEnumOrdinalFieldPropertyAccessor extends AbstractGremlinFiel
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Setting enum with ordinal " + ordinal + " on " + object);
         }
-        try {
-            if (ordinal == null) {
-                field.set(object, null);
-                return;
-            }
+        if (ordinal == null) {
+            handle.set(object, null);
+            return;
+        }
 
-            Object resultEnum = numnum.getEnumConstants()[ordinal];
+        Object resultEnum = numnum.getEnumConstants()[ordinal];
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Found " + resultEnum + " with ordinal " + ordinal + " for " + object);
-            }
-            field.set(object, resultEnum);
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Found " + resultEnum + " with ordinal " + ordinal + " for " + object);
         }
+        handle.set(object, resultEnum);
     }
 
     @Override
@@ -38,34 +38,33 @@ public class GremlinEnumStringCollectionFieldPropertyAccessor extends AbstractGr
     @Override
     public String get(Object object) {
 
-        try {
-            Object result = field.get(object);
+        return toPropertyValue(handle.get(object));
+    }
 
-            if (result == null) {
-                return null;
-            }
-            Collection<? extends Enum> enums = (Collection<? extends Enum>)result;
-            StringBuffer buffer = new StringBuffer();
-            for (Enum num : enums) {
-                if (useOrdinal) {
-                    buffer.append(num.ordinal());
-                } else {
-                    buffer.append(num.toString());
-                }
-                buffer.append(",");
+    @Override
+    public String toPropertyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Collection<? extends Enum> enums = (Collection<? extends Enum>)value;
+        StringBuffer buffer = new StringBuffer();
+        for (Enum num : enums) {
+            if (useOrdinal) {
+                buffer.append(num.ordinal());
+            } else {
+                buffer.append(num.toString());
             }
-            buffer.deleteCharAt(buffer.length() - 1);
-            return buffer.toString();
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+            buffer.append(",");
         }
+        buffer.deleteCharAt(buffer.length() - 1);
+        return buffer.toString();
     }
 
     @Override
     public void set(Object object, String array) {
         try {
             if (array == null) {
-                field.set(object, null);
+                handle.set(object, null);
                 return;
             }
 
@@ -86,7 +85,7 @@ public class GremlinEnumStringCollectionFieldPropertyAccessor extends AbstractGr
                 }
             }
 
-            field.set(object, collection);
+            handle.set(object, collection);
         } catch (IllegalAccessException | InstantiationException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
@@ -19,32 +19,24 @@ public class GremlinEnumStringFieldPropertyAccessor extends AbstractGremlinField
     @Override
     public String get(Object object) {
 
-        try {
-            Object result = field.get(object);
+        return toPropertyValue(handle.get(object));
+    }
 
-            if (result == null) {
-                return null;
-            }
-            return result.toString();
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+    @Override
+    public String toPropertyValue(Object value) {
+        return value == null ? null : value.toString();
     }
 
     @Override
     public void set(Object object, String name) {
-        try {
-            if (name == null) {
-                field.set(object, name);
-            }
-            for (Enum num : numnum.getEnumConstants()) {
-                if (num.name().equals(name)) {
-                    field.set(object, num);
-                    break;
-                }
+        if (name == null) {
+            handle.set(object, name);
+        }
+        for (Enum num : numnum.getEnumConstants()) {
+            if (num.name().equals(name)) {
+                handle.set(object, num);
+                break;
             }
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
         }
     }
 }
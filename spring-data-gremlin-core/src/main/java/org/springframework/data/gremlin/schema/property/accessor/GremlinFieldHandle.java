@@ -0,0 +1,165 @@
+package org.springframework.data.gremlin.schema.property.accessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a {@link Field} of an object, for the accessors of its property.
+ * <p>
+ * A handle is created once per field, when the accessor of its property is created by the schema generator. By default it uses
+ * {@link Field#get(Object)} and {@link Field#set(Object, Object)}. With {@code -Dsdg-method-handle-accessors=true} it invokes
+ * {@link MethodHandle}s unreflected from the field instead, falling back to reflection when the field cannot be unreflected;
+ * {@code GremlinFieldHandleBenchmark} compares the two.
+ * </p>
+ * <p>
+ * Either way the handle throws {@link IllegalArgumentException} for an object or value of the wrong type, as reflection does.
+ * </p>
+ */
+public abstract class GremlinFieldHandle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinFieldHandle.class);
+
+    private static final boolean METHOD_HANDLES = Boolean.getBoolean("sdg-method-handle-accessors");
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    protected final Field field;
+
+    protected GremlinFieldHandle(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * @param field the field, which is made accessible
+     * @return a handle using reflection on the field, or invoking method handles of the field when they are enabled
+     */
+    public static GremlinFieldHandle of(Field field) {
+        return METHOD_HANDLES ? methodHandle(field) : reflective(field);
+    }
+
+    /**
+     * @param field the field, which is made accessible
+     * @return a handle using reflection on the field
+     */
+    public static GremlinFieldHandle reflective(Field field) {
+        field.setAccessible(true);
+        return new Reflective(field);
+    }
+
+    /**
+     * @param field the field, which is made accessible
+     * @return a handle invoking method handles of the field, or reflection when they cannot be created
+     */
+    public static GremlinFieldHandle methodHandle(Field field) {
+        field.setAccessible(true);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return new Invoking(field, getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Could not create method handles for {}, using reflection: {}", field, e.getMessage());
+            return new Reflective(field);
+        }
+    }
+
+    /**
+     * @param object the object holding the field
+     * @return the value of the field
+     */
+    public abstract Object get(Object object);
+
+    /**
+     * @param object the object holding the field
+     * @param value  the value of the field
+     */
+    public abstract void set(Object object, Object value);
+
+    public Field getField() {
+        return field;
+    }
+
+    private static class Reflective extends GremlinFieldHandle {
+
+        private Reflective(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object get(Object object) {
+            try {
+                return field.get(object);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void set(Object object, Object value) {
+            try {
+                field.set(object, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Reflective{" + field + '}';
+        }
+    }
+
+    private static class Invoking extends GremlinFieldHandle {
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private Invoking(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException(String.format("Could not get %s of %s: %s", field, object, e.getMessage()), e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void set(Object object, Object value) {
+            if (value == null && field.getType().isPrimitive()) {
+                throw new IllegalArgumentException(String.format("Could not set %s of %s to null.", field, object));
+            }
+            try {
+                setter.invokeExact(object, value);
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException(String.format("Could not set %s of %s to %s: %s", field, object, value, e.getMessage()), e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Invoking{" + field + '}';
+        }
+    }
+}
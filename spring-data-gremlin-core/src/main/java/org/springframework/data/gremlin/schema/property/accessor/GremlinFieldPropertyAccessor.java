@@ -19,31 +19,26 @@ public class GremlinFieldPropertyAccessor<V> extends AbstractGremlinFieldPropert
         super(field, parentAccessor);
     }
 
+    /**
+     * Reads the field as it is, without loading a proxy. Callers reading the properties of a proxy outside of its own methods load
+     * it first with {@link LazyInitializationHandler#initProxy(Object)}.
+     */
     @Override
     public V get(Object object) {
-        try {
-            LazyInitializationHandler.initProxy(object);
-            object = getEmbeddedObject(object, false);
-            V result = null;
-            if (object != null) {
-                result = (V) field.get(object);
-            }
-            return result;
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        object = getEmbeddedObject(object, false);
+        V result = null;
+        if (object != null) {
+            result = (V) handle.get(object);
         }
+        return result;
     }
 
     @Override
     public void set(Object object, V val) {
 
-        try {
-            object = getEmbeddedObject(object, true);
-            if (object != null) {
-                field.set(object, val);
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        object = getEmbeddedObject(object, true);
+        if (object != null) {
+            handle.set(object, val);
         }
     }
 
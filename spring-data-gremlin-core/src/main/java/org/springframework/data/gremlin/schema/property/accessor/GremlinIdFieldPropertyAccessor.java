@@ -17,24 +17,16 @@ public class GremlinIdFieldPropertyAccessor extends GremlinFieldPropertyAccessor
     @Override
     public String get(Object object) {
 
-        try {
-            Object result = field.get(object);
-
-            if (result == null) {
-                return null;
-            }
-            return result.toString();
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+        Object result = handle.get(object);
+
+        if (result == null) {
+            return null;
         }
+        return result.toString();
     }
 
     @Override
     public void set(Object object, String val) {
-        try {
-            field.set(object, val);
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+        handle.set(object, val);
     }
 }
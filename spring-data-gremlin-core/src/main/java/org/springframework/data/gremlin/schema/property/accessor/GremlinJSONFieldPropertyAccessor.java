@@ -49,15 +49,17 @@ public class GremlinJSONFieldPropertyAccessor extends AbstractGremlinFieldProper
     @Override
     public String get(Object object) {
 
-        try {
-            Object result = field.get(getEmbeddedObject(object, false));
-
-            if (result == null) {
-                return null;
-            }
+        return toPropertyValue(handle.get(getEmbeddedObject(object, false)));
+    }
 
-            return mapper.writeValueAsString(result);
-        } catch (IllegalAccessException | IOException e) {
+    @Override
+    public String toPropertyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
@@ -67,7 +69,7 @@ public class GremlinJSONFieldPropertyAccessor extends AbstractGremlinFieldProper
         try {
             object = getEmbeddedObject(object, true);
             if (serialized == null) {
-                field.set(object, null);
+                handle.set(object, null);
                 return;
             }
 
@@ -77,9 +79,9 @@ public class GremlinJSONFieldPropertyAccessor extends AbstractGremlinFieldProper
             } else {
                 obj = mapper.readValue(serialized, field.getType());
             }
-            field.set(object, obj);
+            handle.set(object, obj);
 
-        } catch (IllegalAccessException | IOException e) {
+        } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
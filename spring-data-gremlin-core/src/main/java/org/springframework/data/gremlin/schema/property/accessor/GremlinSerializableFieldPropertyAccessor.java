@@ -17,15 +17,17 @@ public class GremlinSerializableFieldPropertyAccessor extends AbstractGremlinFie
     @Override
     public byte[] get(Object object) {
 
-        try {
-            Object result = field.get(getEmbeddedObject(object, false));
-
-            if (result == null) {
-                return null;
-            }
+        return toPropertyValue(handle.get(getEmbeddedObject(object, false)));
+    }
 
-            return toArray(result);
-        } catch (IllegalAccessException | IOException e) {
+    @Override
+    public byte[] toPropertyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return toArray(value);
+        } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
@@ -35,13 +37,13 @@ public class GremlinSerializableFieldPropertyAccessor extends AbstractGremlinFie
         try {
             object = getEmbeddedObject(object, true);
             if (serialized == null) {
-                field.set(object, serialized);
+                handle.set(object, serialized);
                 return;
             }
 
-            field.set(object, fromArray(serialized));
+            handle.set(object, fromArray(serialized));
 
-        } catch (IllegalAccessException | IOException | ClassNotFoundException e) {
+        } catch (IOException | ClassNotFoundException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
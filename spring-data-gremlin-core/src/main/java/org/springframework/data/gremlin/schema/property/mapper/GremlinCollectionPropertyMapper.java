@@ -7,6 +7,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinLoadingGroup;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
 import org.springframework.util.Assert;
@@ -98,16 +99,18 @@ public class GremlinCollectionPropertyMapper implements GremlinPropertyMapper<Gr
     private <V> Set<V> loadCollection(final GremlinSchema<V> schema, final GremlinRelatedProperty property, final GremlinGraphAdapter graphAdapter, final Vertex vertex, final Map<Object, Object> cascadingSchemas) {
         final Set<V> collection = new HashSet<V>();
         Direction direction = property.getDirection();
-		vertex.edges(direction, property.getName()).forEachRemaining(new Consumer<Edge>() {
-            @Override
-            public void accept(Edge connectedEdge) {
-                graphAdapter.refresh(connectedEdge);
-                Vertex linkedVertex = (direction == Direction.OUT) ? connectedEdge.inVertex() : connectedEdge.outVertex();
-                graphAdapter.refresh(linkedVertex);
-                V linkedObject = schema.cascadeLoadFromGraph(graphAdapter, linkedVertex, cascadingSchemas);
-                collection.add(linkedObject);
-            }
+        return GremlinLoadingGroup.batch(() -> {
+            vertex.edges(direction, property.getName()).forEachRemaining(new Consumer<Edge>() {
+                @Override
+                public void accept(Edge connectedEdge) {
+                    graphAdapter.refresh(connectedEdge);
+                    Vertex linkedVertex = (direction == Direction.OUT) ? connectedEdge.inVertex() : connectedEdge.outVertex();
+                    graphAdapter.refresh(linkedVertex);
+                    V linkedObject = schema.cascadeLoadFromGraph(graphAdapter, linkedVertex, cascadingSchemas);
+                    collection.add(linkedObject);
+                }
+            });
+            return collection;
         });
-        return collection;
     }
 }
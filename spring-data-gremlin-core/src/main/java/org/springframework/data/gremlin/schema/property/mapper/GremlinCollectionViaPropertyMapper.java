@@ -7,6 +7,8 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.LazyInitializationHandler;
+import org.springframework.data.gremlin.schema.GremlinLoadingGroup;
 import org.springframework.data.gremlin.schema.GremlinSchema;
 import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
 import org.springframework.data.gremlin.schema.property.GremlinLinkProperty;
@@ -51,6 +53,7 @@ public class GremlinCollectionViaPropertyMapper extends GremlinLinkPropertyMappe
             // Now go through the collection of linked Objects
             for (Object linkedObj : (Collection) val) {
 
+                LazyInitializationHandler.initProperty(linkedObj, adjacentProperty);
                 Object adjacentObj = adjacentProperty.getAccessor().get(linkedObj);
                 if (adjacentObj != null) {
                     Vertex adjacentVertex = graphAdapter.findOrCreateVertex(adjacentProperty.getRelatedSchema().getObjectId(adjacentObj), adjacentProperty.getRelatedSchema().getClassName());
@@ -101,7 +104,7 @@ public class GremlinCollectionViaPropertyMapper extends GremlinLinkPropertyMappe
         // For each disjointed edge, remove it
         for (Edge vertexToDelete : CollectionUtils.disjunction(existingLinkedEdges, actualLinkedEdges)) {
             LOGGER.debug("Removing " + vertexToDelete + ".");
-            vertexToDelete.remove();
+            graphAdapter.removeEdge(vertexToDelete);
         }
 
     }
@@ -115,14 +118,16 @@ public class GremlinCollectionViaPropertyMapper extends GremlinLinkPropertyMappe
     private <V> Set<V> loadCollection(GremlinRelatedProperty<V> property, GremlinGraphAdapter graphAdapter, Vertex vertex, Map<Object, Object> cascadingSchemas) {
         final Set<V> collection = new HashSet<>();
         GremlinSchema<V> schema = property.getRelatedSchema();
-        vertex.edges(property.getDirection(), property.getRelatedSchema().getClassName()).forEachRemaining(new Consumer<Edge>() {
-            @Override
-            public void accept(Edge linkedEdge) {
-                graphAdapter.refresh(linkedEdge);
-                V linkedObject = schema.cascadeLoadFromGraph(graphAdapter, linkedEdge, cascadingSchemas);
-                collection.add(linkedObject);
-            }
+        return GremlinLoadingGroup.batch(() -> {
+            vertex.edges(property.getDirection(), property.getRelatedSchema().getClassName()).forEachRemaining(new Consumer<Edge>() {
+                @Override
+                public void accept(Edge linkedEdge) {
+                    graphAdapter.refresh(linkedEdge);
+                    V linkedObject = schema.cascadeLoadFromGraph(graphAdapter, linkedEdge, cascadingSchemas);
+                    collection.add(linkedObject);
+                }
+            });
+            return collection;
         });
-        return collection;
     }
 }
@@ -6,6 +6,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.LazyInitializationHandler;
 import org.springframework.data.gremlin.schema.property.GremlinAdjacentProperty;
 import org.springframework.data.gremlin.schema.property.GremlinLinkProperty;
 import org.springframework.data.gremlin.schema.property.GremlinRelatedProperty;
@@ -34,6 +35,7 @@ public class GremlinLinkViaPropertyMapper extends GremlinLinkPropertyMapper {
         // Check we found the adjacent property
         if (adjacentProperty != null) {
 
+            LazyInitializationHandler.initProperty(val, adjacentProperty);
             Object adjacentObj = adjacentProperty.getAccessor().get(val);
             if (adjacentObj != null) {
                 Vertex adjacentVertex = graphAdapter.findOrCreateVertex(adjacentProperty.getRelatedSchema().getObjectId(adjacentObj), adjacentProperty.getRelatedSchema().getClassName());
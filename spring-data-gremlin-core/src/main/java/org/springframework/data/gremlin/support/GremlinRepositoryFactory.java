@@ -2,6 +2,7 @@ package org.springframework.data.gremlin.support;
 
 import org.springframework.data.gremlin.query.AbstractNativeGremlinQuery;
 import org.springframework.data.gremlin.query.GremlinQueryLookupStrategy;
+import org.springframework.data.gremlin.query.GremlinScriptCache;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.repository.GremlinRepository;
 import org.springframework.data.gremlin.repository.GremlinRepositoryContext;
@@ -36,6 +37,7 @@ public class GremlinRepositoryFactory extends RepositoryFactorySupport {
     protected final SchemaWriter schemaWriter;
     protected final Class<? extends AbstractNativeGremlinQuery> nativeQueryType;
     protected final Class<? extends GremlinRepository> repositoryType;
+    protected final GremlinScriptCache scriptCache;
 
     public GremlinRepositoryFactory(GremlinRepositoryContext context) {
         this.dbf = context.getGraphFactory();
@@ -44,6 +46,7 @@ public class GremlinRepositoryFactory extends RepositoryFactorySupport {
         this.schemaWriter = context.getSchemaWriter();
         this.nativeQueryType = context.getNativeQueryType();
         this.repositoryType = context.getRepositoryType();
+        this.scriptCache = context.getScriptCache();
     }
 
     @Override
@@ -93,7 +96,7 @@ public class GremlinRepositoryFactory extends RepositoryFactorySupport {
      */
     @Override
     protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key, QueryMethodEvaluationContextProvider provider) {
-        return Optional.of(GremlinQueryLookupStrategy.create(dbf, schemaFactory, graphAdapter, nativeQueryType, key));
+        return Optional.of(GremlinQueryLookupStrategy.create(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache, key));
     }
 
 }
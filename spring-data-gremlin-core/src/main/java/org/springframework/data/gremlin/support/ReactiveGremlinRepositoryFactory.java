@@ -0,0 +1,110 @@
+package org.springframework.data.gremlin.support;
+
+import org.springframework.data.gremlin.query.AbstractGremlinQuery;
+import org.springframework.data.gremlin.query.AbstractNativeGremlinQuery;
+import org.springframework.data.gremlin.query.GremlinQueryLookupStrategy;
+import org.springframework.data.gremlin.query.GremlinScriptCache;
+import org.springframework.data.gremlin.query.ReactiveGremlinQuery;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.repository.GremlinRepository;
+import org.springframework.data.gremlin.repository.GremlinRepositoryContext;
+import org.springframework.data.gremlin.repository.SimpleGremlinRepository;
+import org.springframework.data.gremlin.repository.SimpleReactiveGremlinRepository;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinIdPropertyAccessor;
+import org.springframework.data.gremlin.schema.writer.SchemaWriter;
+import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+/**
+ * A {@link ReactiveRepositoryFactorySupport} for Gremlin, creating {@link SimpleReactiveGremlinRepository}s on top of the blocking
+ * repositories of the {@link GremlinRepositoryContext}.
+ */
+public class ReactiveGremlinRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    protected final GremlinGraphFactory dbf;
+    protected final GremlinGraphAdapter graphAdapter;
+    protected final GremlinSchemaFactory schemaFactory;
+    protected final SchemaWriter schemaWriter;
+    protected final Class<? extends AbstractNativeGremlinQuery> nativeQueryType;
+    protected final Class<? extends GremlinRepository> repositoryType;
+    protected final GremlinScriptCache scriptCache;
+    protected final ReactiveGremlinTransactions transactions;
+
+    public ReactiveGremlinRepositoryFactory(GremlinRepositoryContext context, ReactiveGremlinTransactions transactions) {
+        this.dbf = context.getGraphFactory();
+        this.graphAdapter = context.getGraphAdapter();
+        this.schemaFactory = context.getSchemaFactory();
+        this.schemaWriter = context.getSchemaWriter();
+        this.nativeQueryType = context.getNativeQueryType();
+        this.repositoryType = context.getRepositoryType();
+        this.scriptCache = context.getScriptCache();
+        this.transactions = transactions;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        GremlinSchema schema = schemaFactory.getSchema(domainClass);
+        GremlinIdPropertyAccessor idAccessor = schema.getIdAccessor();
+        return (EntityInformation<T, ID>) new GremlinMetamodelEntityInformation<T>(domainClass, idAccessor);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Object getTargetRepository(RepositoryInformation metadata) {
+        GremlinSchema schema = schemaFactory.getSchema(metadata.getDomainType());
+
+        try {
+            Constructor<?> constructor = repositoryType.getConstructor(GremlinGraphFactory.class, GremlinGraphAdapter.class, GremlinSchema.class);
+            Object repository = constructor.newInstance(dbf, graphAdapter, schema);
+            if (!(repository instanceof SimpleGremlinRepository)) {
+                throw new IllegalStateException(String.format("%s does not extend %s", repositoryType, SimpleGremlinRepository.class));
+            }
+            if (schema.getRepository() == null) {
+                schema.setRepository((GremlinRepository) repository);
+                schema.setGraphFactory(dbf);
+            }
+
+            if (schemaWriter != null) {
+                schemaWriter.writeSchema(dbf, schema);
+            }
+
+            return new SimpleReactiveGremlinRepository((SimpleGremlinRepository) repository, transactions);
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format("Could not create a reactive %s! Error: %s", repositoryType, e.getMessage()), e);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveGremlinRepository.class;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getQueryLookupStrategy(org.springframework.data.repository.query.QueryLookupStrategy.Key)
+     */
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key, QueryMethodEvaluationContextProvider provider) {
+        QueryLookupStrategy strategy = GremlinQueryLookupStrategy.create(dbf, schemaFactory, graphAdapter, nativeQueryType, scriptCache, key);
+        return Optional.of((method, metadata, factory, namedQueries) ->
+                new ReactiveGremlinQuery((AbstractGremlinQuery) strategy.resolveQuery(method, metadata, factory, namedQueries), transactions));
+    }
+}
@@ -0,0 +1,37 @@
+package org.springframework.data.gremlin.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.gremlin.repository.GremlinRepositoryContext;
+import org.springframework.data.gremlin.repository.ReactiveGremlinRepository;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
+ * reactive repository factories via Spring configuration. Transactions are not applied by a proxy, but by the
+ * {@link ReactiveGremlinTransactions} the repositories run their operations through.
+ *
+ * @param <T> the type of the repository
+ * @param <S> the type of the entity
+ */
+public class ReactiveGremlinRepositoryFactoryBean<T extends ReactiveGremlinRepository<S>, S> extends RepositoryFactoryBeanSupport<T, S, String> {
+
+    @Autowired
+    private GremlinRepositoryContext context;
+
+    @Autowired
+    private ReactiveGremlinTransactions transactions;
+
+    protected ReactiveGremlinRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#createRepositoryFactory()
+     */
+    @Override
+    protected RepositoryFactorySupport createRepositoryFactory() {
+        return new ReactiveGremlinRepositoryFactory(context, transactions);
+    }
+}
@@ -3,9 +3,12 @@ package org.springframework.data.gremlin.tx;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * An abstract factory for creating {@link Graph} objects for concrete implementations.
@@ -17,6 +20,11 @@ public abstract class AbstractGremlinGraphFactory<T extends Graph> implements Gr
     /** The logger. */
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractGremlinGraphFactory.class);
 
+    private static final boolean IDENTITY_MAP = Boolean.parseBoolean(System.getProperty("sdg-identity-map", "true"));
+
+    /** The key of the identity map bound along with the graph of a transaction. */
+    private final Object identityMapKey = new Object();
+
     /** The username. */
     protected String username = DEFAULT_USERNAME;
 
@@ -87,6 +95,43 @@ public abstract class AbstractGremlinGraphFactory<T extends Graph> implements Gr
         return graph;
     }
 
+    /**
+     * Gets the identity map of the current transaction, binding a new one along with the graph on first use. The map is
+     * unbound when the transaction completes, and while it is suspended.
+     *
+     * @return the entities loaded in the current transaction keyed by their element ids, or null if there is no transaction
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Object, Object> identityMap() {
+        if (!IDENTITY_MAP || !TransactionSynchronizationManager.isSynchronizationActive() || !TransactionSynchronizationManager.hasResource(this)) {
+            return null;
+        }
+        Map<Object, Object> identityMap = (Map<Object, Object>) TransactionSynchronizationManager.getResource(identityMapKey);
+        if (identityMap == null) {
+            Map<Object, Object> newIdentityMap = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(identityMapKey, newIdentityMap);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(identityMapKey);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(identityMapKey, newIdentityMap);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(identityMapKey);
+                }
+            });
+            identityMap = newIdentityMap;
+        }
+        return identityMap;
+    }
+
     /**
      * Gets the database url.
      *
@@ -2,6 +2,8 @@ package org.springframework.data.gremlin.tx;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import java.util.Map;
+
 /**
  * An interface defining a Gremlin {@link Graph} factory.
  *
@@ -62,4 +64,12 @@ public interface GremlinGraphFactory<T extends Graph> {
     RuntimeException getForceRetryException();
 
     void resumeTx(T oldGraph);
+
+    /**
+     * @return the entities loaded in the current transaction keyed by their element ids, or null if there is no transaction or
+     * entities are not shared
+     */
+    default Map<Object, Object> identityMap() {
+        return null;
+    }
 }
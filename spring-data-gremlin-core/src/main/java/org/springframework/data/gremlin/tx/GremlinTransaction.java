@@ -9,6 +9,8 @@ public class GremlinTransaction {
 
     private Graph graph;
 
+    private GremlinUnitOfWork unitOfWork;
+
     public GremlinTransaction(Graph graph) {
         this.graph = graph;
     }
@@ -20,4 +22,15 @@ public class GremlinTransaction {
     public void setGraph(Graph graph) {
         this.graph = graph;
     }
+
+    /**
+     * @return the unit of work this transaction has bound, or null if it is not in write-behind mode
+     */
+    public GremlinUnitOfWork getUnitOfWork() {
+        return unitOfWork;
+    }
+
+    public void setUnitOfWork(GremlinUnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
 }
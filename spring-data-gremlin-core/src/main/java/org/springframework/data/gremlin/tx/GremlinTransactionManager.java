@@ -9,6 +9,8 @@ import org.springframework.transaction.support.AbstractPlatformTransactionManage
 import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.ResourceTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
 
 /**
  * {@link org.springframework.transaction.PlatformTransactionManager} implementation
@@ -21,11 +23,13 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
     private static final long serialVersionUID = 1L;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinTransactionManager.class);
-    private static final int RETRY_DELAY = Integer.getInteger("sdg-retry-delay", 50);
-    private static final int MAX_RETRY = Integer.getInteger("sdg-max-retry", 10);
 
     private GremlinGraphFactory graphFactory;
 
+    private BackOff commitBackOff = new JitteredBackOff();
+
+    private boolean writeBehind = Boolean.getBoolean("sdg-write-behind");
+
     /**
      * Instantiates a new GremlinTransactionManager with the given GremlinGraphFactory.
      *
@@ -75,6 +79,12 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
         LOGGER.debug("beginning transaction, db.hashCode() = {}", tx.getGraph().hashCode());
 
         graphFactory.beginTx(tx.getGraph());
+
+        // The unit of work of a suspended transaction has been unbound, so that this one does not write its saves
+        if (writeBehind) {
+            tx.setUnitOfWork(new GremlinUnitOfWork());
+            GremlinUnitOfWork.bind(graphFactory, tx.getUnitOfWork());
+        }
     }
 
     /* (non-Javadoc)
@@ -84,23 +94,32 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
     protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
         GremlinTransaction tx = (GremlinTransaction) status.getTransaction();
         Graph graph = tx.getGraph();
+        if (tx.getUnitOfWork() != null) {
+            tx.getUnitOfWork().flush();
+        }
+        BackOffExecution backOff = commitBackOff.start();
         int attempts = 0;
-        while (attempts++ < MAX_RETRY) {
+        while (true) {
+            attempts++;
             try {
                 graphFactory.commitTx(graph);
-                break;
-           } catch (RuntimeException e) {
-               if (graphFactory.getRetryException().isAssignableFrom(e.getClass())) {
-                   LOGGER.warn("Attempted to commit Tx " + attempts + " out of " + MAX_RETRY + " times. Waiting " + RETRY_DELAY + "ms before trying again. Error: "+e.getMessage());
-                } else {
+                return;
+            } catch (RuntimeException e) {
+                if (!graphFactory.getRetryException().isAssignableFrom(e.getClass())) {
+                    throw e;
+                }
+                long delay = backOff.nextBackOff();
+                if (delay == BackOffExecution.STOP) {
+                    LOGGER.warn("Could not commit Tx after {} attempts. Error: {}", attempts, e.getMessage());
+                    throw e;
+                }
+                LOGGER.warn("Attempted to commit Tx {} times. Waiting {}ms before trying again. Error: {}", attempts, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e1) {
+                    Thread.currentThread().interrupt();
                     throw e;
                 }
-            }
-
-            try {
-                Thread.sleep(RETRY_DELAY);
-            } catch (InterruptedException e1) {
-                e1.printStackTrace();
             }
         }
     }
@@ -115,6 +134,10 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
 
         LOGGER.debug("rolling back transaction, db.hashCode() = {}", graph.hashCode());
 
+        if (tx.getUnitOfWork() != null) {
+            tx.getUnitOfWork().clear();
+        }
+
         graphFactory.rollbackTx(graph);
     }
 
@@ -139,6 +162,9 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
         }
 
         TransactionSynchronizationManager.unbindResource(graphFactory);
+        if (tx.getUnitOfWork() != null) {
+            GremlinUnitOfWork.unbind(graphFactory);
+        }
     }
 
     /* (non-Javadoc)
@@ -148,7 +174,11 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
     protected Object doSuspend(Object transaction) throws TransactionException {
         GremlinTransaction tx = (GremlinTransaction) transaction;
 
-        return tx.getGraph();
+        GremlinUnitOfWork unitOfWork = GremlinUnitOfWork.current(graphFactory);
+        if (unitOfWork != null) {
+            GremlinUnitOfWork.unbind(graphFactory);
+        }
+        return new SuspendedResources(tx.getGraph(), unitOfWork);
     }
 
     /* (non-Javadoc)
@@ -157,13 +187,18 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
     @Override
     protected void doResume(Object transaction, Object suspendedResources) throws TransactionException {
         GremlinTransaction tx = (GremlinTransaction) transaction;
+        SuspendedResources resources = (SuspendedResources) suspendedResources;
+        Graph oldGraph = resources.graph;
 
-        if (!graphFactory.isClosed(tx.getGraph())) {
+        // The new transaction may have run on the graph of the suspended one, which must stay open
+        if (tx.getGraph() != oldGraph && !graphFactory.isClosed(tx.getGraph())) {
             graphFactory.shutdown(tx.getGraph());
         }
 
-        Graph oldGraph = (Graph) suspendedResources;
         TransactionSynchronizationManager.bindResource(graphFactory, oldGraph);
+        if (resources.unitOfWork != null) {
+            GremlinUnitOfWork.bind(graphFactory, resources.unitOfWork);
+        }
 
         graphFactory.resumeTx(oldGraph);
     }
@@ -183,4 +218,47 @@ public class GremlinTransactionManager extends AbstractPlatformTransactionManage
     public void setGraphFactory(GremlinGraphFactory graphFactory) {
         this.graphFactory = graphFactory;
     }
+
+    public BackOff getCommitBackOff() {
+        return commitBackOff;
+    }
+
+    /**
+     * Sets the policy deciding whether, and after how long, a commit which failed with the retry exception of the graph factory is
+     * attempted again, defaulting to a {@link JitteredBackOff}.
+     *
+     * @param commitBackOff the back off of failed commits
+     */
+    public void setCommitBackOff(BackOff commitBackOff) {
+        this.commitBackOff = commitBackOff;
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Sets whether saves are held back in a {@link GremlinUnitOfWork} until their transaction commits, defaulting to
+     * {@code -Dsdg-write-behind}.
+     *
+     * @param writeBehind true to hold the saves back
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * The graph and the unit of work, if any, of a suspended transaction.
+     */
+    private static final class SuspendedResources {
+
+        private final Graph graph;
+
+        private final GremlinUnitOfWork unitOfWork;
+
+        private SuspendedResources(Graph graph, GremlinUnitOfWork unitOfWork) {
+            this.graph = graph;
+            this.unitOfWork = unitOfWork;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package org.springframework.data.gremlin.tx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The saves of a transaction held back until it commits, so that saving an entity several times writes it once.
+ * <p>
+ * A unit of work is bound along with the graph of a transaction by the {@link GremlinTransactionManager} when its write-behind
+ * mode is enabled. The repositories then register their saves instead of writing them, and the pending saves are flushed before
+ * the transaction commits, or before a query which needs to see them. A flush first writes the elements of all the pending
+ * entities, then their edges, so that the edges find the elements they link, whatever the order of the saves.
+ * </p>
+ */
+public class GremlinUnitOfWork {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinUnitOfWork.class);
+
+    /**
+     * A pending save, written in two steps.
+     */
+    public interface Write {
+
+        /**
+         * Creates or updates the element of the entity with its plain properties.
+         */
+        void writeElement();
+
+        /**
+         * Writes the relationships of the entity, once the elements of all the pending entities have been written.
+         */
+        void writeEdges();
+    }
+
+    /** The pending writes by entity, in the order the entities have first been saved. */
+    private final Map<Object, Write> writes = new IdentityHashMap<>();
+
+    private final List<Object> order = new ArrayList<>();
+
+    private boolean flushing;
+
+    /**
+     * Registers the save of the given entity, replacing its pending save if it has already been saved.
+     *
+     * @param entity the entity
+     * @param write  the save
+     */
+    public void register(Object entity, Write write) {
+        if (writes.put(entity, write) == null) {
+            order.add(entity);
+        }
+    }
+
+    /**
+     * @return true if the given entity has a pending save
+     */
+    public boolean isPending(Object entity) {
+        return writes.containsKey(entity);
+    }
+
+    /**
+     * @return true while the pending saves are being written, during which saves are written directly
+     */
+    public boolean isFlushing() {
+        return flushing;
+    }
+
+    /**
+     * Writes the pending saves.
+     */
+    public void flush() {
+        if (flushing || writes.isEmpty()) {
+            return;
+        }
+        flushing = true;
+        try {
+            List<Write> pending = new ArrayList<>(order.size());
+            for (Object entity : order) {
+                pending.add(writes.get(entity));
+            }
+            clear();
+            LOGGER.debug("flushing {} pending saves", pending.size());
+
+            for (Write write : pending) {
+                write.writeElement();
+            }
+            for (Write write : pending) {
+                write.writeEdges();
+            }
+        } finally {
+            flushing = false;
+        }
+    }
+
+    /**
+     * Discards the pending saves.
+     */
+    public void clear() {
+        writes.clear();
+        order.clear();
+    }
+
+    /**
+     * @return the unit of work of the current transaction of the given factory, or null if it is not in write-behind mode
+     */
+    public static GremlinUnitOfWork current(GremlinGraphFactory<?> graphFactory) {
+        return (GremlinUnitOfWork) TransactionSynchronizationManager.getResource(new Key(graphFactory));
+    }
+
+    /**
+     * Writes the saves pending in the current transaction of the given factory, if any.
+     */
+    public static void flush(GremlinGraphFactory<?> graphFactory) {
+        GremlinUnitOfWork unitOfWork = current(graphFactory);
+        if (unitOfWork != null) {
+            unitOfWork.flush();
+        }
+    }
+
+    static void bind(GremlinGraphFactory<?> graphFactory, GremlinUnitOfWork unitOfWork) {
+        TransactionSynchronizationManager.bindResource(new Key(graphFactory), unitOfWork);
+    }
+
+    static void unbind(GremlinGraphFactory<?> graphFactory) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(new Key(graphFactory));
+    }
+
+    /**
+     * The resource key of the unit of work of a graph factory.
+     */
+    private static final class Key {
+
+        private final GremlinGraphFactory<?> graphFactory;
+
+        private Key(GremlinGraphFactory<?> graphFactory) {
+            this.graphFactory = graphFactory;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).graphFactory == graphFactory;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(graphFactory);
+        }
+    }
+}
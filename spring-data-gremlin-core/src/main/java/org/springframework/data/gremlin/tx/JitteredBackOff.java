@@ -0,0 +1,105 @@
+package org.springframework.data.gremlin.tx;
+
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An exponential {@link BackOff} with full jitter: each wait is a random delay up to an interval doubling from the initial interval
+ * to the maximum interval.
+ * <p>
+ * Randomising the waits spreads out the retries of transactions which failed together on the same elements, rather than have them
+ * collide again in lock step. By default the initial interval is given by {@code -Dsdg-retry-delay} (50ms), the maximum interval by
+ * {@code -Dsdg-retry-max-delay} (2000ms) and the number of attempts, including the first, by {@code -Dsdg-max-retry} (10).
+ * </p>
+ */
+public class JitteredBackOff implements BackOff {
+
+    private long initialInterval = Integer.getInteger("sdg-retry-delay", 50);
+
+    private long maxInterval = Integer.getInteger("sdg-retry-max-delay", 2000);
+
+    private double multiplier = 2;
+
+    private int maxAttempts = Integer.getInteger("sdg-max-retry", 10);
+
+    public JitteredBackOff() {
+    }
+
+    public JitteredBackOff(long initialInterval, long maxInterval, int maxAttempts) {
+        setInitialInterval(initialInterval);
+        setMaxInterval(maxInterval);
+        setMaxAttempts(maxAttempts);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.util.backoff.BackOff#start()
+     */
+    @Override
+    public BackOffExecution start() {
+        return new BackOffExecution() {
+
+            private int retries;
+
+            private double interval = initialInterval;
+
+            @Override
+            public long nextBackOff() {
+                if (++retries >= maxAttempts) {
+                    return STOP;
+                }
+                long delay = ThreadLocalRandom.current().nextLong((long) interval + 1);
+                interval = Math.min(interval * multiplier, maxInterval);
+                return delay;
+            }
+        };
+    }
+
+    public long getInitialInterval() {
+        return initialInterval;
+    }
+
+    public void setInitialInterval(long initialInterval) {
+        if (initialInterval < 0) {
+            throw new IllegalArgumentException(String.format("The initial interval cannot be negative, but was %d.", initialInterval));
+        }
+        this.initialInterval = initialInterval;
+    }
+
+    public long getMaxInterval() {
+        return maxInterval;
+    }
+
+    public void setMaxInterval(long maxInterval) {
+        if (maxInterval < 0) {
+            throw new IllegalArgumentException(String.format("The maximum interval cannot be negative, but was %d.", maxInterval));
+        }
+        this.maxInterval = maxInterval;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(double multiplier) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException(String.format("The multiplier must be at least 1, but was %s.", multiplier));
+        }
+        this.multiplier = multiplier;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param maxAttempts the number of attempts, including the first, after which to stop
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException(String.format("There must be at least one attempt, but was %d.", maxAttempts));
+        }
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,281 @@
+package org.springframework.data.gremlin.tx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs the blocking graph work of reactive repositories off the subscriber's thread and scopes it in transactions.
+ * <p>
+ * Gremlin transactions are bound to a thread, so a transaction is given a worker of the bounded scheduler, sized after the pool
+ * of the {@link GremlinGraphFactory}, for its whole lifetime. No more transactions run at once than the scheduler has threads, so
+ * that each worker has a thread of its own; the others wait for a worker to be released. A single value is read or written in a
+ * transaction of its own. A {@link Flux} of entities is streamed from a traversal inside one transaction, mapping an element only
+ * when it is requested. Publishers wrapped by {@link #transactional(Flux)} or {@link #transactional(Mono)} share one transaction,
+ * which is propagated to the repository calls within them through the Reactor {@link Context}, committed when they complete and
+ * rolled back when they fail or are cancelled.
+ * </p>
+ */
+public class ReactiveGremlinTransactions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveGremlinTransactions.class);
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final Workers workers;
+
+    private final TransactionDefinition definition;
+
+    /**
+     * Instantiates a new ReactiveGremlinTransactions with a bounded scheduler using at most as many threads as the pool of the
+     * given GremlinGraphFactory.
+     *
+     * @param graphFactory       the GremlinGraphFactory
+     * @param transactionManager the transaction manager of the graph, usually a {@link GremlinTransactionManager}
+     */
+    public ReactiveGremlinTransactions(GremlinGraphFactory graphFactory, PlatformTransactionManager transactionManager) {
+        this(transactionManager, Schedulers.newBoundedElastic(graphFactory.getMaxPoolSize(), Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "sdg-gremlin"),
+             graphFactory.getMaxPoolSize());
+    }
+
+    /**
+     * Instantiates a new ReactiveGremlinTransactions.
+     *
+     * @param transactionManager the transaction manager of the graph, usually a {@link GremlinTransactionManager}
+     * @param scheduler          the scheduler running the transactions, whose workers must each have a thread of their own up to
+     *                           the given number of them, as those of a bounded elastic scheduler do
+     * @param maxTransactions    the number of transactions to run at once
+     */
+    public ReactiveGremlinTransactions(PlatformTransactionManager transactionManager, Scheduler scheduler, int maxTransactions) {
+        this(transactionManager, new Workers(scheduler, maxTransactions), new DefaultTransactionDefinition());
+    }
+
+    private ReactiveGremlinTransactions(PlatformTransactionManager transactionManager, Workers workers, TransactionDefinition definition) {
+        if (workers.available < 1) {
+            throw new IllegalArgumentException(String.format("The number of transactions to run at once must be positive, but was %d", workers.available));
+        }
+        this.transactionManager = transactionManager;
+        this.workers = workers;
+        this.definition = definition;
+    }
+
+    /**
+     * Returns a copy of this ReactiveGremlinTransactions beginning transactions with the given definition, such as a read-only
+     * one.
+     *
+     * @param definition the transaction definition
+     * @return the copy
+     */
+    public ReactiveGremlinTransactions withDefinition(TransactionDefinition definition) {
+        return new ReactiveGremlinTransactions(transactionManager, workers, definition);
+    }
+
+    /**
+     * Runs the repository calls of the given Flux in one transaction, or in the transaction of the Context if there is one.
+     *
+     * @param flux the Flux
+     * @param <T>  the element type
+     * @return the transactional Flux
+     */
+    public <T> Flux<T> transactional(Flux<T> flux) {
+        return Mono.subscriberContext().flatMapMany(context -> {
+            if (context.hasKey(TransactionScope.class)) {
+                return flux;
+            }
+            return Flux.usingWhen(begin(),
+                    scope -> flux.subscriberContext(ctx -> ctx.put(TransactionScope.class, scope)),
+                    this::commit,
+                    (scope, error) -> rollback(scope),
+                    this::rollback);
+        });
+    }
+
+    /**
+     * Runs the repository calls of the given Mono in one transaction, or in the transaction of the Context if there is one.
+     *
+     * @param mono the Mono
+     * @param <T>  the value type
+     * @return the transactional Mono
+     */
+    public <T> Mono<T> transactional(Mono<T> mono) {
+        return Mono.subscriberContext().flatMap(context -> {
+            if (context.hasKey(TransactionScope.class)) {
+                return mono;
+            }
+            return Mono.usingWhen(begin(),
+                    scope -> mono.subscriberContext(ctx -> ctx.put(TransactionScope.class, scope)),
+                    this::commit,
+                    (scope, error) -> rollback(scope),
+                    this::rollback);
+        });
+    }
+
+    /**
+     * Lazily runs the given blocking work in the transaction of the Context, or in a transaction of its own on a worker of the
+     * bounded scheduler.
+     *
+     * @param work the work, returning the value or null
+     * @param <T>  the value type
+     * @return a Mono of the value, empty if it is null
+     */
+    public <T> Mono<T> mono(Supplier<T> work) {
+        return Mono.subscriberContext().flatMap(context -> {
+            Optional<TransactionScope> scope = context.getOrEmpty(TransactionScope.class);
+            if (scope.isPresent()) {
+                return Mono.fromSupplier(work).subscribeOn(scope.get().scheduler);
+            }
+            TransactionTemplate template = new TransactionTemplate(transactionManager, definition);
+            return Mono.usingWhen(workers.acquire(),
+                    worker -> Mono.fromSupplier(() -> template.execute(status -> work.get())).subscribeOn(Schedulers.fromExecutor(worker::schedule)),
+                    workers::release);
+        });
+    }
+
+    /**
+     * Lazily streams the given blocking work in the transaction of the Context, or in a transaction of its own. The Stream is
+     * consumed as its elements are requested and closed when the Flux terminates or is cancelled.
+     *
+     * @param work the work, opening the Stream
+     * @param <T>  the element type
+     * @return a Flux of the elements
+     */
+    public <T> Flux<T> flux(Supplier<Stream<? extends T>> work) {
+        return Mono.subscriberContext().flatMapMany(context -> {
+            Optional<TransactionScope> scope = context.getOrEmpty(TransactionScope.class);
+            if (scope.isPresent()) {
+                return Flux.<T>fromStream(work).subscribeOn(scope.get().scheduler);
+            }
+            return transactional(flux(work));
+        });
+    }
+
+    private Mono<TransactionScope> begin() {
+        return workers.acquire().map(TransactionScope::new)
+                .flatMap(scope -> Mono.fromRunnable(() -> scope.status = transactionManager.getTransaction(definition))
+                        .subscribeOn(scope.scheduler)
+                        .onErrorResume(e -> workers.release(scope.worker).then(Mono.error(e)))
+                        .thenReturn(scope));
+    }
+
+    private Mono<Void> commit(TransactionScope scope) {
+        return Mono.<Void>fromRunnable(() -> transactionManager.commit(scope.status))
+                .subscribeOn(scope.scheduler)
+                .doFinally(signal -> workers.release(scope.worker).subscribe());
+    }
+
+    private Mono<Void> rollback(TransactionScope scope) {
+        return Mono.<Void>fromRunnable(() -> {
+            if (!scope.status.isCompleted()) {
+                LOGGER.debug("rolling back reactive transaction");
+                transactionManager.rollback(scope.status);
+            }
+        }).subscribeOn(scope.scheduler).doFinally(signal -> workers.release(scope.worker).subscribe());
+    }
+
+    /**
+     * The worker and status of a transaction spanning several repository calls.
+     */
+    private static final class TransactionScope {
+
+        private final Scheduler.Worker worker;
+
+        /** Runs the tasks of the transaction one after another on the thread of its worker. */
+        private final Scheduler scheduler;
+
+        private TransactionStatus status;
+
+        private TransactionScope(Scheduler.Worker worker) {
+            this.worker = worker;
+            this.scheduler = Schedulers.fromExecutor(worker::schedule);
+        }
+    }
+
+    /**
+     * Hands out at most a number of workers of a scheduler at once, in the order they are asked for.
+     */
+    private static final class Workers {
+
+        private final Scheduler scheduler;
+
+        // Guarded by this
+        private int available;
+        private final Queue<Waiter> waiting = new ArrayDeque<>();
+
+        private Workers(Scheduler scheduler, int available) {
+            this.scheduler = scheduler;
+            this.available = available;
+        }
+
+        Mono<Scheduler.Worker> acquire() {
+            return Mono.create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                synchronized (this) {
+                    if (available == 0) {
+                        waiting.add(waiter);
+                        sink.onCancel(() -> cancel(waiter));
+                        return;
+                    }
+                    available--;
+                }
+                sink.success(scheduler.createWorker());
+            });
+        }
+
+        Mono<Void> release(Scheduler.Worker worker) {
+            return Mono.fromRunnable(() -> {
+                worker.dispose();
+                Waiter next;
+                synchronized (this) {
+                    next = waiting.poll();
+                    if (next == null) {
+                        available++;
+                        return;
+                    }
+                    next.worker = scheduler.createWorker();
+                }
+                next.sink.success(next.worker);
+            });
+        }
+
+        private void cancel(Waiter waiter) {
+            Scheduler.Worker worker;
+            synchronized (this) {
+                if (waiting.remove(waiter)) {
+                    return;
+                }
+                worker = waiter.worker;
+            }
+            // The worker was handed to a waiter which no longer wants it
+            if (worker != null) {
+                release(worker).subscribe();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Scheduler.Worker> sink;
+
+        private Scheduler.Worker worker;
+
+        private Waiter(MonoSink<Scheduler.Worker> sink) {
+            this.sink = sink;
+        }
+    }
+}
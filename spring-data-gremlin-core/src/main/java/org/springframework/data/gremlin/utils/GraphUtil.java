@@ -1,7 +1,12 @@
 package org.springframework.data.gremlin.utils;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.property.GremlinProperty;
 
 /**
  * Created by mmichail (zifnab87) on 4/14/2017.
@@ -14,4 +19,51 @@ public class GraphUtil {
         }
         return org.apache.tinkerpop.gremlin.groovy.jsr223.GroovyTranslator.of(graph.toString()).translate((traversal.asAdmin().clone()).getBytecode());
     }
+
+    /**
+     * Appends an {@code order()} step sorting the elements of the given traversal by the properties of the given {@link Sort}, so
+     * that the sorting is done by the graph rather than in memory.
+     *
+     * @param traversal the traversal of elements of the given schema
+     * @param schema    the schema of the elements
+     * @param sort      the sort, mapped onto property names through the schema
+     * @return the traversal
+     */
+    @SuppressWarnings("unchecked")
+    public static GraphTraversal order(GraphTraversal traversal, GremlinSchema<?> schema, Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return traversal;
+        }
+        traversal.order();
+        for (Sort.Order order : sort) {
+            traversal.by(propertyName(schema, order), order.isAscending() ? Order.asc : Order.desc);
+        }
+        return traversal;
+    }
+
+    /**
+     * Appends a {@code has()} step keeping the elements of the given traversal which come after the given key in the given sort
+     * order, for keyset pagination.
+     *
+     * @param traversal the traversal of elements of the given schema
+     * @param schema    the schema of the elements
+     * @param order     the sort order of the keyset property
+     * @param key       the value of the keyset property to continue after
+     * @return the traversal
+     */
+    @SuppressWarnings("unchecked")
+    public static GraphTraversal seek(GraphTraversal traversal, GremlinSchema<?> schema, Sort.Order order, Object key) {
+        return traversal.has(propertyName(schema, order), order.isAscending() ? P.gt(key) : P.lt(key));
+    }
+
+    /**
+     * @return the name of the graph property the given sort order refers to
+     */
+    public static String propertyName(GremlinSchema<?> schema, Sort.Order order) {
+        GremlinProperty property = schema.getPropertyForFieldname(order.getProperty());
+        if (property == null) {
+            throw new IllegalArgumentException(String.format("Could not sort by %s as it is not a property of %s", order.getProperty(), schema.getClassName()));
+        }
+        return property.getName();
+    }
 }
@@ -0,0 +1,50 @@
+package org.springframework.data.gremlin.bulk;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class CsvRowSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_read_quoted_fields() throws IOException {
+        List<Map<String, Object>> rows = read("name,street,city\r\n"
+                + "Graham,\"12 \"\"Main\"\" St\",Perth\r\n"
+                + "Lara,\"1 High St,\nUnit 2\",\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("Graham", rows.get(0).get("name"));
+        assertEquals("12 \"Main\" St", rows.get(0).get("street"));
+        assertEquals("Perth", rows.get(0).get("city"));
+        assertEquals("1 High St,\nUnit 2", rows.get(1).get("street"));
+        assertFalse(rows.get(1).containsKey("city"));
+    }
+
+    @Test
+    public void should_read_an_empty_file() throws IOException {
+        assertEquals(0, read("").size());
+    }
+
+    private List<Map<String, Object>> read(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        try (Stream<Map<String, Object>> rows = RowSource.csv(file).rows()) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+}
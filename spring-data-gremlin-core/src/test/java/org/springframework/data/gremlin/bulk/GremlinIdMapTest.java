@@ -0,0 +1,101 @@
+package org.springframework.data.gremlin.bulk;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GremlinIdMapTest {
+
+    private GremlinIdMap ids;
+
+    @Before
+    public void setUp() {
+        ids = new GremlinIdMap(10);
+    }
+
+    @After
+    public void tearDown() {
+        ids.close();
+    }
+
+    @Test
+    public void should_hold_few_keys_in_memory() {
+        ids.put("a", 1L);
+        ids.put("b", "2");
+
+        assertEquals("1", ids.get("a"));
+        assertEquals("2", ids.get("b"));
+        assertNull(ids.get("c"));
+        assertFalse(ids.isSpilled());
+    }
+
+    @Test
+    public void should_spill_keys_to_disk() {
+        for (int i = 0; i < 1000; i++) {
+            ids.put("key" + i, i);
+        }
+
+        assertTrue(ids.isSpilled());
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(Integer.toString(i), ids.get("key" + i));
+        }
+        assertNull(ids.get("key1000"));
+    }
+
+    @Test
+    public void should_look_up_spilled_keys_concurrently() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            ids.put("key" + i, i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> lookups = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                lookups.add(executor.submit(() -> {
+                    for (int i = offset; i < 1000; i += 4) {
+                        assertEquals(Integer.toString(i), ids.get("key" + i));
+                    }
+                }));
+            }
+            for (Future<?> lookup : lookups) {
+                lookup.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void should_keep_the_keys_of_labels_apart() {
+        ids.put("Person", "k1", 1L);
+        ids.put("Address", "k1", 2L);
+
+        assertEquals("1", ids.get("Person", "k1"));
+        assertEquals("2", ids.get("Address", "k1"));
+        assertNull(ids.get("k1"));
+    }
+
+    @Test
+    public void should_delete_spilled_keys_on_close() {
+        for (int i = 0; i < 100; i++) {
+            ids.put("key" + i, i);
+        }
+        ids.close();
+
+        assertFalse(ids.isSpilled());
+        assertNull(ids.get("key1"));
+    }
+}
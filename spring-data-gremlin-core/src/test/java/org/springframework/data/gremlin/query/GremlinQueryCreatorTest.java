@@ -0,0 +1,138 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gremlin.annotation.Index;
+import org.springframework.data.gremlin.schema.GremlinSchema;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.schema.generator.BasicSchemaGenerator;
+import org.springframework.data.gremlin.schema.generator.SchemaGeneratorException;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GremlinQueryCreatorTest {
+
+    private GremlinSchemaFactory schemaFactory;
+
+    @Before
+    public void setUp() {
+        BasicSchemaGenerator generator = new BasicSchemaGenerator();
+        generator.setVertexClasses(Animal.class, Dog.class, Puppy.class);
+        schemaFactory = new GremlinSchemaFactory() {
+            @Override
+            public <V> GremlinSchema<V> getSchema(Class<V> type) {
+                try {
+                    return generator.generateSchema(type);
+                } catch (SchemaGeneratorException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    @Test
+    public void should_start_from_a_unique_property() {
+        List<Object[]> start = start(Animal.class, "findByNameAndTag", "Rex", "t1");
+
+        assertEquals(Arrays.asList("tag", P.eq("t1")), Arrays.asList(start.get(1)));
+    }
+
+    @Test
+    public void should_start_from_a_non_unique_property() {
+        List<Object[]> start = start(Animal.class, "findByColourAndName", "brown", "Rex");
+
+        assertEquals(Arrays.asList("name", P.eq("Rex")), Arrays.asList(start.get(1)));
+    }
+
+    @Test
+    public void should_not_start_from_an_index_for_alternatives() {
+        List<Object[]> start = start(Animal.class, "findByTagOrName", "t1", "Rex");
+
+        assertEquals(1, start.size());
+    }
+
+    @Test
+    public void should_not_start_from_an_unindexed_property() {
+        List<Object[]> start = start(Animal.class, "findByColour", "brown");
+
+        assertEquals(1, start.size());
+    }
+
+    @Test
+    public void should_start_from_the_labels_of_all_the_inherited_schemas() {
+        List<Object[]> start = start(Animal.class, "findByColour", "brown");
+
+        assertEquals(Arrays.asList("Animal", "Dog", "Puppy"), sorted(start.get(0)));
+        assertEquals(Arrays.asList("Dog", "Puppy"), sorted(start(Dog.class, "findByColour", "brown").get(0)));
+    }
+
+    @Test
+    public void should_keep_the_labels_of_inherited_schemas_once() {
+        assertEquals(3, schemaFactory.getSchema(Animal.class).getClassNames().size());
+    }
+
+    /**
+     * @return the arguments of the steps of the created traversal between its {@code V()} and its criteria
+     */
+    private List<Object[]> start(Class<?> domainClass, String methodName, Object... values) {
+        Method method = Arrays.stream(AnimalQueries.class.getMethods()).filter(m -> m.getName().equals(methodName)).findFirst().get();
+        PartTree tree = new PartTree(methodName, domainClass);
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(new DefaultParameters(method), values);
+        Bytecode bytecode = new GremlinQueryCreator(null, schemaFactory, domainClass, tree, accessor).createQuery().asAdmin().getBytecode();
+
+        List<Object[]> start = new ArrayList<>();
+        for (Bytecode.Instruction instruction : bytecode.getStepInstructions()) {
+            if (instruction.getOperator().equals("and")) {
+                break;
+            }
+            if (!instruction.getOperator().equals("V")) {
+                start.add(instruction.getArguments());
+            }
+        }
+        return start;
+    }
+
+    private static List<Object> sorted(Object[] labels) {
+        List<Object> sorted = new ArrayList<>(Arrays.asList(labels));
+        sorted.sort(null);
+        return sorted;
+    }
+
+    public interface AnimalQueries {
+        List<Animal> findByNameAndTag(String name, String tag);
+
+        List<Animal> findByColourAndName(String colour, String name);
+
+        List<Animal> findByTagOrName(String tag, String name);
+
+        List<Animal> findByColour(String colour);
+    }
+
+    public static class Animal {
+        private String id;
+
+        @Index(type = Index.IndexType.UNIQUE)
+        private String tag;
+
+        @Index
+        private String name;
+
+        private String colour;
+    }
+
+    public static class Dog extends Animal {
+    }
+
+    public static class Puppy extends Dog {
+    }
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.script.Bindings;
+import javax.script.CompiledScript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GremlinScriptCacheTest {
+
+    private GremlinScriptCache cache;
+
+    private TinkerGraph graph;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new GremlinScriptCache();
+        graph = TinkerGraph.open();
+        graph.addVertex("Person").property("firstName", "Graham");
+        graph.addVertex("Person").property("firstName", "Lara");
+    }
+
+    @Test
+    public void should_compile_each_script_once() throws Exception {
+        CompiledScript first = cache.compile("g.V().has('firstName', placeholder_0)");
+        CompiledScript second = cache.compile("g.V().has('firstName', placeholder_0)");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getCompileCount());
+        assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void should_evaluate_with_fresh_bindings() throws Exception {
+        CompiledScript script = cache.compile("g.V().has('firstName', placeholder_0)");
+
+        assertEquals(1, evaluate(script, "Graham").toList().size());
+        assertEquals(1, evaluate(script, "Lara").toList().size());
+        assertEquals(0, evaluate(script, "Jake").toList().size());
+        assertEquals(3, cache.getCallCount());
+    }
+
+    private GraphTraversal evaluate(CompiledScript script, String firstName) throws Exception {
+        Bindings bindings = cache.createBindings();
+        bindings.put("g", graph.traversal());
+        bindings.put("placeholder_0", firstName);
+        return (GraphTraversal) cache.eval(script, bindings);
+    }
+}
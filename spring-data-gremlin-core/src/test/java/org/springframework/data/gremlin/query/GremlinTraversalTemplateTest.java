@@ -0,0 +1,93 @@
+package org.springframework.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class GremlinTraversalTemplateTest {
+
+    private TinkerGraph graph;
+
+    @Before
+    public void setUp() throws Exception {
+        graph = TinkerGraph.open();
+        Vertex graham = graph.addVertex("Person");
+        graham.property("firstName", "Graham");
+        graham.property("age", 40);
+        Vertex lara = graph.addVertex("Person");
+        lara.property("firstName", "Lara");
+        lara.property("age", 25);
+        graph.addVertex("Location").property("name", "Brisbane");
+        graham.addEdge("lives_at", graph.vertices().next());
+        lara.addEdge("was_located_at", graham);
+    }
+
+    @Test
+    public void should_bind_parameters_on_each_call() {
+        GremlinTraversalTemplate template = GremlinTraversalTemplate.parse("graph.V().has('firstName', placeholder_0)", Collections.singleton("placeholder_0"));
+
+        assertEquals(1, apply(template, "placeholder_0", "Graham").size());
+        assertEquals(1, apply(template, "placeholder_0", "Lara").size());
+        assertEquals(0, apply(template, "placeholder_0", "Jake").size());
+    }
+
+    @Test
+    public void should_handle_predicates_tokens_and_anonymous_traversals() {
+        Set<String> names = new HashSet<>(Arrays.asList("min", "names"));
+
+        assertEquals(1, apply(GremlinTraversalTemplate.parse("g.V().hasLabel('Person').has('age', P.gt(min))", names), "min", 30).size());
+        assertEquals(2, apply(GremlinTraversalTemplate.parse("g.V().has('age', between(20, 50))", names)).size());
+        assertEquals(2, apply(GremlinTraversalTemplate.parse("g.V().has('firstName', within(names))", names), "names", Arrays.asList("Graham", "Lara")).size());
+        assertEquals(1, apply(GremlinTraversalTemplate.parse("g.V().where(__.out('was_located_at')).values('firstName')", names)).size());
+        assertEquals(Arrays.asList("Graham", "Lara"),
+                apply(GremlinTraversalTemplate.parse("G.V().hasLabel(\"Person\").order().by('firstName', Order.asc).values('firstName')", names)));
+        assertEquals(Collections.singletonList(2L), apply(GremlinTraversalTemplate.parse("g.V().has(T.label, 'Person').count()", names)));
+    }
+
+    @Test
+    public void should_bind_parameters_into_bytecode() {
+        Bytecode bytecode = new DefaultGraphTraversal<>().V()
+                .and(__.has("Person", "firstName", new Bytecode.Binding<>("first", null)).has("Person", "age", P.gt(new Bytecode.Binding<>("min", null))))
+                .asAdmin().getBytecode();
+        GremlinTraversalTemplate template = GremlinTraversalTemplate.of(bytecode);
+
+        assertEquals(new HashSet<>(Arrays.asList("first", "min")), template.getParameterNames());
+        assertEquals(1, apply(template, "first", "Graham", "min", 30).size());
+        assertEquals(0, apply(template, "first", "Lara", "min", 30).size());
+        assertEquals(1, apply(template, "first", "Lara", "min", 20).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_unknown_identifiers() {
+        GremlinTraversalTemplate.parse("g.V().has('firstName', name)", Collections.emptySet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_terminal_steps() {
+        GremlinTraversalTemplate.parse("g.V().toList()", Collections.emptySet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_closures() {
+        GremlinTraversalTemplate.parse("g.V().filter{it.get().label() == 'Person'}", Collections.emptySet());
+    }
+
+    private List<Object> apply(GremlinTraversalTemplate template, Object... values) {
+        Map<String, Object> bindings = new HashMap<>();
+        for (int i = 0; i < values.length; i += 2) {
+            bindings.put((String) values[i], values[i + 1]);
+        }
+        List<Object> result = new ArrayList<>();
+        template.apply(graph.traversal(), bindings).forEachRemaining(result::add);
+        return result;
+    }
+}
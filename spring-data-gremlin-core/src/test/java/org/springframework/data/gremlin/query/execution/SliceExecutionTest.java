@@ -0,0 +1,27 @@
+package org.springframework.data.gremlin.query.execution;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.Assert.assertEquals;
+
+public class SliceExecutionTest {
+
+    private final Pageable lookahead = new SliceExecution.LookaheadPageable(PageRequest.of(2, 10));
+
+    @Test
+    public void should_fetch_one_more_element_at_the_same_offset() {
+        assertEquals(11, lookahead.getPageSize());
+        assertEquals(20, lookahead.getOffset());
+    }
+
+    @Test
+    public void should_look_ahead_on_the_pages_it_leads_to() {
+        assertEquals(11, lookahead.next().getPageSize());
+        assertEquals(30, lookahead.next().getOffset());
+        assertEquals(10, lookahead.previousOrFirst().getOffset());
+        assertEquals(0, lookahead.first().getOffset());
+        assertEquals(11, lookahead.first().getPageSize());
+    }
+}
@@ -0,0 +1,163 @@
+package org.springframework.data.gremlin.repository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class GremlinCountCacheTest {
+
+    private GremlinCountCache cache;
+
+    private AtomicLong persons;
+
+    @Before
+    public void setUp() {
+        cache = new GremlinCountCache(Long.MAX_VALUE);
+        persons = new AtomicLong(5);
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void should_load_a_counter_once() {
+        assertEquals(5, cache.count("Person", persons::get));
+        persons.set(7);
+
+        assertEquals(5, cache.count("Person", persons::get));
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void should_apply_writes_on_commit() {
+        cache.count("Person", persons::get);
+
+        begin();
+        cache.add("Person", 1);
+        cache.add("Person", 1);
+        cache.add("Person", -1);
+        persons.set(6);
+        assertEquals(6, cache.count("Person", persons::get));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(6, cache.count("Person", persons::get));
+        assertEquals(1, cache.getLoadCount());
+    }
+
+    @Test
+    public void should_drop_writes_on_rollback() {
+        cache.count("Person", persons::get);
+
+        begin();
+        cache.add("Person", 1);
+        assertEquals(6, cache.count("Person", persons::get));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(5, cache.count("Person", persons::get));
+    }
+
+    @Test
+    public void should_not_count_writes_twice_when_loading_within_a_transaction() {
+        begin();
+        cache.add("Person", 1);
+        persons.set(6);
+        assertEquals(6, cache.count("Person", persons::get));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(6, cache.count("Person", persons::get));
+    }
+
+    @Test
+    public void should_reload_stale_counters() {
+        cache = new GremlinCountCache(-1);
+        cache.count("Person", persons::get);
+        persons.set(7);
+
+        assertEquals(7, cache.count("Person", persons::get));
+    }
+
+    @Test
+    public void should_drop_predicate_counters_when_their_labels_are_written() {
+        List<String> labels = Collections.singletonList("Person");
+        List<?> predicate = Arrays.asList("countByLastName", Collections.singletonList("Webber"));
+        AtomicLong webbers = new AtomicLong(2);
+
+        assertEquals(2, cache.count(labels, predicate, webbers::get));
+        webbers.set(3);
+        assertEquals(2, cache.count(labels, predicate, webbers::get));
+
+        begin();
+        cache.written("Person");
+        assertEquals(3, cache.count(labels, predicate, webbers::get));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        webbers.set(4);
+        assertEquals(4, cache.count(labels, predicate, webbers::get));
+    }
+
+    @Test
+    public void should_clear_counters() {
+        cache.count("Person", persons::get);
+        persons.set(0);
+
+        cache.clear();
+
+        assertEquals(0, cache.count("Person", persons::get));
+    }
+
+    @Test
+    public void should_clear_the_counters_of_the_given_labels_on_commit() {
+        AtomicLong addresses = new AtomicLong(3);
+        cache.count("Person", persons::get);
+        cache.count("Address", addresses::get);
+        persons.set(0);
+        addresses.set(0);
+
+        begin();
+        cache.clear(Collections.singletonList("Person"));
+        assertEquals(0, cache.count("Person", persons::get));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(0, cache.count("Person", persons::get));
+        assertEquals(3, cache.count("Address", addresses::get));
+    }
+
+    @Test
+    public void should_list_the_edge_labels_with_a_counter() {
+        cache.count("Person", persons::get);
+        assertArrayEquals(new String[0], cache.getCountedEdgeLabels());
+
+        cache.countEdges("located_at", () -> 2);
+        assertArrayEquals(new String[] { "located_at" }, cache.getCountedEdgeLabels());
+
+        cache.clear();
+        assertArrayEquals(new String[0], cache.getCountedEdgeLabels());
+    }
+
+    private void begin() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.springframework.data.gremlin.schema;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class GremlinLoadingGroupTest {
+
+    private TinkerGraph graph = TinkerGraph.open();
+
+    private List<List<? extends Element>> fetched = new ArrayList<>();
+
+    private GremlinGraphAdapter<TinkerGraph> graphAdapter = new GremlinGraphAdapter<TinkerGraph>() {
+        @Override
+        public void prefetch(List<? extends Element> elements) {
+            fetched.add(elements);
+        }
+    };
+
+    @Test
+    public void should_fetch_the_siblings_once() {
+        Vertex first = graph.addVertex();
+        Vertex second = graph.addVertex();
+        GremlinLoadingGroup group = GremlinLoadingGroup.batch(() -> {
+            GremlinLoadingGroup joined = GremlinLoadingGroup.join(graphAdapter, first);
+            assertSame(joined, GremlinLoadingGroup.join(graphAdapter, second));
+            return joined;
+        });
+
+        group.fetch();
+        group.fetch();
+
+        assertEquals(Arrays.asList(Arrays.asList(first, second)), fetched);
+    }
+
+    @Test
+    public void should_start_a_new_group_once_fetched() {
+        GremlinLoadingGroup.batch(() -> {
+            GremlinLoadingGroup group = GremlinLoadingGroup.join(graphAdapter, graph.addVertex());
+            GremlinLoadingGroup.join(graphAdapter, graph.addVertex());
+            group.fetch();
+
+            GremlinLoadingGroup next = GremlinLoadingGroup.join(graphAdapter, graph.addVertex());
+
+            assertNotSame(group, next);
+            next.fetch();
+            return null;
+        });
+        // A proxy without siblings reads its own element
+        assertEquals(1, fetched.size());
+    }
+
+    @Test
+    public void should_hold_up_to_the_batch_size() {
+        GremlinLoadingGroup group = GremlinLoadingGroup.batch(() -> {
+            GremlinLoadingGroup joined = GremlinLoadingGroup.join(graphAdapter, graph.addVertex());
+            for (int i = 1; i < GremlinLoadingGroup.SIZE; i++) {
+                assertSame(joined, GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+            }
+            assertNotSame(joined, GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+            return joined;
+        });
+
+        group.fetch();
+
+        assertEquals(GremlinLoadingGroup.SIZE, fetched.get(0).size());
+    }
+
+    @Test
+    public void should_only_group_proxies_loaded_within_a_batch() {
+        assertNull(GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+
+        GremlinLoadingGroup first = GremlinLoadingGroup.batch(() -> GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+        GremlinLoadingGroup second = GremlinLoadingGroup.batch(() -> GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void should_group_a_nested_batch_apart() {
+        GremlinLoadingGroup.batch(() -> {
+            GremlinLoadingGroup outer = GremlinLoadingGroup.join(graphAdapter, graph.addVertex());
+            GremlinLoadingGroup inner = GremlinLoadingGroup.batch(() -> GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+            assertNotSame(outer, inner);
+            assertSame(outer, GremlinLoadingGroup.join(graphAdapter, graph.addVertex()));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package org.springframework.data.gremlin.schema;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.generator.BasicSchemaGenerator;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class GremlinSchemaMapperTest {
+
+    private GremlinSchema<TestObject> schema;
+
+    private GremlinGraphAdapter<TinkerGraph> graphAdapter = new GremlinGraphAdapter<>();
+
+    private Vertex vertex;
+
+    @Before
+    public void setUp() throws Exception {
+        BasicSchemaGenerator generator = new BasicSchemaGenerator();
+        generator.setVertexClasses(TestObject.class);
+        schema = generator.generateSchema(TestObject.class);
+        vertex = TinkerGraph.open().addVertex("TestObject");
+    }
+
+    @Test
+    public void should_copy_all_properties_to_the_element() {
+        GremlinSchemaMapper mapper = GremlinSchemaMapper.compile(schema);
+        assertNotNull(mapper);
+
+        mapper.copyToGraph(graphAdapter, vertex, new TestObject("bla", 10, Colour.GREEN), new HashMap<>(), null, true, true);
+
+        assertEquals("bla", vertex.value("name"));
+        assertEquals(10, (int) vertex.value("count"));
+        assertEquals("GREEN", vertex.value("colour"));
+    }
+
+    @Test
+    public void should_only_copy_the_accepted_properties() {
+        GremlinSchemaMapper mapper = GremlinSchemaMapper.compile(schema);
+
+        mapper.copyToGraph(graphAdapter, vertex, new TestObject("bla", 10, Colour.GREEN), new HashMap<>(), null, false, true);
+
+        assertFalse(vertex.keys().contains("name"));
+    }
+
+    @Test
+    public void should_load_all_properties_from_the_element() {
+        vertex.property("name", "olb");
+        vertex.property("count", 55);
+        vertex.property("colour", "RED");
+        TestObject object = new TestObject();
+
+        GremlinSchemaMapper.compile(schema).loadFromGraph(graphAdapter, vertex, object, new HashMap<>(), true, true);
+
+        assertEquals("olb", object.name);
+        assertEquals(55, object.count);
+        assertEquals(Colour.RED, object.colour);
+    }
+
+    @Test
+    public void should_load_missing_properties_as_null() {
+        TestObject object = new TestObject("bla", 10, Colour.GREEN);
+        vertex.property("count", 10);
+
+        GremlinSchemaMapper.compile(schema).loadFromGraph(graphAdapter, vertex, object, new HashMap<>(), true, true);
+
+        assertNull(object.name);
+        assertNull(object.colour);
+    }
+
+    public enum Colour { RED, GREEN }
+
+    public static class TestObject {
+        private String id;
+        private String name;
+        private int count;
+        private Colour colour;
+
+        public TestObject() {
+        }
+
+        TestObject(String name, int count, Colour colour) {
+            this.name = name;
+            this.count = count;
+            this.colour = colour;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.springframework.data.gremlin.schema;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GremlinSchemaTest {
+
+    private GremlinSchema<Animal> animal;
+
+    private GremlinSchema<Dog> dog;
+
+    private GremlinSchema<Puppy> puppy;
+
+    @Before
+    public void setUp() {
+        animal = schema(Animal.class, null);
+        dog = schema(Dog.class, animal);
+        puppy = schema(Puppy.class, dog);
+        animal.addInheritedSchema(dog);
+        dog.addInheritedSchema(puppy);
+    }
+
+    @Test
+    public void should_list_the_class_names_of_all_the_inherited_schemas() {
+        assertEquals(Arrays.asList("Animal", "Dog", "Puppy"), animal.getClassNames());
+        assertEquals(Arrays.asList("Dog", "Puppy"), dog.getClassNames());
+    }
+
+    @Test
+    public void should_list_a_class_name_inherited_twice_once() {
+        animal.addInheritedSchema(puppy);
+
+        assertEquals(3, animal.getClassNames().size());
+    }
+
+    @Test
+    public void should_find_the_schema_of_an_inherited_label() {
+        TinkerGraph graph = TinkerGraph.open();
+
+        assertSame(puppy, animal.findMostSpecificSchema(graph.addVertex("Puppy")));
+        assertSame(dog, animal.findMostSpecificSchema(graph.addVertex("Dog")));
+        assertSame(animal, animal.findMostSpecificSchema(graph.addVertex("Animal")));
+    }
+
+    private static <V> GremlinSchema<V> schema(Class<V> type, GremlinSchema<? super V> superSchema) {
+        GremlinSchema<V> schema = new GremlinVertexSchema<>(type, superSchema);
+        schema.setClassName(type.getSimpleName());
+        return schema;
+    }
+
+    public static class Animal {
+    }
+
+    public static class Dog extends Animal {
+    }
+
+    public static class Puppy extends Dog {
+    }
+}
@@ -0,0 +1,50 @@
+package org.springframework.data.gremlin.schema.property.accessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.gremlin.schema.property.accessor.GremlinFieldHandleTest.TestObject;
+
+import java.lang.reflect.Field;
+
+/**
+ * Compares the reflective and method handle {@link GremlinFieldHandle}s over {@code -Dsdg-accessor-benchmark-ops} reads and
+ * writes, after as many to warm them up. It is run by hand rather than with the tests.
+ */
+public class GremlinFieldHandleBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinFieldHandleBenchmark.class);
+
+    public static void main(String[] args) throws Exception {
+        int ops = Integer.getInteger("sdg-accessor-benchmark-ops", 10000000);
+        Field field = TestObject.class.getDeclaredField("str");
+        GremlinFieldHandle reflective = GremlinFieldHandle.reflective(field);
+        GremlinFieldHandle methodHandle = GremlinFieldHandle.methodHandle(field);
+
+        for (int round = 0; round < 3; round++) {
+            LOGGER.info("Reflection: {} ns/op, method handles: {} ns/op", run(reflective, ops), run(methodHandle, ops));
+        }
+    }
+
+    private static double run(GremlinFieldHandle handle, int ops) {
+        TestObject[] objects = new TestObject[1024];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = new TestObject();
+        }
+        for (int i = 0; i < ops; i++) {
+            TestObject object = objects[i & 1023];
+            handle.set(object, handle.get(objects[(i + 1) & 1023]));
+        }
+        int hash = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            TestObject object = objects[i & 1023];
+            handle.set(object, handle.get(objects[(i + 1) & 1023]));
+            hash += ((String) handle.get(object)).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (hash != 3 * ops) {
+            throw new IllegalStateException("Copied the wrong values");
+        }
+        return (double) elapsed / ops;
+    }
+}
@@ -0,0 +1,81 @@
+package org.springframework.data.gremlin.schema.property.accessor;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GremlinFieldHandleTest {
+
+    @Test
+    public void should_read_and_write_private_fields() throws Exception {
+        for (Function<Field, GremlinFieldHandle> factory : factories()) {
+            TestObject object = new TestObject();
+            GremlinFieldHandle str = factory.apply(TestObject.class.getDeclaredField("str"));
+            GremlinFieldHandle prim = factory.apply(TestObject.class.getDeclaredField("prim"));
+
+            assertEquals("bla", str.get(object));
+            assertEquals(10, prim.get(object));
+
+            str.set(object, null);
+            prim.set(object, 55);
+            assertNull(object.str);
+            assertEquals(55, object.prim);
+        }
+    }
+
+    @Test
+    public void should_widen_primitives() throws Exception {
+        for (Function<Field, GremlinFieldHandle> factory : factories()) {
+            TestObject object = new TestObject();
+            factory.apply(TestObject.class.getDeclaredField("prim")).set(object, (short) 7);
+            assertEquals(7, object.prim);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_null_primitives() throws Exception {
+        GremlinFieldHandle.methodHandle(TestObject.class.getDeclaredField("prim")).set(new TestObject(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_values_of_the_wrong_type() throws Exception {
+        GremlinFieldHandle.methodHandle(TestObject.class.getDeclaredField("str")).set(new TestObject(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_objects_of_the_wrong_type() throws Exception {
+        GremlinFieldHandle.methodHandle(TestObject.class.getDeclaredField("str")).get("bla");
+    }
+
+    @Test
+    public void should_read_embedded_fields() throws Exception {
+        GremlinFieldPropertyAccessor<Object> inner = new GremlinFieldPropertyAccessor<>(TestObject.class.getDeclaredField("inner"));
+        GremlinFieldPropertyAccessor<Object> str = new GremlinFieldPropertyAccessor<>(Inner.class.getDeclaredField("str"), inner);
+        TestObject object = new TestObject();
+
+        assertNull(str.get(object));
+        str.set(object, "olb");
+        assertEquals("olb", object.inner.str);
+        assertEquals("olb", str.get(object));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Field, GremlinFieldHandle>[] factories() {
+        return new Function[] { (Function<Field, GremlinFieldHandle>) GremlinFieldHandle::reflective,
+                                (Function<Field, GremlinFieldHandle>) GremlinFieldHandle::methodHandle };
+    }
+
+    public static class TestObject {
+        private int prim = 10;
+        private String str = "bla";
+        private Inner inner;
+    }
+
+    public static class Inner {
+        private String str;
+    }
+}
@@ -0,0 +1,48 @@
+package org.springframework.data.gremlin.tx;
+
+import org.junit.Test;
+import org.springframework.util.backoff.BackOffExecution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JitteredBackOffTest {
+
+    @Test
+    public void should_stop_after_max_attempts() {
+        BackOffExecution execution = new JitteredBackOff(10, 100, 3).start();
+
+        assertTrue(execution.nextBackOff() != BackOffExecution.STOP);
+        assertTrue(execution.nextBackOff() != BackOffExecution.STOP);
+        assertEquals(BackOffExecution.STOP, execution.nextBackOff());
+    }
+
+    @Test
+    public void should_wait_up_to_a_doubling_interval_capped_at_max_interval() {
+        JitteredBackOff backOff = new JitteredBackOff(10, 40, 1000);
+        long[] caps = { 10, 20, 40, 40, 40 };
+        for (int run = 0; run < 100; run++) {
+            BackOffExecution execution = backOff.start();
+            for (long cap : caps) {
+                long delay = execution.nextBackOff();
+                assertTrue(delay >= 0 && delay <= cap);
+            }
+        }
+    }
+
+    @Test
+    public void should_spread_the_waits() {
+        BackOffExecution first = new JitteredBackOff(1000, 1000, 1000).start();
+        boolean spread = false;
+        long delay = first.nextBackOff();
+        for (int i = 0; i < 100 && !spread; i++) {
+            spread = first.nextBackOff() != delay;
+        }
+        assertTrue(spread);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_no_attempts() {
+        new JitteredBackOff(10, 100, 0);
+    }
+}
@@ -1,11 +1,13 @@
 package org.springframework.data.gremlin.repository.janus;
 
-import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphVertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * Created by mmichail (zifnab87) on 13/04/17 based on gman's titan files.
@@ -14,10 +16,18 @@ public class JanusGraphAdapter extends GremlinGraphAdapter<JanusGraph> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JanusGraphAdapter.class);
 
+    /**
+     * Reads the properties and edges of the vertices with a multi-query of their transaction, which caches them in the
+     * transaction. The properties of edges are stored with the edges, so they are not read again.
+     */
     @Override
-    @Transactional(readOnly = false)
-    public Vertex createVertex(JanusGraph graph, String className) {
-        Vertex vertex = graph.addVertex(className);
-        return vertex;
+    public void prefetch(List<? extends Element> elements) {
+        JanusGraphVertex[] vertices = elements.stream().filter(element -> element instanceof JanusGraphVertex).toArray(JanusGraphVertex[]::new);
+        if (vertices.length < 2) {
+            return;
+        }
+        vertices[0].graph().multiQuery(vertices).properties();
+        vertices[0].graph().multiQuery(vertices).edges();
+        LOGGER.trace("Fetched the properties and edges of {} vertices ahead", vertices.length);
     }
 }
@@ -0,0 +1,7 @@
+package org.springframework.data.gremlin.object.tests.janus.core;
+
+import org.springframework.data.gremlin.object.core.repository.AbstractBulkImportTest;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration(classes = Janus_Core_TestConfiguration.class)
+public class Janus_Core_BulkImportTest extends AbstractBulkImportTest { }
@@ -5,7 +5,9 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.gremlin.config.EnableGremlinRepositories;
+import org.springframework.data.gremlin.config.EnableReactiveGremlinRepositories;
 import org.springframework.data.gremlin.object.core.TestService;
+import org.springframework.data.gremlin.repository.GremlinCountCache;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.repository.GremlinRepositoryContext;
 import org.springframework.data.gremlin.repository.GremlinRepositoryWithNativeSupport;
@@ -18,6 +20,7 @@ import org.springframework.data.gremlin.schema.writer.janus.JanusSchemaWriter;
 import org.springframework.data.gremlin.support.GremlinRepositoryFactoryBean;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
 import org.springframework.data.gremlin.tx.GremlinTransactionManager;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
 import org.springframework.data.gremlin.tx.janus.JanusGremlinGraphFactory;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -30,6 +33,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableTransactionManagement
 @EnableGremlinRepositories(basePackages = "org.springframework.data.gremlin.object.core", excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = GremlinRepositoryWithNativeSupport.class) }, repositoryFactoryBeanClass = GremlinRepositoryFactoryBean.class)
+@EnableReactiveGremlinRepositories(basePackages = "org.springframework.data.gremlin.object.core")
 public class Janus_Core_TestConfiguration {
 
     @Bean
@@ -53,6 +57,11 @@ public class Janus_Core_TestConfiguration {
         return new GremlinTransactionManager(factory());
     }
 
+    @Bean
+    public ReactiveGremlinTransactions reactiveTransactions() {
+        return new ReactiveGremlinTransactions(factory(), transactionManager());
+    }
+
     @Bean
     public SchemaWriter schemaWriter() {
         return new JanusSchemaWriter();
@@ -63,6 +72,11 @@ public class Janus_Core_TestConfiguration {
         return new JanusGraphAdapter();
     }
 
+    @Bean
+    public GremlinCountCache countCache() {
+        return new GremlinCountCache();
+    }
+
     @Bean
     public static GremlinBeanPostProcessor tinkerpopSchemaManager() {
         return new GremlinBeanPostProcessor("org.springframework.data.gremlin.object.core.domain");
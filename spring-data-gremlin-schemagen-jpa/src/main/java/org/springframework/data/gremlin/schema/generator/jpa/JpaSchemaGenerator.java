@@ -118,6 +118,11 @@ public class JpaSchemaGenerator extends BasicSchemaGenerator implements Annotate
         return idFields[0];
     }
 
+    @Override
+    protected boolean isVersionField(Field field) {
+        return super.isVersionField(field) || AnnotationUtils.getAnnotation(field, Version.class) != null;
+    }
+
     @Override
     protected Class<?> getEnumType(Field field) {
         Enumerated enumerated = AnnotationUtils.getAnnotation(field, Enumerated.class);
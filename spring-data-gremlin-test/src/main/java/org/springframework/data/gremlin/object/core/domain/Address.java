@@ -25,6 +25,9 @@ public class Address {
     @Link(name = "lives_at", direction = Direction.IN)
     private Set<Person> people;
 
+    @Version
+    private Long version;
+
     public Address() {}
 
     public Address(Country country, String city, String street, Area area) {
@@ -85,6 +88,14 @@ public class Address {
         this.people = people;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 //    @Override
 //    public boolean equals(Object o) {
 //        if (this == o) {
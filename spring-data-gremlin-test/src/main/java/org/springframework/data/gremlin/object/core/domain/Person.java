@@ -31,6 +31,9 @@ public class Person extends Bipod<Area> {
 
     private String lastName;
 
+    @Index(type = Index.IndexType.UNIQUE)
+    private String email;
+
     @Link(name = "lives_at", direction = OUT)
     private Address address;
 
@@ -109,6 +112,14 @@ public class Person extends Bipod<Area> {
         this.lastName = lastName;
     }
 
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
     public Address getAddress() {
         return address;
     }
@@ -0,0 +1,12 @@
+package org.springframework.data.gremlin.object.core.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * An open projection of a {@link Person}, backed by the loaded entity.
+ */
+public interface PersonFullName {
+
+    @Value("#{target.firstName + ' ' + target.lastName}")
+    String getFullName();
+}
@@ -0,0 +1,29 @@
+package org.springframework.data.gremlin.object.core.domain;
+
+/**
+ * A DTO projection of a {@link Person}.
+ */
+public class PersonName {
+
+    private final String firstName;
+
+    private final String lastName;
+
+    public PersonName(String firstName, String lastName) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public String toString() {
+        return firstName + " " + lastName;
+    }
+}
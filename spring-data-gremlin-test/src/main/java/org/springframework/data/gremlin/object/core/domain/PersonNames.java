@@ -0,0 +1,13 @@
+package org.springframework.data.gremlin.object.core.domain;
+
+/**
+ * A closed projection of a {@link Person}, read straight from the graph.
+ */
+public interface PersonNames {
+
+    String getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -5,6 +5,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.gremlin.object.core.domain.Address;
+import org.springframework.data.gremlin.repository.GremlinOptimisticLockingException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,4 +47,35 @@ public abstract class AbstractAddressRepositoryTest extends BaseRepositoryTest {
         assertEquals("Australia", addresses.get(1).getCountry().getName());
     }
 
+    @Test
+    public void should_not_save_a_stale_version() throws Exception {
+        String id = graham.getAddress().getId();
+        Address address = addressRepository.findById(id).get();
+        Address stale = addressRepository.findById(id).get();
+        // Initialise the proxy, so that it holds the version before the save
+        assertEquals("Scenic Dr", stale.getStreet());
+
+        address.setStreet("Ocean St");
+        addressRepository.save(address);
+        Long version = address.getVersion();
+        assertNotNull(version);
+
+        stale.setStreet("Beach Rd");
+        try {
+            addressRepository.save(stale);
+            Assert.fail("Saved a stale address");
+        } catch (GremlinOptimisticLockingException e) {
+            assertEquals(stale, e.getEntity());
+        }
+
+        Address saved = addressRepository.findById(id).get();
+        assertEquals("Ocean St", saved.getStreet());
+        assertEquals(version, saved.getVersion());
+
+        saved.setStreet("Beach Rd");
+        addressRepository.save(saved);
+        assertEquals(Long.valueOf(version + 1), saved.getVersion());
+        assertEquals("Beach Rd", addressRepository.findById(id).get().getStreet());
+    }
+
 }
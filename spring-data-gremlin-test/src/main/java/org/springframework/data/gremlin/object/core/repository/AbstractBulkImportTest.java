@@ -0,0 +1,141 @@
+package org.springframework.data.gremlin.object.core.repository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.gremlin.bulk.GremlinBulkImporter;
+import org.springframework.data.gremlin.bulk.ImportResult;
+import org.springframework.data.gremlin.bulk.RowSource;
+import org.springframework.data.gremlin.object.core.domain.Address;
+import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+@SuppressWarnings("SpringJavaAutowiringInspection")
+public abstract class AbstractBulkImportTest extends BaseRepositoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Autowired
+    protected GremlinGraphAdapter graphAdapter;
+
+    @Autowired
+    protected GremlinSchemaFactory schemaFactory;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    private GremlinBulkImporter importer;
+
+    @Before
+    public void createImporter() {
+        importer = new GremlinBulkImporter(factory, graphAdapter, schemaFactory, transactionManager);
+        importer.setThreads(2);
+        importer.setBatchSize(2);
+    }
+
+    @After
+    public void closeImporter() {
+        importer.getIdMap().close();
+    }
+
+    @Test
+    public void importAddressesAndPeople() throws IOException {
+        Path addresses = write("addresses.csv",
+                "key,city,street",
+                "a1,Perth,\"Hay St, West\"",
+                "a2,Fremantle,High St",
+                "a3,Albany,");
+        Path people = write("people.jsonl",
+                "{\"key\":\"p1\",\"firstName\":\"Anna\",\"lastName\":\"Bulk\",\"active\":true,\"address\":\"a1\"}",
+                "",
+                "{\"key\":\"p2\",\"firstName\":\"Ben\",\"lastName\":\"Bulk\",\"active\":false,\"address\":\"a2\"}",
+                "{\"key\":\"p3\",\"firstName\":\"Cleo\",\"lastName\":\"Bulk\",\"address\":\"unknown\"}");
+
+        long addressCount = addressRepository.count();
+
+        ImportResult addressResult = importer.importEntities(Address.class, RowSource.csv(addresses), "key");
+        assertEquals(3, addressResult.getRowCount());
+        assertEquals(3, addressResult.getVertexCount());
+        assertEquals(0, addressResult.getFailureCount());
+
+        ImportResult personResult = importer.importEntities(Person.class, RowSource.jsonLines(people), "key");
+        assertEquals(3, personResult.getRowCount());
+        assertEquals(3, personResult.getVertexCount());
+        assertEquals(2, personResult.getEdgeCount());
+        assertEquals(1, personResult.getFailureCount());
+        assertEquals(2, personResult.getFailures().get(0).getRow());
+
+        assertEquals(8, repository.count());
+        assertEquals(addressCount + 3, addressRepository.count());
+
+        Person anna = repository.findByFirstName("Anna").get(0);
+        assertEquals("Bulk", anna.getLastName());
+        assertEquals(Boolean.TRUE, anna.getActive());
+        assertNotNull(anna.getAddress());
+        assertEquals("Perth", anna.getAddress().getCity());
+        assertEquals("Hay St, West", anna.getAddress().getStreet());
+
+        assertEquals("Fremantle", repository.findByFirstName("Ben").get(0).getAddress().getCity());
+        assertEquals(null, repository.findByFirstName("Cleo").get(0).getAddress());
+    }
+
+    @Test
+    public void importLinksNoneOfAFailedRow() throws IOException {
+        Path people = write("people.csv",
+                "key,firstName,lastName",
+                "p1,Dana,Bulk",
+                "p2,Eli,Bulk");
+        Path addresses = write("addresses.csv",
+                "key,city,people",
+                "a1,Perth,p1",
+                "a2,Albany,p2;unknown");
+
+        importer.importEntities(Person.class, RowSource.csv(people), "key");
+        ImportResult addressResult = importer.importEntities(Address.class, RowSource.csv(addresses), "key");
+        assertEquals(2, addressResult.getVertexCount());
+        assertEquals(1, addressResult.getEdgeCount());
+        assertEquals(1, addressResult.getFailureCount());
+        assertEquals(1, addressResult.getFailures().get(0).getRow());
+
+        assertEquals("Perth", repository.findByFirstName("Dana").get(0).getAddress().getCity());
+        assertEquals(null, repository.findByFirstName("Eli").get(0).getAddress());
+    }
+
+    @Test
+    public void importRowsOfDifferentClassesWithTheSameKey() throws IOException {
+        Path addresses = write("addresses.csv",
+                "key,city",
+                "k1,Perth");
+        Path people = write("people.csv",
+                "key,firstName,lastName,address",
+                "k1,Finn,Bulk,k1");
+
+        importer.importEntities(Address.class, RowSource.csv(addresses), "key");
+        ImportResult personResult = importer.importEntities(Person.class, RowSource.csv(people), "key");
+        assertEquals(1, personResult.getEdgeCount());
+        assertEquals(0, personResult.getFailureCount());
+
+        assertEquals("Perth", repository.findByFirstName("Finn").get(0).getAddress().getCity());
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -2,13 +2,25 @@ package org.springframework.data.gremlin.object.core.repository;
 
 import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gremlin.object.core.domain.*;
+import org.springframework.data.gremlin.query.KeysetPageRequest;
+import org.springframework.data.gremlin.schema.LazyInitializationHandler;
+import org.springframework.data.gremlin.repository.BulkOptions;
+import org.springframework.data.gremlin.repository.BulkResult;
+import org.springframework.data.gremlin.repository.GremlinFetchPlan;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 import static org.springframework.util.Assert.isNull;
@@ -16,6 +28,9 @@ import static org.springframework.util.Assert.isNull;
 @SuppressWarnings("SpringJavaAutowiringInspection")
 public abstract class AbstractPersonRepositoryTest extends BaseRepositoryTest {
 
+    @Autowired
+    protected GremlinGraphAdapter graphAdapter;
+
     @Test
     public void savePerson() {
         Person person = new Person("Sasa", "Brown");
@@ -34,6 +49,273 @@ public abstract class AbstractPersonRepositoryTest extends BaseRepositoryTest {
         assertEquals(5, repository.count());
     }
 
+    @Test
+    public void countAfterSaveAndDelete() {
+        assertEquals(5, repository.count());
+
+        repository.save(new Person("Sasa", "Brown"));
+        assertEquals(6, repository.count());
+
+        repository.delete(graham);
+        assertEquals(5, repository.count());
+    }
+
+    @Test
+    public void saveAllInBatches() {
+        Person ghost = repository.save(new Person("Ghost", "Brown"));
+        repository.delete(ghost);
+
+        Address address = new Address(new Country("Australia"), "Perth", "Hay St", new Area("6000"));
+        List<Person> persons = Arrays.asList(new Person("Sasa", "Brown", address, true), new Person("Mila", "Brown", address, true), ghost,
+                new Person("Ana", "Brown", address, false));
+
+        BulkResult<Person> result = repository.saveAll(persons, BulkOptions.defaults().withBatchSize(2).withDeferredEdges(true));
+
+        assertEquals(3, result.getSavedCount());
+        assertEquals(2, result.getBatchCount());
+        assertEquals(1, result.getFailures().size());
+        assertSame(ghost, result.getFailures().get(0).getEntity());
+        assertEquals(8, repository.count());
+
+        List<Person> browns = repository.findByLastName("Brown");
+        assertEquals(3, browns.size());
+        for (Person person : browns) {
+            assertEquals("Perth", person.getAddress().getCity());
+        }
+    }
+
+    @Test
+    public void saveAllInBatchesRemovesEntitiesWhoseEdgesFail() {
+        // Fails once its vertex has been written, when its edges are written
+        Person broken = new Person("Sasa", "Brown", new Address(new Country("Australia"), "Perth", "Hay St", new Area("6000")), true) {
+            @Override
+            public int hashCode() {
+                if (getId() != null) {
+                    throw new IllegalStateException("Could not write the edges");
+                }
+                return super.hashCode();
+            }
+        };
+        Person mila = new Person("Mila", "Brown", new Address(new Country("Australia"), "Perth", "Murray St", new Area("6000")), true);
+        List<Person> persons = Arrays.asList(broken, mila);
+
+        BulkResult<Person> result = repository.saveAll(persons, BulkOptions.defaults().withBatchSize(2).withDeferredEdges(true));
+
+        assertEquals(1, result.getSavedCount());
+        assertEquals(1, result.getFailures().size());
+        assertSame(broken, result.getFailures().get(0).getEntity());
+        assertNull(broken.getId());
+        assertEquals(6, repository.count());
+
+        List<Person> browns = repository.findByLastName("Brown");
+        assertEquals(1, browns.size());
+        assertEquals("Mila", browns.get(0).getFirstName());
+    }
+
+    @Test
+    public void upsertByUniqueIndex() {
+        Person created = new Person("Sasa", "Brown");
+        created.setEmail("sasa@example.com");
+        String id = repository.upsert(created).getId();
+        assertNotNull(id);
+        assertEquals(6, repository.count());
+
+        Person updated = new Person("Sasa", "Green");
+        updated.setEmail("sasa@example.com");
+        assertEquals(id, repository.upsert(updated).getId());
+        assertEquals(6, repository.count());
+        assertEquals("Green", repository.findById(id).get().getLastName());
+    }
+
+    @Test
+    public void upsertAllInBatches() {
+        Person existing = new Person("Sasa", "Brown");
+        existing.setEmail("sasa@example.com");
+        repository.upsert(existing);
+
+        List<Person> persons = new ArrayList<>();
+        for (String name : Arrays.asList("Sasa", "Mila", "Ana")) {
+            Person person = new Person(name, "Green");
+            person.setEmail(name.toLowerCase() + "@example.com");
+            persons.add(person);
+        }
+
+        BulkResult<Person> result = repository.saveAll(persons, BulkOptions.defaults().withBatchSize(2).withUpsert(true));
+
+        assertEquals(3, result.getSavedCount());
+        assertEquals(0, result.getFailures().size());
+        assertEquals(existing.getId(), persons.get(0).getId());
+        assertEquals(8, repository.count());
+        assertEquals(3, repository.findByLastName("Green").size());
+    }
+
+    @Test
+    public void fetchPlanOfQueryMethod() {
+        List<Person> persons = repository.fetchByLastName("Webber");
+        assertEquals(2, persons.size());
+
+        for (Person person : persons) {
+            assertTrue(LazyInitializationHandler.isInitialized(person));
+            assertTrue(LazyInitializationHandler.isInitialized(person.getAddress()));
+            assertTrue(LazyInitializationHandler.isInitialized(person.getAddress().getArea()));
+            assertEquals("2291", person.getAddress().getArea().getName());
+        }
+        Person person = persons.stream().filter(p -> p.getFirstName().equals("Graham")).findFirst().get();
+        assertFalse(person.getLocations().isEmpty());
+        for (Located located : person.getLocations()) {
+            assertTrue(LazyInitializationHandler.isInitialized(located));
+            assertTrue(LazyInitializationHandler.isInitialized(located.getLocation()));
+        }
+    }
+
+    @Test
+    public void fetchPlanOfLoadedEntities() {
+        List<Person> persons = repository.findByLastName("Ivanovic");
+        assertFalse(LazyInitializationHandler.isInitialized(persons.get(0)));
+
+        assertSame(persons, GremlinFetchPlan.of("address.area").fetch(persons));
+
+        for (Person person : persons) {
+            assertTrue(LazyInitializationHandler.isInitialized(person.getAddress()));
+            assertTrue(LazyInitializationHandler.isInitialized(person.getAddress().getArea()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fetchPlanOfAPlainProperty() {
+        GremlinFetchPlan.of("address.city").fetch(repository.findByLastName("Ivanovic"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fetchPlanOfAnUnknownField() {
+        GremlinFetchPlan.of("addresses").fetch(repository.findByLastName("Ivanovic"));
+    }
+
+    @Test
+    public void lazyLoadingOfEachRelation() {
+        Person person = repository.findById(graham.getId()).get();
+        assertFalse(LazyInitializationHandler.isLoaded(person));
+
+        assertEquals("Graham", person.getFirstName());
+        assertTrue(LazyInitializationHandler.isLoaded(person));
+        assertFalse(LazyInitializationHandler.isInitialized(person));
+
+        assertEquals("Newcastle", person.getAddress().getCity());
+        assertFalse(LazyInitializationHandler.isInitialized(person));
+
+        person.toString();
+        assertTrue(LazyInitializationHandler.isInitialized(person));
+        assertFalse(person.getLocations().isEmpty());
+    }
+
+    @Test
+    public void saveAPartlyLoadedPerson() {
+        Person person = repository.findById(graham.getId()).get();
+        assertNotNull(person.getAddress());
+        assertFalse(LazyInitializationHandler.isInitialized(person));
+
+        repository.save(person);
+        assertFalse(LazyInitializationHandler.isInitialized(person));
+
+        Person result = repository.findById(graham.getId()).get();
+        assertEquals("Graham", result.getFirstName());
+        assertEquals("Newcastle", result.getAddress().getCity());
+        assertEquals("2291", result.getAddress().getArea().getName());
+        assertFalse(result.getLocations().isEmpty());
+    }
+
+    @Test
+    public void saveAPersonWithOnlyItsPlainPropertiesLoaded() {
+        Person person = repository.findById(graham.getId()).get();
+        assertEquals("Graham", person.getFirstName());
+
+        repository.save(person);
+        assertFalse(LazyInitializationHandler.isInitialized(person));
+
+        Person result = repository.findById(graham.getId()).get();
+        assertEquals("Graham", result.getFirstName());
+        assertEquals("Newcastle", result.getAddress().getCity());
+        assertFalse(result.getLocations().isEmpty());
+    }
+
+    @Test
+    public void updatePropertiesById() {
+        long updated = repository.update(graham.getId())
+                                 .set("lastName", "Updated")
+                                 .set("awesome", Person.AWESOME.NO)
+                                 .set("active", null)
+                                 .execute();
+        assertEquals(1, updated);
+
+        Person person = repository.findById(graham.getId()).get();
+        assertEquals("Updated", person.getLastName());
+        assertEquals(Person.AWESOME.NO, person.getAwesome());
+        assertNull(person.getActive());
+        assertEquals("Graham", person.getFirstName());
+        assertEquals("Newcastle", person.getAddress().getCity());
+    }
+
+    @Test
+    public void updateOnlyElementsOfTheRepository() {
+        String addressId = graham.getAddress().getId();
+
+        assertEquals(0, repository.update(addressId).set("lastName", "Updated").execute());
+        assertEquals("Newcastle", addressRepository.findById(addressId).get().getCity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void updateRejectsValuesOfTheWrongType() {
+        repository.update(graham.getId()).set("awesome", "NO");
+    }
+
+    @Test
+    public void updateAllWhere() {
+        long updated = repository.updateAll().where("lastName", P.eq("Ivanovic")).set("active", false).execute();
+        assertEquals(3, updated);
+        assertEquals(Collections.singletonList("Graham"), firstNames(repository.findByActiveIsTrue()));
+
+        assertEquals(5, repository.updateAll().where("awesome", P.eq(Person.AWESOME.YES)).set("awesome", Person.AWESOME.NO).execute());
+        assertEquals(Person.AWESOME.NO, repository.findById(lara.getId()).get().getAwesome());
+    }
+
+    @Test
+    public void updateWithModifyingQuery() {
+        assertEquals(3, repository.updateAwesomeByLastName("Ivanovic", Person.AWESOME.NO));
+
+        assertEquals(Person.AWESOME.NO, repository.findById(lara.getId()).get().getAwesome());
+        assertEquals(Person.AWESOME.YES, repository.findById(graham.getId()).get().getAwesome());
+    }
+
+    @Test
+    public void modifyingQueryClearsTheCountsOfAnyLabel() {
+        long addresses = addressRepository.count();
+
+        repository.deleteAddressesByCity("Newcastle");
+
+        assertEquals(addresses - 1, addressRepository.count());
+    }
+
+    @Test
+    public void findAllByIdInOrder() {
+        List<Person> persons = Lists.newArrayList(repository.findAllById(Arrays.asList(vanja.getId(), graham.getId(), lara.getId(), graham.getId())));
+
+        assertEquals(Arrays.asList("Vanja", "Graham", "Lara"), firstNames(persons));
+    }
+
+    @Test
+    public void findAllByIdInBatches() {
+        int findBatchSize = graphAdapter.getFindBatchSize();
+        graphAdapter.setFindBatchSize(2);
+        List<Person> persons;
+        try {
+            persons = Lists.newArrayList(repository.findAllById(Arrays.asList(sandra.getId(), jake.getId(), lara.getId(), vanja.getId(), graham.getId())));
+        } finally {
+            graphAdapter.setFindBatchSize(findBatchSize);
+        }
+
+        assertEquals(Arrays.asList("Sandra", "Jake", "Lara", "Vanja", "Graham"), firstNames(persons));
+    }
+
     @Test
     public void findAllPersons() {
         List<Person> persons = Lists.newArrayList(repository.findAll());
@@ -69,6 +351,27 @@ public abstract class AbstractPersonRepositoryTest extends BaseRepositoryTest {
         assertEquals(1, result.getNumberOfElements());
     }
 
+    @Test
+    public void findAllPersonsPageableSorted() {
+        Page<Person> result = repository.findAll(PageRequest.of(1, 2, Sort.by("firstName")));
+
+        assertEquals(5, result.getTotalElements());
+        assertEquals(Arrays.asList("Lara", "Sandra"), firstNames(result.getContent()));
+    }
+
+    @Test
+    public void existsById() {
+        assertTrue(repository.existsById(graham.getId()));
+    }
+
+    @Test
+    public void deleteAllPersons() {
+        repository.deleteAll();
+
+        assertEquals(0, repository.count());
+        assertFalse(repository.findAll().iterator().hasNext());
+    }
+
     @Test
     public void countByFirstName() {
         assertEquals(repository.countByFirstName("Vanja"), Long.valueOf(1));
@@ -228,6 +531,172 @@ public abstract class AbstractPersonRepositoryTest extends BaseRepositoryTest {
         }
     }
 
+    @Test
+    public void findByLastNamePageableSorted() {
+        Page<Person> result = repository.findByLastName("Ivanovic", PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(Arrays.asList("Lara", "Sandra"), firstNames(result.getContent()));
+
+        result = repository.findByLastName("Ivanovic", PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "firstName")));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(Collections.singletonList("Lara"), firstNames(result.getContent()));
+    }
+
+    @Test
+    public void findByLastNameOrderByFirstName() {
+        assertEquals(Arrays.asList("Lara", "Sandra", "Vanja"), firstNames(repository.findByLastNameOrderByFirstNameAsc("Ivanovic")));
+    }
+
+    @Test
+    public void findTop2ByLastNameOrderByFirstNameDesc() {
+        assertEquals(Arrays.asList("Vanja", "Sandra"), firstNames(repository.findTop2ByLastNameOrderByFirstNameDesc("Ivanovic")));
+    }
+
+    @Test
+    public void findAllSorted() {
+        List<String> firstNames = firstNames(repository.findAll(Sort.by(Sort.Direction.DESC, "firstName")));
+
+        assertEquals(5, firstNames.size());
+        List<String> expected = new ArrayList<>(firstNames);
+        expected.sort(Comparator.reverseOrder());
+        assertEquals(expected, firstNames);
+    }
+
+    @Test
+    public void streamByLastName() {
+        try (Stream<Person> persons = repository.streamByLastName("Ivanovic")) {
+            assertEquals(Arrays.asList("Lara", "Sandra", "Vanja"), persons.map(Person::getFirstName).sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void iterateLastName() {
+        Iterator<Person> persons = repository.iterateLastName("Webber");
+        List<String> firstNames = new ArrayList<>();
+        persons.forEachRemaining(person -> firstNames.add(person.getFirstName()));
+        Collections.sort(firstNames);
+        assertEquals(Arrays.asList("Graham", "Jake"), firstNames);
+    }
+
+    @Test
+    public void readByLastNameSlice() {
+        Slice<Person> slice = repository.readByLastName("Ivanovic", PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertTrue(slice.hasNext());
+        assertEquals(Arrays.asList("Lara", "Sandra"), firstNames(slice.getContent()));
+
+        slice = repository.readByLastName("Ivanovic", slice.nextPageable());
+
+        assertFalse(slice.hasNext());
+        assertEquals(Collections.singletonList("Vanja"), firstNames(slice.getContent()));
+    }
+
+    @Test
+    public void readByLastNameKeyset() {
+        Slice<Person> slice = repository.readByLastName("Ivanovic", KeysetPageRequest.first(2, Sort.by(Sort.Direction.DESC, "firstName")));
+
+        assertTrue(slice.hasNext());
+        assertEquals(Arrays.asList("Vanja", "Sandra"), firstNames(slice.getContent()));
+
+        slice = repository.readByLastName("Ivanovic", slice.nextPageable());
+
+        assertFalse(slice.hasNext());
+        assertEquals(Collections.singletonList("Lara"), firstNames(slice.getContent()));
+    }
+
+    @Test
+    public void findByLastNameKeysetPage() {
+        Page<Person> page = repository.findByLastName("Ivanovic", KeysetPageRequest.first(2, Sort.by("firstName")));
+
+        assertTrue(page.hasNext());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(Arrays.asList("Lara", "Sandra"), firstNames(page.getContent()));
+
+        page = repository.findByLastName("Ivanovic", page.nextPageable());
+
+        assertFalse(page.hasNext());
+        assertEquals(Collections.singletonList("Vanja"), firstNames(page.getContent()));
+    }
+
+    @Test
+    public void sliceLastNameKeyset() {
+        Slice<Person> slice = repository.sliceLastName("Ivanovic", KeysetPageRequest.after("Lara", 1, Sort.by("firstName")));
+
+        assertTrue(slice.hasNext());
+        assertEquals(Collections.singletonList("Sandra"), firstNames(slice.getContent()));
+
+        slice = repository.sliceLastName("Ivanovic", slice.nextPageable());
+
+        assertFalse(slice.hasNext());
+        assertEquals(Collections.singletonList("Vanja"), firstNames(slice.getContent()));
+    }
+
+    @Test
+    public void findNamesByLastNameProjection() {
+        List<PersonNames> names = repository.findNamesByLastNameOrderByFirstNameAsc("Webber");
+
+        assertEquals(2, names.size());
+        assertEquals("Graham", names.get(0).getFirstName());
+        assertEquals("Webber", names.get(0).getLastName());
+        assertEquals(graham.getId(), names.get(0).getId());
+        assertEquals("Jake", names.get(1).getFirstName());
+        assertEquals(jake.getId(), names.get(1).getId());
+    }
+
+    @Test
+    public void findNamesByFirstNameProjection() {
+        PersonNames names = repository.findNamesByFirstName("Lara");
+
+        assertEquals(lara.getId(), names.getId());
+        assertEquals("Ivanovic", names.getLastName());
+        assertNull(repository.findNamesByFirstName("Nobody"));
+    }
+
+    @Test
+    public void readNamesByLastNameKeysetProjection() {
+        Slice<PersonNames> slice = repository.readNamesByLastName("Ivanovic", KeysetPageRequest.first(2, Sort.by("firstName")));
+
+        assertTrue(slice.hasNext());
+        assertEquals(Arrays.asList("Lara", "Sandra"), slice.getContent().stream().map(PersonNames::getFirstName).collect(Collectors.toList()));
+
+        slice = repository.readNamesByLastName("Ivanovic", slice.nextPageable());
+
+        assertFalse(slice.hasNext());
+        assertEquals(Collections.singletonList("Vanja"), slice.getContent().stream().map(PersonNames::getFirstName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void findNameByLastNameDto() {
+        List<String> names = repository.findNameByLastName("Ivanovic").stream().map(PersonName::toString).sorted().collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("Lara Ivanovic", "Sandra Ivanovic", "Vanja Ivanovic"), names);
+    }
+
+    @Test
+    public void queryNameByLastNameDto() {
+        List<String> names = repository.queryNameByLastName("Webber").stream().map(PersonName::getFirstName).sorted().collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("Graham", "Jake"), names);
+    }
+
+    @Test
+    public void findFullNameByLastNameOpenProjection() {
+        List<String> names = repository.findFullNameByLastName("Webber").stream().map(PersonFullName::getFullName).sorted().collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("Graham Webber", "Jake Webber"), names);
+    }
+
+    private static List<String> firstNames(Iterable<Person> persons) {
+        List<String> firstNames = new ArrayList<>();
+        for (Person person : persons) {
+            firstNames.add(person.getFirstName());
+        }
+        return firstNames;
+    }
+
     @Test
     public void findByLastNameLike() {
         List<Person> persons = repository.findByLastNameLike("We");
@@ -331,6 +800,33 @@ public abstract class AbstractPersonRepositoryTest extends BaseRepositoryTest {
         assertEquals("9999", person.getAddress().getArea().getName());
     }
 
+    @Test
+    public void saveOnlyChangedProperties() {
+        Person person = repository.findById(graham.getId()).get();
+        Address address = person.getAddress();
+        assertEquals("Newcastle", address.getCity());
+
+        // Change the graph behind the back of the loaded entities
+        graphAdapter.getVertex(graham.getId()).property("lastName", "Changed");
+        graphAdapter.getVertex(address.getId()).property("street", "Changed St");
+        factory.commitTx(factory.graph());
+
+        person.setFirstName("Gray");
+        repository.save(person);
+
+        Person result = repository.findById(graham.getId()).get();
+        assertEquals("Gray", result.getFirstName());
+        assertEquals("Changed", result.getLastName());
+        assertEquals("Changed St", result.getAddress().getStreet());
+
+        address.setCity("Woo");
+        repository.save(person);
+
+        result = repository.findById(graham.getId()).get();
+        assertEquals("Woo", result.getAddress().getCity());
+        assertEquals("Changed St", result.getAddress().getStreet());
+    }
+
     @Ignore
     @Test
     public void noCascadeInLink() {
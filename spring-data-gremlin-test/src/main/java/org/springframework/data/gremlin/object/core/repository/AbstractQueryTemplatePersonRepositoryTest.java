@@ -0,0 +1,26 @@
+package org.springframework.data.gremlin.object.core.repository;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.springframework.data.gremlin.query.StringBasedGremlinQuery;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the {@link AbstractPersonRepositoryTest}s with {@code -Dsdg-query-templates=true}, so the {@code @Query} methods run as
+ * traversal templates instead of through the script engine. The queries read the property when the repositories are
+ * created, so the tests get a context of their own through the {@link TestPropertySource}.
+ */
+@TestPropertySource(properties = StringBasedGremlinQuery.QUERY_TEMPLATES_KEY + "=true")
+@SuppressWarnings("SpringJavaAutowiringInspection")
+public abstract class AbstractQueryTemplatePersonRepositoryTest extends AbstractPersonRepositoryTest {
+
+    @BeforeClass
+    public static void enableQueryTemplates() {
+        System.setProperty(StringBasedGremlinQuery.QUERY_TEMPLATES_KEY, "true");
+    }
+
+    @AfterClass
+    public static void disableQueryTemplates() {
+        System.clearProperty(StringBasedGremlinQuery.QUERY_TEMPLATES_KEY);
+    }
+}
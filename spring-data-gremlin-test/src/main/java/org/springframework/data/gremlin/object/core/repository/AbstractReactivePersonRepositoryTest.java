@@ -0,0 +1,104 @@
+package org.springframework.data.gremlin.object.core.repository;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public abstract class AbstractReactivePersonRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    protected ReactivePersonRepository reactiveRepository;
+
+    @Autowired
+    protected ReactiveGremlinTransactions transactions;
+
+    @Test
+    public void findByLastName() {
+        List<String> firstNames = reactiveRepository.findByLastNameOrderByFirstNameAsc("Ivanovic").map(Person::getFirstName).collectList().block();
+
+        assertEquals(Arrays.asList("Lara", "Sandra", "Vanja"), firstNames);
+    }
+
+    @Test
+    public void findByFirstName() {
+        StepVerifier.create(reactiveRepository.findByFirstName("Graham"))
+                .expectNextMatches(person -> "Webber".equals(person.getLastName()))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveRepository.findByFirstName("Nobody")).verifyComplete();
+    }
+
+    @Test
+    public void countByLastName() {
+        StepVerifier.create(reactiveRepository.countByLastName("Ivanovic")).expectNext(3L).verifyComplete();
+    }
+
+    @Test
+    public void queryLastName() {
+        List<String> firstNames = reactiveRepository.queryLastName("Webber").map(Person::getFirstName).sort().collectList().block();
+
+        assertEquals(Arrays.asList("Graham", "Jake"), firstNames);
+    }
+
+    @Test
+    public void findAllOnDemand() {
+        StepVerifier.create(reactiveRepository.findAll(Sort.by("firstName")).map(Person::getFirstName), 2)
+                .expectNext("Graham", "Jake")
+                .thenRequest(1)
+                .expectNext("Lara")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void findById() {
+        StepVerifier.create(reactiveRepository.findById(lara.getId()))
+                .expectNextMatches(person -> "Lara".equals(person.getFirstName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void saveInTransaction() {
+        Person rick = new Person("Rick", "Ivanovic");
+        Person rose = new Person("Rose", "Ivanovic");
+
+        List<Person> saved = transactions.transactional(Flux.concat(reactiveRepository.save(rick), reactiveRepository.save(rose))).collectList().block();
+
+        assertEquals(2, saved.size());
+        assertNotNull(rick.getId());
+        StepVerifier.create(reactiveRepository.countByLastName("Ivanovic")).expectNext(5L).verifyComplete();
+    }
+
+    @Test
+    public void moreSubscribersThanThePool() {
+        int subscribers = factory.getMaxPoolSize() * 2 + 1;
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Long> counts = Flux.range(0, subscribers)
+                .flatMap(i -> reactiveRepository.findAll(Sort.by("firstName"))
+                        .doOnNext(person -> threads.add(Thread.currentThread().getName()))
+                        .count(), subscribers)
+                .collectList()
+                .block(Duration.ofMinutes(1));
+
+        assertEquals(subscribers, counts.size());
+        for (Long count : counts) {
+            assertEquals(5L, (long) count);
+        }
+        assertTrue(threads.size() <= factory.getMaxPoolSize());
+    }
+}
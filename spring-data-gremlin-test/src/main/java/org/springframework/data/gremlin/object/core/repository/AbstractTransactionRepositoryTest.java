@@ -2,14 +2,27 @@ package org.springframework.data.gremlin.object.core.repository;
 
 import com.google.common.collect.Lists;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.gremlin.object.core.domain.Address;
 import org.springframework.data.gremlin.object.core.domain.Area;
 import org.springframework.data.gremlin.object.core.domain.Country;
 import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.repository.BulkOptions;
+import org.springframework.data.gremlin.tx.GremlinTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 /**
@@ -17,6 +30,9 @@ import static org.junit.Assert.fail;
  */
 public abstract class AbstractTransactionRepositoryTest extends BaseRepositoryTest {
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     @Test
     public void should_rollback() {
 
@@ -41,4 +57,142 @@ public abstract class AbstractTransactionRepositoryTest extends BaseRepositoryTe
         assertEquals(beforeRollback + 1, peopele.size());
     }
 
+    @Test
+    public void should_load_each_element_once_per_transaction() {
+        Person loaded = new TransactionTemplate(transactionManager).execute(status -> {
+            Person person = repository.findById(graham.getId()).get();
+            assertSame(person, repository.findByFirstName("Graham").get(0));
+            assertSame(person.getAddress(), repository.findById(lara.getId()).get().getAddress());
+            return person;
+        });
+
+        assertNotSame(loaded, repository.findById(graham.getId()).get());
+    }
+
+    @Test
+    public void should_not_keep_streamed_entities_in_the_identity_map() {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            people.add(new Person("Streamed" + i, "Stream"));
+        }
+        repository.saveAll(people);
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            int size = factory.identityMap().size();
+            try (Stream<Person> persons = repository.streamByLastName("Stream")) {
+                assertEquals(200, persons.filter(person -> person.getFirstName().startsWith("Streamed")).count());
+            }
+            assertEquals(size, factory.identityMap().size());
+            return null;
+        });
+    }
+
+    @Test
+    public void should_reload_elements_modified_by_a_query() {
+        new TransactionTemplate(transactionManager).execute(status -> {
+            Person person = repository.findById(lara.getId()).get();
+            assertEquals(Person.AWESOME.YES, person.getAwesome());
+
+            repository.updateAwesomeByLastName("Ivanovic", Person.AWESOME.NO);
+
+            Person reloaded = repository.findById(lara.getId()).get();
+            assertNotSame(person, reloaded);
+            assertEquals(Person.AWESOME.NO, reloaded.getAwesome());
+            assertSame(reloaded, repository.findById(lara.getId()).get());
+            return null;
+        });
+    }
+
+    @Test
+    public void should_delete_all_within_the_callers_transaction() {
+        long count = repository.count();
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            repository.deleteAll();
+            assertEquals(0, repository.count());
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals(count, repository.count());
+    }
+
+    @Test
+    public void should_save_all_in_bulk_within_the_callers_transaction() {
+        long count = repository.count();
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            repository.saveAll(Arrays.asList(new Person("Sasa", "Brown"), new Person("Mila", "Brown"), new Person("Ana", "Brown")),
+                    BulkOptions.defaults().withBatchSize(2));
+            assertEquals(count + 3, repository.count());
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals(count, repository.count());
+    }
+
+    @Test
+    public void should_write_behind_until_commit() {
+        GremlinTransactionManager gremlinTransactionManager = (GremlinTransactionManager) transactionManager;
+        gremlinTransactionManager.setWriteBehind(true);
+        try {
+            long count = repository.count();
+            Person saved = new TransactionTemplate(transactionManager).execute(status -> {
+                Person person = new Person("Sasa", "Brown", new Address(new Country("Australia"), "Perth", "Hay St", new Area("6000")), true);
+                repository.save(person);
+                person.setLastName("Green");
+                repository.save(person);
+                assertNull(person.getId());
+
+                // The query flushes the pending saves
+                assertEquals(1, repository.findByLastName("Green").size());
+                assertNotNull(person.getId());
+
+                person.setActive(false);
+                repository.save(person);
+                return person;
+            });
+
+            Person result = repository.findById(saved.getId()).get();
+            assertEquals("Green", result.getLastName());
+            assertEquals(Boolean.FALSE, result.getActive());
+            assertEquals("Perth", result.getAddress().getCity());
+            assertEquals(count + 1, repository.count());
+
+            new TransactionTemplate(transactionManager).execute(status -> {
+                repository.save(new Person("Ghost", "Brown"));
+                status.setRollbackOnly();
+                return null;
+            });
+            assertEquals(0, repository.findByFirstName("Ghost").size());
+        } finally {
+            gremlinTransactionManager.setWriteBehind(false);
+        }
+    }
+
+    @Test
+    public void should_write_behind_separately_in_a_new_transaction() {
+        GremlinTransactionManager gremlinTransactionManager = (GremlinTransactionManager) transactionManager;
+        gremlinTransactionManager.setWriteBehind(true);
+        try {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            new TransactionTemplate(transactionManager).execute(status -> {
+                repository.save(new Person("Sasa", "Brown"));
+                requiresNew.execute(inner -> {
+                    repository.save(new Person("Ghost", "Brown"));
+                    inner.setRollbackOnly();
+                    return null;
+                });
+                return null;
+            });
+
+            assertEquals(1, repository.findByFirstName("Sasa").size());
+            assertEquals(0, repository.findByFirstName("Ghost").size());
+        } finally {
+            gremlinTransactionManager.setWriteBehind(false);
+        }
+    }
 }
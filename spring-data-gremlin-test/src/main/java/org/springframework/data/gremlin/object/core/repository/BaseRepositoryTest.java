@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.gremlin.object.core.TestService;
 import org.springframework.data.gremlin.object.core.domain.*;
+import org.springframework.data.gremlin.repository.GremlinCountCache;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.Rollback;
@@ -62,6 +63,9 @@ public abstract class BaseRepositoryTest {
     @Autowired
     protected LikesRepository likesRepository;
 
+    @Autowired(required = false)
+    protected GremlinCountCache countCache;
+
     protected Person graham;
     protected Person lara;
     protected Person jake;
@@ -88,6 +92,10 @@ public abstract class BaseRepositoryTest {
             }
         });
         factory.commitTx(graph);
+        // The graph has been cleared behind the back of the graph adapter
+        if (countCache != null) {
+            countCache.clear();
+        }
 
         Address address = new Address(new Country("Australia"), "Newcastle", "Scenic Dr", new Area("2291"));
         addressRepository.save(address);
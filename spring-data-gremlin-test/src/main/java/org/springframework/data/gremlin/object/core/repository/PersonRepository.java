@@ -2,13 +2,21 @@ package org.springframework.data.gremlin.object.core.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.gremlin.annotation.FetchPlan;
 import org.springframework.data.gremlin.annotation.Query;
 import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.object.core.domain.PersonFullName;
+import org.springframework.data.gremlin.object.core.domain.PersonName;
+import org.springframework.data.gremlin.object.core.domain.PersonNames;
 import org.springframework.data.gremlin.repository.GremlinRepository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface PersonRepository extends GremlinRepository<Person> {
 
@@ -67,8 +75,47 @@ public interface PersonRepository extends GremlinRepository<Person> {
 
     Page<Person> findByLastName(String lastName, Pageable pageable);
 
+    List<Person> findByLastNameOrderByFirstNameAsc(String lastName);
+
+    List<Person> findTop2ByLastNameOrderByFirstNameDesc(String lastName);
+
+    Stream<Person> streamByLastName(String lastName);
+
+    Slice<Person> readByLastName(String lastName, Pageable pageable);
+
+    @Query(value = "graph.V().has('lastName', ?)")
+    Slice<Person> sliceLastName(String lastName, Pageable pageable);
+
+    @Query(value = "graph.V().has('lastName', ?)")
+    Iterator<Person> iterateLastName(String lastName);
+
+    List<PersonNames> findNamesByLastNameOrderByFirstNameAsc(String lastName);
+
+    PersonNames findNamesByFirstName(String firstName);
+
+    Slice<PersonNames> readNamesByLastName(String lastName, Pageable pageable);
+
+    List<PersonName> findNameByLastName(String lastName);
+
+    @Query(value = "graph.V().has('lastName', ?)")
+    List<PersonName> queryNameByLastName(String lastName);
+
+    List<PersonFullName> findFullNameByLastName(String lastName);
+
 
     @Query(value = "graph.V().has('lastName', ?)")
     Page<Person> queryLastName(String lastName, Pageable pageable);
 
+    @FetchPlan({ "address.area", "locations.location" })
+    @Query(value = "graph.V().has('lastName', ?)")
+    List<Person> fetchByLastName(String lastName);
+
+    @Transactional
+    @Query(value = "graph.V().has('lastName', ?).property('awesome', ?)", modify = true)
+    long updateAwesomeByLastName(String lastName, Person.AWESOME awesome);
+
+    @Transactional
+    @Query(value = "graph.V().hasLabel('Address').has('city', ?).drop()", modify = true)
+    long deleteAddressesByCity(String city);
+
 }
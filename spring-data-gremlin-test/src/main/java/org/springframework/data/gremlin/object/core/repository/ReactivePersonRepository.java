@@ -0,0 +1,19 @@
+package org.springframework.data.gremlin.object.core.repository;
+
+import org.springframework.data.gremlin.annotation.Query;
+import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.repository.ReactiveGremlinRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePersonRepository extends ReactiveGremlinRepository<Person> {
+
+    Flux<Person> findByLastNameOrderByFirstNameAsc(String lastName);
+
+    Mono<Person> findByFirstName(String firstName);
+
+    Mono<Long> countByLastName(String lastName);
+
+    @Query(value = "graph.V().has('lastName', ?)")
+    Flux<Person> queryLastName(String lastName);
+}
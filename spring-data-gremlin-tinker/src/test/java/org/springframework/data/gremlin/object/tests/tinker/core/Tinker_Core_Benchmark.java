@@ -0,0 +1,101 @@
+package org.springframework.data.gremlin.object.tests.tinker.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.gremlin.bulk.GremlinBulkImporter;
+import org.springframework.data.gremlin.bulk.ImportResult;
+import org.springframework.data.gremlin.bulk.RowSource;
+import org.springframework.data.gremlin.object.core.domain.Address;
+import org.springframework.data.gremlin.object.core.domain.Person;
+import org.springframework.data.gremlin.object.core.repository.PersonRepository;
+import org.springframework.data.gremlin.repository.BulkOptions;
+import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
+import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
+import org.springframework.data.gremlin.tx.GremlinGraphFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the repositories over a Tinker graph. It is run by hand rather than with the tests:
+ * <ul>
+ * <li>{@code mapper} saves and loads {@code -Dsdg-mapper-benchmark-rows} persons with their addresses. Run it with and without
+ * {@code -Dsdg-interpreted-mappers=true} to compare the compiled mappers of the schemas with copying the properties one by one.</li>
+ * <li>{@code import} imports {@code -Dsdg-import-benchmark-rows} addresses from a CSV file with
+ * {@code -Dsdg-import-benchmark-threads} threads.</li>
+ * </ul>
+ * The benchmarks to run are given as arguments, all of them by default.
+ */
+public class Tinker_Core_Benchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Tinker_Core_Benchmark.class);
+
+    public static void main(String[] args) throws IOException {
+        List<String> benchmarks = args.length == 0 ? Arrays.asList("mapper", "import") : Arrays.asList(args);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Tinker_Core_TestConfiguration.class)) {
+            if (benchmarks.contains("mapper")) {
+                mapper(context);
+            }
+            if (benchmarks.contains("import")) {
+                importAddresses(context);
+            }
+        }
+    }
+
+    private static void mapper(AnnotationConfigApplicationContext context) {
+        PersonRepository repository = context.getBean(PersonRepository.class);
+        int rows = Integer.getInteger("sdg-mapper-benchmark-rows", 10000);
+        for (int round = 0; round < 3; round++) {
+            String lastName = "Bench" + round;
+            List<Person> persons = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                persons.add(new Person("First " + i, lastName, new Address(null, "City " + i % 100, "Street " + i, null), i % 2 == 0));
+            }
+
+            long start = System.nanoTime();
+            repository.saveAll(persons, BulkOptions.defaults());
+            long saved = System.nanoTime();
+            int loaded = 0;
+            for (Person person : repository.findByLastName(lastName)) {
+                if (person.getFirstName() != null && person.getAddress().getCity() != null) {
+                    loaded++;
+                }
+            }
+            long end = System.nanoTime();
+
+            LOGGER.info("Saved {} persons in {} ms, loaded {} of them in {} ms", rows, (saved - start) / 1000000, loaded,
+                        (end - saved) / 1000000);
+        }
+    }
+
+    private static void importAddresses(AnnotationConfigApplicationContext context) throws IOException {
+        int rows = Integer.getInteger("sdg-import-benchmark-rows", 100000);
+        List<String> lines = new ArrayList<>(rows + 1);
+        lines.add("key,city,street");
+        for (int i = 0; i < rows; i++) {
+            lines.add(String.format("a%d,City %d,Street %d", i, i % 100, i));
+        }
+        Path addresses = Files.createTempFile("sdg-import-benchmark", ".csv");
+        Files.write(addresses, lines, StandardCharsets.UTF_8);
+
+        GremlinBulkImporter importer = new GremlinBulkImporter(context.getBean(GremlinGraphFactory.class), context.getBean(GremlinGraphAdapter.class),
+                                                               context.getBean(GremlinSchemaFactory.class),
+                                                               context.getBean(PlatformTransactionManager.class));
+        importer.setThreads(Integer.getInteger("sdg-import-benchmark-threads", Runtime.getRuntime().availableProcessors()));
+        importer.setBatchSize(1000);
+        try {
+            ImportResult result = importer.importEntities(Address.class, RowSource.csv(addresses), "key");
+            LOGGER.info("Imported {} addresses with {} threads: {}", rows, importer.getThreads(), result);
+        } finally {
+            importer.getIdMap().close();
+            Files.delete(addresses);
+        }
+    }
+}
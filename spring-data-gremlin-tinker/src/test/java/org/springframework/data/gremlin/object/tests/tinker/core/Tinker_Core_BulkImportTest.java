@@ -0,0 +1,7 @@
+package org.springframework.data.gremlin.object.tests.tinker.core;
+
+import org.springframework.data.gremlin.object.core.repository.AbstractBulkImportTest;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration(classes = Tinker_Core_TestConfiguration.class)
+public class Tinker_Core_BulkImportTest extends AbstractBulkImportTest { }
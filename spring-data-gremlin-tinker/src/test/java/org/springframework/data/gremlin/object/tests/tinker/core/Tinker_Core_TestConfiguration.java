@@ -5,7 +5,9 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.gremlin.config.EnableGremlinRepositories;
+import org.springframework.data.gremlin.config.EnableReactiveGremlinRepositories;
 import org.springframework.data.gremlin.object.core.TestService;
+import org.springframework.data.gremlin.repository.GremlinCountCache;
 import org.springframework.data.gremlin.repository.GremlinGraphAdapter;
 import org.springframework.data.gremlin.repository.GremlinRepositoryContext;
 import org.springframework.data.gremlin.repository.GremlinRepositoryWithNativeSupport;
@@ -16,11 +18,13 @@ import org.springframework.data.gremlin.schema.GremlinSchemaFactory;
 import org.springframework.data.gremlin.support.GremlinRepositoryFactoryBean;
 import org.springframework.data.gremlin.tx.GremlinGraphFactory;
 import org.springframework.data.gremlin.tx.GremlinTransactionManager;
+import org.springframework.data.gremlin.tx.ReactiveGremlinTransactions;
 import org.springframework.data.gremlin.tx.tinker.TinkerGremlinGraphFactory;
 
 @Configuration
 @EnableGremlinRepositories(basePackages = "org.springframework.data.gremlin.object.core", excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = GremlinRepositoryWithNativeSupport.class) }, repositoryFactoryBeanClass = GremlinRepositoryFactoryBean.class)
+@EnableReactiveGremlinRepositories(basePackages = "org.springframework.data.gremlin.object.core")
 public class Tinker_Core_TestConfiguration {
 
     @Bean
@@ -39,6 +43,11 @@ public class Tinker_Core_TestConfiguration {
         return new GremlinTransactionManager(factory());
     }
 
+    @Bean
+    public ReactiveGremlinTransactions reactiveTransactions() {
+        return new ReactiveGremlinTransactions(factory(), transactionManager());
+    }
+
     @Bean
     public static GremlinBeanPostProcessor tinkerpopSchemaManager() {
         return new GremlinBeanPostProcessor("org.springframework.data.gremlin.object.core.domain");
@@ -49,6 +58,11 @@ public class Tinker_Core_TestConfiguration {
         return new TinkerGraphAdapter();
     }
 
+    @Bean
+    public GremlinCountCache countCache() {
+        return new GremlinCountCache();
+    }
+
     @Bean
     public GremlinRepositoryContext databaseContext(GremlinGraphFactory graphFactory, GremlinGraphAdapter graphAdapter, GremlinSchemaFactory schemaFactory) {
         return new GremlinRepositoryContext(graphFactory, graphAdapter, schemaFactory, null, TinkerGremlinRepository.class);